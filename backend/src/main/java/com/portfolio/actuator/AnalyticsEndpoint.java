@@ -0,0 +1,86 @@
+package com.portfolio.actuator;
+
+import com.portfolio.analytics.AnalyticsAggregator;
+import com.portfolio.analytics.AnalyticsEventType;
+import com.portfolio.analytics.HyperLogLog;
+import com.portfolio.config.ApplicationConfig;
+import com.portfolio.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for analytics ingestion
+ * GET /actuator/analytics reports ingestion and flush counters; with ?events=N it also
+ * replays N synthetic events through a private aggregator on the calling thread and reports
+ * the sustained single-core rate and the unique-visitor estimate error
+ *
+ * @author Debojit Chakraborty
+ */
+@Component
+@Endpoint(id = "analytics")
+@RequiredArgsConstructor
+public class AnalyticsEndpoint {
+
+    private static final int TARGETS = 50;
+    private static final int VISITORS = 20_000;
+
+    private final AnalyticsService analyticsService;
+
+    @ReadOperation
+    public Map<String, Object> analytics(@Nullable Integer events) {
+        Map<String, Object> result = new LinkedHashMap<>(analyticsService.stats());
+        if (events != null) {
+            result.put("benchmark", benchmark(Math.max(10_000, Math.min(events, 50_000_000))));
+        }
+        return result;
+    }
+
+    private Map<String, Object> benchmark(int events) {
+        ApplicationConfig.Analytics settings = analyticsService.getSettings();
+        AnalyticsAggregator aggregator = new AnalyticsAggregator(settings.getMaxPendingKeys(), settings.getMaxTargetsPerDay(),
+                settings.getSketchPrecision());
+
+        AnalyticsEventType[] types = AnalyticsEventType.values();
+        String[] targets = new String[TARGETS];
+        for (int i = 0; i < TARGETS; i++) {
+            targets[i] = String.valueOf(i + 1);
+        }
+        String[] visitors = new String[VISITORS];
+        for (int i = 0; i < VISITORS; i++) {
+            visitors[i] = "10.0." + (i >> 8) + "." + (i & 255) + "|Mozilla/5.0 benchmark";
+        }
+
+        LocalDate today = LocalDate.now();
+        // Warm up so the measurement sees compiled code and existing keys
+        for (int i = 0; i < Math.min(events, 200_000); i++) {
+            aggregator.record(today, types[i % types.length], targets[i % TARGETS], visitors[i % VISITORS]);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            aggregator.record(today, types[i % types.length], targets[(i * 31) % TARGETS], visitors[(i * 7) % VISITORS]);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        HyperLogLog sketch = aggregator.drainChangedSketches().get(today);
+        long estimate = sketch == null ? 0 : sketch.estimate();
+        int distinct = Math.min(events, VISITORS);
+
+        Map<String, Object> benchmark = new LinkedHashMap<>();
+        benchmark.put("events", events);
+        benchmark.put("threads", 1);
+        benchmark.put("elapsedMillis", elapsed / 1_000_000L);
+        benchmark.put("eventsPerSecond", Math.round(events / (elapsed / 1e9)));
+        benchmark.put("distinctVisitors", distinct);
+        benchmark.put("estimatedVisitors", estimate);
+        benchmark.put("estimateErrorPercent", Math.round(10_000.0 * (estimate - distinct) / distinct) / 100.0);
+        return benchmark;
+    }
+}
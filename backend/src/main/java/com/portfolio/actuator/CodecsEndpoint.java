@@ -0,0 +1,116 @@
+package com.portfolio.actuator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.portfolio.cache.ResponseBytesCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint comparing wire formats on the currently cached JSON responses
+ * GET /actuator/codecs re-encodes every cached response as indented JSON (what is served
+ * today), compact JSON, CBOR and Smile, and reports payload size and encode/decode time
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+@Endpoint(id = "codecs")
+@RequiredArgsConstructor
+public class CodecsEndpoint {
+
+    private final ResponseBytesCache responseBytesCache;
+    private final ObjectMapper objectMapper;
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
+    private final MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @ReadOperation
+    public Map<String, Object> benchmark(@Nullable Integer iterations) {
+        int rounds = iterations == null ? 20 : Math.max(1, Math.min(iterations, 200));
+
+        List<JsonNode> documents = new ArrayList<>();
+        for (ResponseBytesCache.CachedResponse cached : responseBytesCache.snapshot().values()) {
+            if (cached.contentEncoding() == null && cached.contentType() != null
+                    && cached.contentType().contains("json")) {
+                try {
+                    documents.add(objectMapper.readTree(cached.body()));
+                } catch (IOException e) {
+                    log.debug("Skipping unparseable cached response: {}", e.getMessage());
+                }
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("documents", documents.size());
+        result.put("iterations", rounds);
+
+        if (documents.isEmpty()) {
+            result.put("note", "No cached JSON responses yet - hit a few /portfolio endpoints first");
+            return result;
+        }
+
+        List<Map<String, Object>> formats = new ArrayList<>();
+        try {
+            formats.add(measure("json (indented)", objectMapper, objectMapper.writer(), documents, rounds));
+            formats.add(measure("json", objectMapper,
+                    objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT), documents, rounds));
+            formats.add(measure("cbor", cborConverter.getObjectMapper(),
+                    cborConverter.getObjectMapper().writer(), documents, rounds));
+            formats.add(measure("smile", smileConverter.getObjectMapper(),
+                    smileConverter.getObjectMapper().writer(), documents, rounds));
+        } catch (IOException e) {
+            log.warn("Codec benchmark failed: {}", e.getMessage());
+            result.put("error", e.getMessage());
+        }
+        result.put("formats", formats);
+        return result;
+    }
+
+    private static Map<String, Object> measure(String name, ObjectMapper reader, ObjectWriter writer,
+                                               List<JsonNode> documents, int rounds) throws IOException {
+        List<byte[]> encoded = new ArrayList<>(documents.size());
+        long bytes = 0;
+        for (JsonNode document : documents) {
+            byte[] payload = writer.writeValueAsBytes(document); // also warms up the codec
+            encoded.add(payload);
+            bytes += payload.length;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            for (JsonNode document : documents) {
+                writer.writeValueAsBytes(document);
+            }
+        }
+        long encodeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            for (byte[] payload : encoded) {
+                reader.readTree(payload);
+            }
+        }
+        long decodeNanos = System.nanoTime() - start;
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("format", name);
+        row.put("bytes", bytes);
+        row.put("encodeMicrosPerPass", encodeNanos / rounds / 1_000L);
+        row.put("decodeMicrosPerPass", decodeNanos / rounds / 1_000L);
+        return row;
+    }
+}
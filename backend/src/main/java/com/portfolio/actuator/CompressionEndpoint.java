@@ -0,0 +1,102 @@
+package com.portfolio.actuator;
+
+import com.portfolio.cache.ResponseBytesCache;
+import com.portfolio.cache.ResponseCompressor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Actuator endpoint comparing compression levels on the currently cached responses
+ * GET /actuator/compression reports bytes saved versus CPU time per gzip level / brotli quality,
+ * so portfolio.compression.gzip-level and brotli-quality can be chosen from real payloads
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+@Endpoint(id = "compression")
+@RequiredArgsConstructor
+public class CompressionEndpoint {
+
+    private static final int[] BROTLI_QUALITIES = {1, 4, 5, 6, 9, 11};
+
+    private final ResponseBytesCache responseBytesCache;
+    private final ResponseCompressor responseCompressor;
+
+    @ReadOperation
+    public Map<String, Object> benchmark(@Nullable Integer iterations) {
+        int rounds = iterations == null ? 5 : Math.max(1, Math.min(iterations, 50));
+
+        List<byte[]> payloads = new ArrayList<>();
+        long totalBytes = 0;
+        for (ResponseBytesCache.CachedResponse cached : responseBytesCache.snapshot().values()) {
+            if (cached.contentEncoding() == null) {
+                payloads.add(cached.body());
+                totalBytes += cached.body().length;
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("payloads", payloads.size());
+        result.put("uncompressedBytes", totalBytes);
+        result.put("iterations", rounds);
+        result.put("brotliAvailable", responseCompressor.isBrotliAvailable());
+
+        if (payloads.isEmpty()) {
+            result.put("note", "No cached responses yet - hit a few /portfolio endpoints first");
+            return result;
+        }
+
+        List<Map<String, Object>> gzip = new ArrayList<>();
+        for (int level = 1; level <= 9; level++) {
+            final int gzipLevel = level;
+            gzip.add(measure("level", level, payloads, totalBytes, rounds,
+                    body -> responseCompressor.gzip(body, gzipLevel)));
+        }
+        result.put("gzip", gzip);
+
+        if (responseCompressor.isBrotliAvailable()) {
+            List<Map<String, Object>> brotli = new ArrayList<>();
+            for (int quality : BROTLI_QUALITIES) {
+                brotli.add(measure("quality", quality, payloads, totalBytes, rounds,
+                        body -> responseCompressor.brotli(body, quality)));
+            }
+            result.put("brotli", brotli);
+        }
+        return result;
+    }
+
+    private Map<String, Object> measure(String settingName, int setting, List<byte[]> payloads, long totalBytes,
+                                        int rounds, Function<byte[], byte[]> codec) {
+        long compressedBytes = 0;
+        for (byte[] body : payloads) {
+            compressedBytes += codec.apply(body).length; // also warms up the codec
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            for (byte[] body : payloads) {
+                codec.apply(body);
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put(settingName, setting);
+        row.put("compressedBytes", compressedBytes);
+        row.put("ratio", Math.round(totalBytes * 100.0 / Math.max(1, compressedBytes)) / 100.0);
+        row.put("microsPerPass", elapsedNanos / rounds / 1_000L);
+        row.put("mbPerSecond", Math.round(totalBytes * rounds * 1000.0 / Math.max(1, elapsedNanos)));
+        return row;
+    }
+}
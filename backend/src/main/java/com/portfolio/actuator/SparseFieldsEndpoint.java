@@ -0,0 +1,127 @@
+package com.portfolio.actuator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.portfolio.dto.SparseFields;
+import com.portfolio.dto.UserDTO;
+import com.portfolio.service.PortfolioService;
+import com.portfolio.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Actuator endpoint measuring sparse fieldsets against full DTOs
+ * GET /actuator/sparsefields reads the active user's projects and experience with a few
+ * typical field sets straight from the database (bypassing the caches) and reports
+ * serialized bytes, query + mapping time and serialization time per field set
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+@Endpoint(id = "sparsefields")
+@RequiredArgsConstructor
+public class SparseFieldsEndpoint {
+
+    private static final Map<String, Set<String>> PROJECT_FIELD_SETS = fieldSets(
+            Set.of("projectName", "imageUrl", "startDate", "endDate"),
+            Set.of("projectId", "projectName"));
+
+    private static final Map<String, Set<String>> EXPERIENCE_FIELD_SETS = fieldSets(
+            Set.of("company", "position", "startDate", "endDate"),
+            Set.of("experienceId", "company"));
+
+    private final PortfolioService portfolioService;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+
+    @ReadOperation
+    public Map<String, Object> benchmark(@Nullable Integer iterations) {
+        int rounds = iterations == null ? 20 : Math.max(1, Math.min(iterations, 200));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("iterations", rounds);
+
+        Long userId = userService.getActiveUser().map(UserDTO::getUserId).orElse(null);
+        if (userId == null) {
+            result.put("note", "No active user to benchmark");
+            return result;
+        }
+        result.put("userId", userId);
+
+        result.put("projects", measureAll(PROJECT_FIELD_SETS, rounds,
+                fields -> portfolioService.getUserProjects(userId, fields)));
+        result.put("experience", measureAll(EXPERIENCE_FIELD_SETS, rounds,
+                fields -> portfolioService.getUserExperience(userId, fields)));
+        return result;
+    }
+
+    private List<Map<String, Object>> measureAll(Map<String, Set<String>> fieldSets, int rounds,
+                                                 Function<Set<String>, List<?>> query) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        fieldSets.forEach((name, fields) -> {
+            try {
+                rows.add(measure(name, fields, rounds, query));
+            } catch (JsonProcessingException e) {
+                log.warn("Sparse fieldset benchmark failed for {}: {}", name, e.getMessage());
+            }
+        });
+        return rows;
+    }
+
+    private Map<String, Object> measure(String name, Set<String> fields, int rounds,
+                                        Function<Set<String>, List<?>> query) throws JsonProcessingException {
+        ObjectWriter writer = objectMapper.writer(new SimpleFilterProvider()
+                        .addFilter(SparseFields.FILTER_ID, fields.isEmpty()
+                                ? SimpleBeanPropertyFilter.serializeAll()
+                                : SimpleBeanPropertyFilter.filterOutAllExcept(fields)))
+                .without(SerializationFeature.INDENT_OUTPUT);
+
+        // Warm-up pass, also gives the payload to size
+        List<?> rows = query.apply(fields);
+        int bytes = writer.writeValueAsBytes(rows).length;
+
+        long queryNanos = 0;
+        long serializeNanos = 0;
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            rows = query.apply(fields);
+            long loaded = System.nanoTime();
+            writer.writeValueAsBytes(rows);
+            serializeNanos += System.nanoTime() - loaded;
+            queryNanos += loaded - start;
+        }
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("fieldSet", name);
+        row.put("fields", fields.isEmpty() ? "all" : String.join(",", fields));
+        row.put("rows", rows.size());
+        row.put("bytes", bytes);
+        row.put("queryMicros", queryNanos / rounds / 1_000L);
+        row.put("serializeMicros", serializeNanos / rounds / 1_000L);
+        return row;
+    }
+
+    private static Map<String, Set<String>> fieldSets(Set<String> listing, Set<String> minimal) {
+        Map<String, Set<String>> sets = new LinkedHashMap<>();
+        sets.put("full", Set.of());
+        sets.put("listing", listing);
+        sets.put("minimal", minimal);
+        return sets;
+    }
+}
@@ -0,0 +1,171 @@
+package com.portfolio.analytics;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory aggregation of visitor events between flushes
+ * View counts are LongAdders keyed by (day, type, target), which stripe contended
+ * increments across cells instead of retrying one CAS; unique visitors are one
+ * HyperLogLog per day. Recording never blocks and never allocates once a key exists.
+ * Draining hands back what accumulated since the last drain; a failed write is
+ * restored so nothing is lost, only delayed. Each day accepts a bounded number of distinct
+ * targets, so a client inventing targets cannot grow the rollup table without limit.
+ *
+ * @author Debojit Chakraborty
+ */
+public final class AnalyticsAggregator {
+
+    /**
+     * One rollup row
+     */
+    public record CounterKey(LocalDate day, AnalyticsEventType type, String target) {
+    }
+
+    private final int maxKeys;
+    private final int maxTargetsPerDay;
+    private final int precision;
+    private final Map<CounterKey, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<LocalDate, DaySketch> sketches = new ConcurrentHashMap<>();
+    private final Map<LocalDate, Set<CounterKey>> targets = new ConcurrentHashMap<>();
+    private final LongAdder overflow = new LongAdder();
+    private final LongAdder capped = new LongAdder();
+
+    public AnalyticsAggregator(int maxKeys, int maxTargetsPerDay, int precision) {
+        this.maxKeys = maxKeys;
+        this.maxTargetsPerDay = maxTargetsPerDay;
+        this.precision = precision;
+    }
+
+    /**
+     * @return false when the event was dropped because too many distinct keys are pending,
+     * or the day already has its maximum number of distinct targets
+     */
+    public boolean record(LocalDate day, AnalyticsEventType type, String target, String visitor) {
+        CounterKey key = new CounterKey(day, type, target);
+        LongAdder adder = counters.get(key);
+        if (adder == null) {
+            if (counters.size() >= maxKeys) {
+                overflow.increment();
+                return false;
+            }
+            if (!admitTarget(key)) {
+                capped.increment();
+                return false;
+            }
+            adder = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.increment();
+
+        if (visitor != null) {
+            DaySketch sketch = sketches.computeIfAbsent(day, d -> new DaySketch(new HyperLogLog(precision)));
+            if (sketch.visitors.add(visitor)) {
+                sketch.dirty.set(true);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the key's target is already counted today or there is room for one more.
+     * Held in memory only: after a restart a day can take up to twice the limit.
+     */
+    private boolean admitTarget(CounterKey key) {
+        Set<CounterKey> seen = targets.computeIfAbsent(key.day(), d -> ConcurrentHashMap.newKeySet());
+        if (seen.contains(key)) {
+            return true;
+        }
+        if (seen.size() >= maxTargetsPerDay) {
+            return false;
+        }
+        seen.add(key);
+        return true;
+    }
+
+    /**
+     * Counts accumulated since the last drain; keys of days before {@code keepFrom} that
+     * have nothing pending are dropped
+     */
+    public Map<CounterKey, Long> drainCounts(LocalDate keepFrom) {
+        Map<CounterKey, Long> drained = new HashMap<>();
+        counters.forEach((key, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                drained.put(key, count);
+            }
+        });
+        counters.entrySet().removeIf(entry ->
+                entry.getKey().day().isBefore(keepFrom) && entry.getValue().sum() == 0);
+        return drained;
+    }
+
+    /**
+     * Put back counts whose write failed
+     */
+    public void restoreCounts(Map<CounterKey, Long> counts) {
+        counts.forEach((key, count) -> counters.computeIfAbsent(key, k -> new LongAdder()).add(count));
+    }
+
+    /**
+     * Days whose sketch changed since the last call (clears the flag)
+     */
+    public Map<LocalDate, HyperLogLog> drainChangedSketches() {
+        Map<LocalDate, HyperLogLog> changed = new HashMap<>();
+        sketches.forEach((day, sketch) -> {
+            if (sketch.dirty.getAndSet(false)) {
+                changed.put(day, sketch.visitors);
+            }
+        });
+        return changed;
+    }
+
+    public void markChanged(LocalDate day) {
+        DaySketch sketch = sketches.get(day);
+        if (sketch != null) {
+            sketch.dirty.set(true);
+        }
+    }
+
+    /**
+     * Whether stored registers for the day have been merged in since startup
+     */
+    public boolean isSeeded(LocalDate day) {
+        DaySketch sketch = sketches.get(day);
+        return sketch == null || sketch.seeded.get();
+    }
+
+    public void markSeeded(LocalDate day) {
+        DaySketch sketch = sketches.get(day);
+        if (sketch != null) {
+            sketch.seeded.set(true);
+        }
+    }
+
+    public void evictSketchesBefore(LocalDate day) {
+        sketches.entrySet().removeIf(entry -> entry.getKey().isBefore(day) && !entry.getValue().dirty.get());
+        targets.keySet().removeIf(targetDay -> targetDay.isBefore(day));
+    }
+
+    public int pendingKeys() {
+        return counters.size();
+    }
+
+    public long overflowed() {
+        return overflow.sum();
+    }
+
+    public long capped() {
+        return capped.sum();
+    }
+
+    private record DaySketch(HyperLogLog visitors, AtomicBoolean dirty, AtomicBoolean seeded) {
+        private DaySketch(HyperLogLog visitors) {
+            this(visitors, new AtomicBoolean(), new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.portfolio.analytics;
+
+/**
+ * Kinds of visitor events the beacon accepts
+ *
+ * @author Debojit Chakraborty
+ */
+public enum AnalyticsEventType {
+    // target: section name, e.g. "projects", "experience"
+    SECTION_VIEW,
+    // target: project id
+    PROJECT_VIEW,
+    // target: resume file name, or "resume"
+    RESUME_DOWNLOAD
+}
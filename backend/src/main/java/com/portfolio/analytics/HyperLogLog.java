@@ -0,0 +1,108 @@
+package com.portfolio.analytics;
+
+import com.portfolio.util.Hashing;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Thread-safe HyperLogLog cardinality sketch
+ * 2^precision one-byte registers (16 KB at the default precision of 14, about 0.8%
+ * standard error). Adds are lock-free: a register only ever grows, by compare-and-set.
+ * Registers can be exported, stored and merged back, so a day's sketch survives restarts.
+ *
+ * @author Debojit Chakraborty
+ */
+public final class HyperLogLog {
+
+    private static final VarHandle REGISTER = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("precision must be between 4 and 18");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Rebuild a sketch from exported registers
+     */
+    public static HyperLogLog fromBytes(byte[] registers) {
+        int precision = Integer.numberOfTrailingZeros(registers.length);
+        if (registers.length != 1 << precision) {
+            throw new IllegalArgumentException("Register count must be a power of two");
+        }
+        HyperLogLog sketch = new HyperLogLog(precision);
+        sketch.merge(registers);
+        return sketch;
+    }
+
+    /**
+     * @return true if the sketch changed
+     */
+    public boolean add(String value) {
+        return addHash(Hashing.hash64(value));
+    }
+
+    public boolean addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // Rank of the first set bit in the remaining bits; the guard bit caps it at 64 - precision + 1
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        return raise(index, rank);
+    }
+
+    /**
+     * Fold another sketch's registers into this one (register-wise maximum)
+     */
+    public void merge(byte[] other) {
+        if (other.length != registers.length) {
+            throw new IllegalArgumentException("Cannot merge sketches of different precision");
+        }
+        for (int i = 0; i < other.length; i++) {
+            raise(i, other[i]);
+        }
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < m; i++) {
+            byte rank = (byte) REGISTER.getOpaque(registers, i);
+            sum += 1.0 / (1L << rank);
+            if (rank == 0) {
+                zeros++;
+            }
+        }
+
+        double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros); // linear counting for small cardinalities
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        byte[] copy = new byte[registers.length];
+        for (int i = 0; i < registers.length; i++) {
+            copy[i] = (byte) REGISTER.getOpaque(registers, i);
+        }
+        return copy;
+    }
+
+    private boolean raise(int index, byte rank) {
+        byte current;
+        do {
+            current = (byte) REGISTER.getOpaque(registers, index);
+            if (current >= rank) {
+                return false;
+            }
+        } while (!REGISTER.compareAndSet(registers, index, current, rank));
+        return true;
+    }
+}
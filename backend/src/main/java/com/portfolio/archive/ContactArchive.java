@@ -0,0 +1,554 @@
+package com.portfolio.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.portfolio.dto.ContactMessageDTO;
+import com.portfolio.inbox.MessageClassification;
+import com.portfolio.repository.Keyset;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Append-only, compressed archive of contact messages
+ * Messages are written in blocks: a JSON document of up to a few hundred messages, deflated
+ * against a preset dictionary of the field names. Blocks go to segment files (contact-NNNNN.seg)
+ * that roll over at a size limit and are never rewritten. Every block gets one fixed-size record
+ * in the segment's sparse index (contact-NNNNN.idx): offset, length, CRC and the id and sent-date
+ * ranges and the classifications it covers, so a lookup decompresses only the blocks that can
+ * contain the answer. Later blocks win: re-archiving a message replaces the older copy, and a
+ * tombstone (an id in a block's "deleted" list) removes it. Tombstones are kept in memory,
+ * read once at startup from the blocks that carry them, so no query has to scan for them.
+ *
+ * @author Debojit Chakraborty
+ */
+public final class ContactArchive {
+
+    /**
+     * Content of one block
+     */
+    public record Block(List<ContactMessageDTO> messages, List<Long> deleted) {
+    }
+
+    /**
+     * Sparse index entry of one block; sent-date bounds are UTC epoch seconds, classes a bit
+     * per MessageClassification present
+     */
+    record BlockRef(int segment, long offset, int length, int count, int deletedCount,
+                    long minId, long maxId, long minSent, long maxSent, int classes, int crc) {
+
+        boolean mayContain(long messageId) {
+            return messageId >= minId && messageId <= maxId;
+        }
+
+        boolean overlaps(long from, long to) {
+            return count > 0 && maxSent >= from && minSent <= to;
+        }
+
+        boolean holdsAny(int classMask) {
+            return (classes & classMask) != 0;
+        }
+    }
+
+    // Newest first: sent date, then id, both descending (the admin inbox order)
+    public static final Comparator<ContactMessageDTO> NEWEST_FIRST = Comparator
+            .comparing((ContactMessageDTO message) -> sentOf(message)).reversed()
+            .thenComparing(ContactMessageDTO::getMessageId, Comparator.reverseOrder());
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int INDEX_RECORD_BYTES = 60;
+    private static final int ALL_CLASSES = -1;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("contact-(\\d{5})\\.seg");
+
+    // Strings every block repeats, most frequent last (deflate favours the end of the dictionary)
+    private static final byte[] DICTIONARY = ("\"deleted\":[],\"classification\":\"SPAM\",\"DUPLICATE\","
+            + "\"spamScore\":0.0,\"duplicateOf\":null,\"duplicateCount\":null,\"response\":null,"
+            + "\"respondedDate\":null,\"readDate\":\"20\",\"isRead\":true,\"sentDate\":\"20\",\"message\":\"\","
+            + "\"subject\":\"\",\"email\":\"@gmail.com\",\"name\":\"\",{\"messageId\":"
+            + "{\"messages\":[\"classification\":\"INBOX\"").getBytes(StandardCharsets.UTF_8);
+
+    private final Path directory;
+    private final long segmentMaxBytes;
+    private final int blockCacheSize;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    private final List<BlockRef> blocks = new ArrayList<>();
+    // Message id -> position in blocks of its latest tombstone; copies in earlier blocks are gone
+    private final Map<Long, Integer> tombstones = new HashMap<>();
+    private final Map<Integer, FileChannel> readChannels = new TreeMap<>();
+    private final Map<BlockRef, Block> blockCache;
+    private int activeSegment;
+    private long rawBytes;
+
+    public ContactArchive(Path directory, long segmentMaxBytes, int blockCacheSize, ObjectMapper objectMapper) throws IOException {
+        this.directory = directory;
+        this.segmentMaxBytes = segmentMaxBytes;
+        this.blockCacheSize = blockCacheSize;
+        this.writer = objectMapper.writerFor(Block.class).without(SerializationFeature.INDENT_OUTPUT);
+        this.reader = objectMapper.readerFor(Block.class);
+        this.blockCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BlockRef, Block> eldest) {
+                return size() > ContactArchive.this.blockCacheSize;
+            }
+        };
+
+        Files.createDirectories(directory);
+        load();
+    }
+
+    /**
+     * Append one block; it is durable (fsync'ed, indexed) when this returns
+     */
+    public synchronized void append(Collection<ContactMessageDTO> messages, Collection<Long> deleted) throws IOException {
+        if (messages.isEmpty() && deleted.isEmpty()) {
+            return;
+        }
+
+        byte[] json = writer.writeValueAsBytes(new Block(List.copyOf(messages), List.copyOf(deleted)));
+        byte[] payload = compress(json);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        long minSent = Long.MAX_VALUE;
+        long maxSent = Long.MIN_VALUE;
+        int classes = 0;
+        for (ContactMessageDTO message : messages) {
+            minId = Math.min(minId, message.getMessageId());
+            maxId = Math.max(maxId, message.getMessageId());
+            long sent = epochSeconds(message.getSentDate());
+            minSent = Math.min(minSent, sent);
+            maxSent = Math.max(maxSent, sent);
+            classes |= classMask(message.getClassification());
+        }
+        for (Long id : deleted) {
+            minId = Math.min(minId, id);
+            maxId = Math.max(maxId, id);
+        }
+
+        Path segment = segmentPath(activeSegment);
+        if (Files.exists(segment) && Files.size(segment) >= segmentMaxBytes) {
+            activeSegment++;
+            segment = segmentPath(activeSegment);
+        }
+
+        long offset;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Anything past the last indexed block is an unfinished write from a crash; overwrite it
+            offset = lastIndexedEnd(activeSegment);
+            channel.truncate(offset);
+            ByteBuffer buffer = ByteBuffer.allocate(payload.length + 1).put(FORMAT_VERSION).put(payload).flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, offset + buffer.position());
+            }
+            channel.force(true);
+        }
+
+        BlockRef ref = new BlockRef(activeSegment, offset, payload.length + 1, messages.size(), deleted.size(),
+                minId, maxId, minSent, maxSent, classes, (int) crc.getValue());
+        try (FileChannel index = FileChannel.open(indexPath(activeSegment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer record = encode(ref);
+            while (record.hasRemaining()) {
+                index.write(record);
+            }
+            index.force(true);
+        }
+
+        blocks.add(ref);
+        for (Long id : deleted) {
+            tombstones.put(id, blocks.size() - 1);
+        }
+        rawBytes += json.length;
+    }
+
+    /**
+     * Latest archived copy of a message, unless a later tombstone removed it
+     */
+    public synchronized Optional<ContactMessageDTO> find(long messageId) throws IOException {
+        int removedAt = tombstones.getOrDefault(messageId, -1);
+        for (int i = blocks.size() - 1; i > removedAt; i--) {
+            BlockRef ref = blocks.get(i);
+            if (ref.count() == 0 || !ref.mayContain(messageId)) {
+                continue;
+            }
+            for (ContactMessageDTO message : read(ref).messages()) {
+                if (message.getMessageId() == messageId) {
+                    return Optional.of(message);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Archived messages sent in a range (either bound may be null), latest copy of each
+     */
+    public synchronized List<ContactMessageDTO> findSentBetween(LocalDateTime from, LocalDateTime to) throws IOException {
+        long lower = from == null ? Long.MIN_VALUE : epochSeconds(from);
+        long upper = to == null ? Long.MAX_VALUE : epochSeconds(to);
+
+        Map<Long, ContactMessageDTO> latest = new LinkedHashMap<>();
+        Set<Long> seen = new HashSet<>();
+        // Newest block first, so the first copy seen of a message is the one that counts
+        for (int i = blocks.size() - 1; i >= 0; i--) {
+            BlockRef ref = blocks.get(i);
+            if (!ref.overlaps(lower, upper)) {
+                continue;
+            }
+            for (ContactMessageDTO message : read(ref).messages()) {
+                long sent = epochSeconds(message.getSentDate());
+                if (seen.add(message.getMessageId()) && sent >= lower && sent <= upper && live(message, i)) {
+                    latest.put(message.getMessageId(), message);
+                }
+            }
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    /**
+     * One page of archived messages, newest first (see NEWEST_FIRST), strictly after a position
+     * Blocks are read in descending order of their newest message and reading stops as soon as
+     * no remaining block can hold a message for the page, so the cost follows the page size and
+     * how far back it is, not the size of the archive.
+     *
+     * @param afterSent Sent date of the last message of the previous page, or null for the first page
+     * @param afterId   Id of that message (ignored on the first page)
+     * @param limit     Maximum number of messages
+     * @param classes   Classifications to return, or null for all; unclassified messages count as INBOX
+     */
+    public synchronized List<ContactMessageDTO> findPage(LocalDateTime afterSent, long afterId, int limit,
+                                                         Set<MessageClassification> classes) throws IOException {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long upper = afterSent == null ? Long.MAX_VALUE : epochSeconds(afterSent);
+        int classMask = classes == null ? ALL_CLASSES : classes.stream().mapToInt(ContactArchive::classMask).reduce(0, (a, b) -> a | b);
+
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            BlockRef ref = blocks.get(i);
+            if (ref.overlaps(Long.MIN_VALUE, upper) && ref.holdsAny(classMask)) {
+                candidates.add(i);
+            }
+        }
+        candidates.sort(Comparator.comparingLong((Integer i) -> blocks.get(i).maxSent()).reversed()
+                .thenComparing(Comparator.reverseOrder()));
+
+        // Page so far, worst entry last; a message seen in several blocks keeps its latest copy
+        TreeSet<ContactMessageDTO> page = new TreeSet<>(NEWEST_FIRST);
+        Map<Long, Integer> copyFrom = new HashMap<>();
+        for (int i : candidates) {
+            BlockRef ref = blocks.get(i);
+            if (page.size() == limit && epochSeconds(page.last().getSentDate()) > ref.maxSent()) {
+                break;
+            }
+            for (ContactMessageDTO message : read(ref).messages()) {
+                long id = message.getMessageId();
+                if (!live(message, i) || !after(message, afterSent, afterId)
+                        || (classMask & classMask(message.getClassification())) == 0) {
+                    continue;
+                }
+                Integer previous = copyFrom.get(id);
+                if (previous != null) {
+                    if (previous > i) {
+                        continue;
+                    }
+                    page.remove(message);
+                }
+                page.add(message);
+                copyFrom.put(id, i);
+                if (page.size() > limit) {
+                    copyFrom.remove(page.pollLast().getMessageId());
+                }
+            }
+        }
+        return new ArrayList<>(page);
+    }
+
+    /**
+     * Ids of the archived messages matching every given criterion (null criteria are ignored)
+     * Only blocks whose id range holds one of the ids, whose sent dates overlap the range and
+     * which hold the classification are read.
+     *
+     * @param ids        Message ids, or null/empty for any
+     * @param sentFrom   Inclusive lower bound of the sent date
+     * @param sentBefore Exclusive upper bound of the sent date
+     */
+    public synchronized List<Long> findIds(Collection<Long> ids, LocalDateTime sentFrom, LocalDateTime sentBefore,
+                                           MessageClassification classification) throws IOException {
+        NavigableSet<Long> wanted = ids == null || ids.isEmpty() ? null : new TreeSet<>(ids);
+        long lower = sentFrom == null ? Long.MIN_VALUE : epochSeconds(sentFrom);
+        long upper = sentBefore == null ? Long.MAX_VALUE : epochSeconds(sentBefore);
+        int classMask = classification == null ? ALL_CLASSES : classMask(classification);
+
+        List<Long> matched = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        // Newest block first, so the first copy seen of a message is the one that counts
+        for (int i = blocks.size() - 1; i >= 0; i--) {
+            BlockRef ref = blocks.get(i);
+            if (!ref.overlaps(lower, upper) || !ref.holdsAny(classMask)) {
+                continue;
+            }
+            if (wanted != null) {
+                Long first = wanted.ceiling(ref.minId());
+                if (first == null || first > ref.maxId()) {
+                    continue;
+                }
+            }
+            for (ContactMessageDTO message : read(ref).messages()) {
+                long id = message.getMessageId();
+                if ((wanted != null && !wanted.contains(id)) || !seen.add(id) || !live(message, i)) {
+                    continue;
+                }
+                LocalDateTime sent = sentOf(message);
+                if ((sentFrom == null || !sent.isBefore(sentFrom))
+                        && (sentBefore == null || sent.isBefore(sentBefore))
+                        && (classMask & classMask(message.getClassification())) != 0) {
+                    matched.add(id);
+                }
+            }
+        }
+        return matched;
+    }
+
+    public synchronized int segmentCount() {
+        return blocks.isEmpty() ? 0 : activeSegment + 1;
+    }
+
+    public synchronized int blockCount() {
+        return blocks.size();
+    }
+
+    public synchronized long storedMessages() {
+        return blocks.stream().mapToLong(BlockRef::count).sum();
+    }
+
+    public synchronized long compressedBytes() {
+        return blocks.stream().mapToLong(BlockRef::length).sum();
+    }
+
+    /**
+     * Uncompressed JSON bytes of the blocks appended since startup (for the compression ratio)
+     */
+    public synchronized long rawBytesSinceStart() {
+        return rawBytes;
+    }
+
+    public synchronized void close() throws IOException {
+        for (FileChannel channel : readChannels.values()) {
+            channel.close();
+        }
+        readChannels.clear();
+    }
+
+    private Block read(BlockRef ref) throws IOException {
+        Block cached = blockCache.get(ref);
+        if (cached != null) {
+            return cached;
+        }
+
+        FileChannel channel = readChannels.get(ref.segment());
+        if (channel == null) {
+            channel = FileChannel.open(segmentPath(ref.segment()), StandardOpenOption.READ);
+            readChannels.put(ref.segment(), channel);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(ref.length());
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, ref.offset() + buffer.position()) < 0) {
+                throw new IOException("Archive segment " + ref.segment() + " is shorter than its index");
+            }
+        }
+
+        byte[] bytes = buffer.array();
+        if (bytes[0] != FORMAT_VERSION) {
+            throw new IOException("Unsupported archive block format " + bytes[0]);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 1, bytes.length - 1);
+        if ((int) crc.getValue() != ref.crc()) {
+            throw new IOException("Corrupt archive block at segment " + ref.segment() + " offset " + ref.offset());
+        }
+
+        Block block = reader.readValue(decompress(bytes, 1, bytes.length - 1));
+        blockCache.put(ref, block);
+        return block;
+    }
+
+    private void load() throws IOException {
+        List<Integer> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.add(Integer.parseInt(matcher.group(1)));
+                }
+            });
+        }
+        segments.sort(Integer::compare);
+
+        for (int segment : segments) {
+            Path index = indexPath(segment);
+            if (!Files.exists(index)) {
+                continue;
+            }
+            long segmentSize = Files.size(segmentPath(segment));
+            byte[] records = Files.readAllBytes(index);
+            int valid = 0;
+            ByteBuffer buffer = ByteBuffer.wrap(records);
+            while (buffer.remaining() >= INDEX_RECORD_BYTES) {
+                BlockRef ref = decode(segment, buffer);
+                if (ref.offset() + ref.length() > segmentSize) {
+                    break;
+                }
+                blocks.add(ref);
+                valid += INDEX_RECORD_BYTES;
+            }
+            if (valid < records.length) {
+                // Torn index write from a crash: drop the partial or dangling record
+                try (FileChannel channel = FileChannel.open(index, StandardOpenOption.WRITE)) {
+                    channel.truncate(valid);
+                }
+            }
+            activeSegment = Math.max(activeSegment, segment);
+        }
+
+        for (int i = 0; i < blocks.size(); i++) {
+            if (blocks.get(i).deletedCount() > 0) {
+                for (Long id : read(blocks.get(i)).deleted()) {
+                    tombstones.put(id, i);
+                }
+            }
+        }
+    }
+
+    private long lastIndexedEnd(int segment) {
+        for (int i = blocks.size() - 1; i >= 0; i--) {
+            BlockRef ref = blocks.get(i);
+            if (ref.segment() == segment) {
+                return ref.offset() + ref.length();
+            }
+        }
+        return 0;
+    }
+
+    private static ByteBuffer encode(BlockRef ref) {
+        return ByteBuffer.allocate(INDEX_RECORD_BYTES)
+                .putLong(ref.offset()).putInt(ref.length()).putInt(ref.count()).putInt(ref.deletedCount())
+                .putLong(ref.minId()).putLong(ref.maxId())
+                .putLong(ref.minSent()).putLong(ref.maxSent())
+                .putInt(ref.classes()).putInt(ref.crc())
+                .flip();
+    }
+
+    private static BlockRef decode(int segment, ByteBuffer buffer) {
+        return new BlockRef(segment, buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getInt(),
+                buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getInt(), buffer.getInt());
+    }
+
+    private static byte[] compress(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setDictionary(DICTIONARY);
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                output.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] input, int offset, int length) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input, offset, length);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(length * 4);
+            byte[] chunk = new byte[8192];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(chunk);
+                if (read == 0 && inflater.needsDictionary()) {
+                    inflater.setDictionary(DICTIONARY);
+                } else if (read == 0 && inflater.needsInput()) {
+                    throw new IOException("Truncated archive block");
+                }
+                output.write(chunk, 0, read);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt archive block", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(String.format("contact-%05d.seg", segment));
+    }
+
+    private Path indexPath(int segment) {
+        return directory.resolve(String.format("contact-%05d.idx", segment));
+    }
+
+    private boolean live(ContactMessageDTO message, int block) {
+        return tombstones.getOrDefault(message.getMessageId(), -1) < block;
+    }
+
+    private static boolean after(ContactMessageDTO message, LocalDateTime afterSent, long afterId) {
+        if (afterSent == null) {
+            return true;
+        }
+        int bySent = sentOf(message).compareTo(afterSent);
+        return bySent < 0 || (bySent == 0 && message.getMessageId() < afterId);
+    }
+
+    private static int classMask(MessageClassification classification) {
+        return 1 << (classification == null ? MessageClassification.INBOX : classification).ordinal();
+    }
+
+    // Messages without a sent date order as the earliest, as in the database (Keyset.EARLIEST_TIME)
+    private static LocalDateTime sentOf(ContactMessageDTO message) {
+        return message.getSentDate() == null ? Keyset.EARLIEST_TIME : message.getSentDate();
+    }
+
+    private static long epochSeconds(LocalDateTime time) {
+        return (time == null ? Keyset.EARLIEST_TIME : time).toEpochSecond(ZoneOffset.UTC);
+    }
+}
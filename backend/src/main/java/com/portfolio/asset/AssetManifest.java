@@ -0,0 +1,238 @@
+package com.portfolio.asset;
+
+import com.portfolio.config.ApplicationConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Manifest of content-fingerprinted static assets
+ * Files under static/files (classpath) and the upload directory are hashed once at startup;
+ * each is published as /assets/{name}-{hash}.{ext} with a precomputed ETag, so the URL
+ * changes whenever the content does and responses can be cached as immutable
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class AssetManifest {
+
+    public static final String URL_PREFIX = "/assets/";
+
+    /**
+     * A fingerprinted file ready to be served
+     *
+     * @param logicalPath Path the asset was known by before fingerprinting, e.g. "files/resume.pdf"
+     * @param hashedName  Fingerprinted file name served under /assets/
+     * @param file        File on local disk (classpath assets are extracted first)
+     * @param length      Size in bytes
+     * @param etag        Strong ETag derived from the content hash
+     * @param contentType Media type guessed from the file name
+     */
+    public record Asset(String logicalPath, String hashedName, Path file, long length,
+                        String etag, String contentType, Instant lastModified) {
+
+        public String url() {
+            return URL_PREFIX + hashedName;
+        }
+
+        /**
+         * @return Hex content hash (the ETag without quotes)
+         */
+        public String contentHash() {
+            return etag.substring(1, etag.length() - 1);
+        }
+    }
+
+    private final ApplicationConfig.Assets settings;
+    private final Path variantDir;
+    private final Map<String, Asset> byHashedName = new ConcurrentHashMap<>();
+    private final Map<String, Asset> byLogicalPath = new ConcurrentHashMap<>();
+
+    public AssetManifest(ApplicationConfig.PortfolioProperties portfolioProperties) {
+        this.settings = portfolioProperties.getAssets();
+        this.variantDir = Paths.get(portfolioProperties.getImages().getVariantDir()).toAbsolutePath().normalize();
+    }
+
+    @PostConstruct
+    void build() {
+        if (!settings.isEnabled()) {
+            log.info("Asset fingerprinting disabled");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        scanClasspath();
+        scanUploads();
+        log.info("Asset manifest built: {} assets in {} ms", byHashedName.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Fingerprint a file and add it to the manifest (used for new uploads)
+     *
+     * @param file        File on local disk
+     * @param logicalPath Logical path, e.g. "uploads/photo.jpg"
+     * @return Registered asset
+     */
+    public Asset register(Path file, String logicalPath) {
+        try {
+            String hash = sha256(file);
+            String hashedName = fingerprint(logicalPath, hash);
+
+            Asset asset = new Asset(logicalPath, hashedName, file.toAbsolutePath(), Files.size(file),
+                    "\"" + hash.substring(0, 32) + "\"",
+                    MediaTypeFactory.getMediaType(file.getFileName().toString())
+                            .map(Object::toString)
+                            .orElse("application/octet-stream"),
+                    Files.getLastModifiedTime(file).toInstant());
+
+            Asset previous = byLogicalPath.put(logicalPath, asset);
+            if (previous != null && !previous.hashedName().equals(hashedName)) {
+                // Old fingerprinted URLs stay valid only while their bytes are unchanged on disk
+                byHashedName.remove(previous.hashedName(), previous);
+            }
+            byHashedName.put(hashedName, asset);
+
+            log.debug("Registered asset {} as {}", logicalPath, hashedName);
+            return asset;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to fingerprint asset " + file, e);
+        }
+    }
+
+    public Optional<Asset> find(String hashedName) {
+        return Optional.ofNullable(byHashedName.get(hashedName));
+    }
+
+    /**
+     * Rewrite a stored file URL ("/files/x.pdf", "/api/uploads/y.jpg", ...) to its fingerprinted URL
+     *
+     * @param url URL as stored on the entity
+     * @return Fingerprinted URL, or the input unchanged if it is not a known local asset
+     */
+    public String fingerprintUrl(String url) {
+        if (url == null || url.isBlank() || url.contains("://")) {
+            return url;
+        }
+
+        String path = url.startsWith("/api/") ? url.substring(4) : url;
+        path = path.startsWith("/") ? path.substring(1) : path;
+
+        Asset asset = byLogicalPath.get(path);
+        return asset == null ? url : "/api" + asset.url();
+    }
+
+    /**
+     * @return Logical path to fingerprinted URL, sorted by logical path
+     */
+    public Map<String, String> manifest() {
+        Map<String, String> manifest = new TreeMap<>();
+        byLogicalPath.forEach((logicalPath, asset) -> manifest.put(logicalPath, "/api" + asset.url()));
+        return manifest;
+    }
+
+    private void scanClasspath() {
+        String location = settings.getClasspathLocation();
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver()
+                    .getResources("classpath*:/" + location + "/**/*");
+            if (resources.length == 0) {
+                return;
+            }
+
+            // Jar entries cannot be transferred with sendfile, so extract them once
+            Path extracted = Files.createTempDirectory("portfolio-assets");
+            extracted.toFile().deleteOnExit();
+
+            for (Resource resource : resources) {
+                if (!resource.isReadable() || resource.getFilename() == null) {
+                    continue;
+                }
+                String url = resource.getURL().toString();
+                int index = url.lastIndexOf(location + "/");
+                if (index < 0) {
+                    continue;
+                }
+
+                String relative = url.substring(index + location.length() + 1);
+                Path file;
+                if (resource.isFile()) {
+                    file = resource.getFile().toPath();
+                } else {
+                    file = extracted.resolve(relative).normalize();
+                    Files.createDirectories(file.getParent());
+                    try (InputStream in = resource.getInputStream()) {
+                        Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    file.toFile().deleteOnExit();
+                }
+                register(file, "files/" + relative);
+            }
+        } catch (IOException e) {
+            log.error("Error scanning classpath assets under {}", location, e);
+        }
+    }
+
+    private void scanUploads() {
+        Path root = Paths.get(settings.getUploadDir());
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.walk(root)) {
+            // Image variants are registered lazily by ImageVariantService; dot files are in-progress uploads
+            files.filter(Files::isRegularFile)
+                    .filter(file -> !file.toAbsolutePath().normalize().startsWith(variantDir))
+                    .filter(file -> !file.getFileName().toString().startsWith("."))
+                    .forEach(file -> register(file, "uploads/" + root.relativize(file).toString().replace('\\', '/')));
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Error scanning uploaded assets under {}", root, e);
+        }
+    }
+
+    private static String fingerprint(String logicalPath, String hash) {
+        String name = logicalPath.substring(logicalPath.lastIndexOf('/') + 1);
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String extension = dot > 0 ? name.substring(dot) : "";
+        return base + "-" + hash.substring(0, 12) + extension;
+    }
+
+    private static String sha256(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.portfolio.asset;
+
+import com.portfolio.config.ApplicationConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes fingerprinted assets without copying them through the heap
+ * Uses Tomcat's sendfile support when the connector offers it, otherwise
+ * FileChannel.transferTo straight into the response channel.
+ * Handles If-None-Match and single byte ranges (206 / 416).
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class AssetResponseWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ApplicationConfig.Assets settings;
+
+    public AssetResponseWriter(ApplicationConfig.PortfolioProperties portfolioProperties) {
+        this.settings = portfolioProperties.getAssets();
+    }
+
+    /**
+     * Serve an asset, honouring conditional and range headers
+     *
+     * @param immutable Whether the URL is content-addressed and may be cached forever
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response,
+                      AssetManifest.Asset asset, boolean immutable) throws IOException {
+
+        response.setHeader(HttpHeaders.ETAG, asset.etag());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.LAST_MODIFIED,
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(asset.lastModified().atOffset(ZoneOffset.UTC)));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable
+                ? "public, max-age=" + settings.getMaxAgeSeconds() + ", immutable"
+                : "public, max-age=0, must-revalidate");
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(asset.etag()) || "*".equals(ifNoneMatch.trim()))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = asset.length();
+        long start = 0;
+        long end = length - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(asset.etag()))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                // Multiple or malformed ranges: ignore the header and send the whole file
+                log.debug("Ignoring unsupported range '{}' for {}", range, asset.hashedName());
+            } else if (bounds.length == 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            } else {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(asset.contentType());
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (count >= settings.getSendfileMinBytes() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // The connector streams the file from the kernel page cache after the servlet returns
+            request.setAttribute(SENDFILE_FILENAME, asset.file().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(asset.file(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, target);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    /**
+     * Parse a single "bytes=" range
+     *
+     * @return {start, end} inclusive, an empty array if unsatisfiable, or null if the header should be ignored
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+
+            if (first.isEmpty()) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return new long[0];
+                }
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length || start > end) {
+                return new long[0];
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.portfolio.asset;
+
+import com.portfolio.config.ApplicationConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Background generation of resized image variants
+ * Profile and project images are scaled to fixed widths as JPEG (and WebP when an ImageIO
+ * WebP writer is on the classpath). Variants are named after the source content hash, so
+ * they never need invalidating and survive restarts. Work runs on the shared task executor
+ * but at most portfolio.images.max-concurrent jobs at a time.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    /**
+     * Output formats, best first
+     */
+    public enum Format {
+        WEBP("webp", "image/webp"), JPEG("jpg", "image/jpeg");
+
+        private final String extension;
+        private final String mimeType;
+
+        Format(String extension, String mimeType) {
+            this.extension = extension;
+            this.mimeType = mimeType;
+        }
+    }
+
+    /**
+     * A variant chosen for a request
+     *
+     * @param asset Variant file
+     * @param exact Whether it is the one the request will always get (the target width in the
+     *              preferred format, or the best left once generation has finished); a fallback
+     *              served while generation runs will be replaced and must not be cached as immutable
+     */
+    public record Variant(AssetManifest.Asset asset, boolean exact) {
+    }
+
+    private static final Set<String> SOURCE_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/bmp", "image/webp");
+
+    private final AssetManifest assetManifest;
+    private final Executor taskExecutor;
+    private final ApplicationConfig.Images settings;
+    private final Path variantDir;
+    private final boolean webpSupported;
+
+    private final Semaphore workers;
+    private final BlockingQueue<AssetManifest.Asset> queue;
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private final Map<String, AssetManifest.Asset> variants = new ConcurrentHashMap<>();
+    // Content hashes of images that are too small, too large or unreadable, so they are not re-queued
+    private final Set<String> originalOnly = ConcurrentHashMap.newKeySet();
+    // Content hashes whose generation finished in this process: what exists now is final
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantService(AssetManifest assetManifest,
+                               @Qualifier("taskExecutor") Executor taskExecutor,
+                               ApplicationConfig.PortfolioProperties portfolioProperties) {
+        this.assetManifest = assetManifest;
+        this.taskExecutor = taskExecutor;
+        this.settings = portfolioProperties.getImages();
+        this.variantDir = Paths.get(settings.getVariantDir());
+        this.webpSupported = settings.isWebpEnabled() && ImageIO.getImageWritersByMIMEType("image/webp").hasNext();
+        this.workers = new Semaphore(Math.max(1, settings.getMaxConcurrent()));
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, settings.getQueueCapacity()));
+
+        log.info("Image variants {} - widths {}, WebP {}", settings.isEnabled() ? "enabled" : "disabled",
+                settings.getWidths(), webpSupported ? "available" : "not available (JPEG only)");
+    }
+
+    public boolean isImage(AssetManifest.Asset asset) {
+        return SOURCE_TYPES.contains(asset.contentType());
+    }
+
+    /**
+     * @return true if no variants will ever exist for the image and the original should be served
+     */
+    public boolean isOriginalOnly(AssetManifest.Asset source) {
+        return !settings.isEnabled() || originalOnly.contains(source.contentHash());
+    }
+
+    /**
+     * Queue variant generation for an image; duplicates of queued or running work are ignored
+     *
+     * @return false if the image is not eligible or the queue is full
+     */
+    public boolean enqueue(AssetManifest.Asset source) {
+        if (isOriginalOnly(source) || !isImage(source) || completed.contains(source.contentHash())
+                || !queued.add(source.contentHash())) {
+            return false;
+        }
+
+        if (!queue.offer(source)) {
+            queued.remove(source.contentHash());
+            log.warn("Image variant queue full, skipping {}", source.logicalPath());
+            return false;
+        }
+        drain();
+        return true;
+    }
+
+    /**
+     * Best existing variant for the requested width and accepted formats
+     * Falls back to the next smaller width when the requested one is larger than the original
+     * or not generated yet
+     *
+     * @param width  Requested display width in pixels
+     * @param accept Accept request header (may be null)
+     * @return Variant, or empty if none has been generated yet
+     */
+    public Optional<Variant> bestVariant(AssetManifest.Asset source, int width, String accept) {
+        List<Format> formats = webpSupported && accept != null && accept.contains(Format.WEBP.mimeType)
+                ? List.of(Format.WEBP, Format.JPEG)
+                : List.of(Format.JPEG);
+
+        List<Integer> widths = settings.getWidths().stream().sorted().toList();
+        if (widths.isEmpty()) {
+            return Optional.empty();
+        }
+        int target = widths.stream().filter(w -> w >= width).findFirst().orElse(widths.get(widths.size() - 1));
+
+        boolean finished = completed.contains(source.contentHash());
+        for (Format format : formats) {
+            // Smallest width that covers the request, then progressively smaller ones
+            for (int i = widths.indexOf(target); i >= 0; i--) {
+                Optional<AssetManifest.Asset> variant = variant(source, widths.get(i), format);
+                if (variant.isPresent()) {
+                    boolean exact = finished || (format == formats.get(0) && widths.get(i) == target);
+                    return Optional.of(new Variant(variant.get(), exact));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<AssetManifest.Asset> variant(AssetManifest.Asset source, int width, Format format) {
+        String name = variantName(source, width, format);
+        AssetManifest.Asset known = variants.get(name);
+        if (known != null) {
+            return Optional.of(known);
+        }
+
+        // Generated before a restart
+        Path file = variantDir.resolve(name);
+        if (Files.isRegularFile(file)) {
+            return Optional.of(variants.computeIfAbsent(name, n -> assetManifest.register(file, "variants/" + n)));
+        }
+        return Optional.empty();
+    }
+
+    private void drain() {
+        while (!queue.isEmpty() && workers.tryAcquire()) {
+            AssetManifest.Asset source = queue.poll();
+            if (source == null) {
+                workers.release();
+                return;
+            }
+
+            try {
+                taskExecutor.execute(() -> {
+                    try {
+                        if (generate(source)) {
+                            completed.add(source.contentHash());
+                        }
+                    } finally {
+                        queued.remove(source.contentHash());
+                        workers.release();
+                        drain();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.warn("Task executor rejected image variant job for {}", source.logicalPath());
+                queued.remove(source.contentHash());
+                workers.release();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return true if every variant that can exist for the image now does
+     */
+    private boolean generate(AssetManifest.Asset source) {
+        long start = System.currentTimeMillis();
+        try {
+            BufferedImage original = read(source);
+            if (original == null) {
+                originalOnly.add(source.contentHash());
+                return true;
+            }
+            if (settings.getWidths().stream().noneMatch(width -> width < original.getWidth())) {
+                originalOnly.add(source.contentHash());
+                return true;
+            }
+
+            Files.createDirectories(variantDir);
+            int generated = 0;
+            for (int width : settings.getWidths()) {
+                if (width >= original.getWidth()) {
+                    continue; // never upscale
+                }
+
+                BufferedImage scaled = scale(original, width);
+                for (Format format : webpSupported ? List.of(Format.WEBP, Format.JPEG) : List.of(Format.JPEG)) {
+                    String name = variantName(source, width, format);
+                    Path target = variantDir.resolve(name);
+                    if (!Files.exists(target) && write(scaled, format, target)) {
+                        generated++;
+                    }
+                    if (Files.isRegularFile(target)) {
+                        variants.put(name, assetManifest.register(target, "variants/" + name));
+                    }
+                }
+            }
+
+            log.info("Generated {} image variants for {} in {} ms", generated, source.logicalPath(),
+                    System.currentTimeMillis() - start);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Error generating image variants for {}", source.logicalPath(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Decode an image, checking the declared dimensions from the header first
+     *
+     * @return The image, or null if no reader handles it or it has more than max-pixels pixels
+     */
+    private BufferedImage read(AssetManifest.Asset source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.file().toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                log.debug("No ImageIO reader for {}, skipping variants", source.logicalPath());
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > settings.getMaxPixels()) {
+                    log.warn("Image {} declares {} pixels (limit {}), serving the original only",
+                            source.logicalPath(), pixels, settings.getMaxPixels());
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Downscale by repeated halving then a final bilinear pass, which keeps detail without
+     * the cost of area-averaging the full image
+     */
+    private static BufferedImage scale(BufferedImage original, int width) {
+        BufferedImage current = toRgb(original);
+        int currentWidth = current.getWidth();
+        int currentHeight = current.getHeight();
+        int height = Math.max(1, (int) Math.round((double) original.getHeight() * width / original.getWidth()));
+
+        do {
+            int nextWidth = Math.max(width, currentWidth / 2);
+            int nextHeight = nextWidth == width ? height : Math.max(height, currentHeight / 2);
+
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+            g.dispose();
+
+            current = next;
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth > width);
+
+        return current;
+    }
+
+    /**
+     * JPEG has no alpha channel; flatten transparent images onto white
+     */
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return rgb;
+    }
+
+    private boolean write(BufferedImage image, Format format, Path target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(format.mimeType);
+        if (!writers.hasNext()) {
+            return false;
+        }
+
+        ImageWriter writer = writers.next();
+        Path temp = Files.createTempFile(variantDir, "variant-", ".tmp");
+        try {
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(out);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if (param.canWriteCompressed()) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    if (param.getCompressionTypes() != null && param.getCompressionType() == null) {
+                        param.setCompressionType(param.getCompressionTypes()[0]);
+                    }
+                    param.setCompressionQuality(settings.getJpegQuality());
+                }
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String variantName(AssetManifest.Asset source, int width, Format format) {
+        return source.contentHash().substring(0, 16) + "-w" + width + "." + format.extension;
+    }
+}
@@ -0,0 +1,304 @@
+package com.portfolio.asset;
+
+import com.portfolio.config.ApplicationConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.util.http.fileupload.MultipartStream;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming, content-addressed upload storage
+ * Multipart bodies are parsed straight off the request stream and written to a temp file
+ * while being hashed, so nothing is buffered in memory. The file is fsynced and atomically
+ * moved to uploads/{sha256}.{ext}; identical content is stored once.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class UploadStorage {
+
+    /**
+     * What is being uploaded, with the extensions accepted for it
+     */
+    public enum Kind {
+        RESUME(Set.of("pdf", "doc", "docx")),
+        PROFILE_IMAGE(Set.of("jpg", "jpeg", "png", "webp", "gif")),
+        PROJECT_IMAGE(Set.of("jpg", "jpeg", "png", "webp", "gif"));
+
+        private final Set<String> extensions;
+
+        Kind(Set<String> extensions) {
+            this.extensions = extensions;
+        }
+    }
+
+    /**
+     * A file safely stored on disk
+     *
+     * @param logicalPath  Path relative to the web root, e.g. "uploads/ab12....pdf"
+     * @param deduplicated True if identical content was already stored
+     */
+    public record StoredUpload(String logicalPath, Path file, String sha256, long size, boolean deduplicated) {
+
+        public String url() {
+            return "/" + logicalPath;
+        }
+    }
+
+    /**
+     * Upload exceeds the configured size limit
+     */
+    public static class UploadTooLargeException extends RuntimeException {
+        @Getter
+        private final long limit;
+
+        public UploadTooLargeException(long limit) {
+            super("Upload exceeds the limit of " + limit + " bytes");
+            this.limit = limit;
+        }
+    }
+
+    private static final Pattern FILENAME = Pattern.compile("filename=\"([^\"]*)\"", Pattern.CASE_INSENSITIVE);
+
+    private final ApplicationConfig.Uploads settings;
+    private final Path uploadDir;
+
+    public UploadStorage(ApplicationConfig.PortfolioProperties portfolioProperties) {
+        this.settings = portfolioProperties.getUploads();
+        this.uploadDir = Paths.get(portfolioProperties.getAssets().getUploadDir());
+    }
+
+    /**
+     * Store the first file part of a multipart/form-data request
+     *
+     * @throws UploadTooLargeException  if the declared or actual size exceeds the limit
+     * @throws IllegalArgumentException if the request is not multipart or the file type is not accepted
+     */
+    public StoredUpload store(HttpServletRequest request, Kind kind) throws IOException {
+        if (!settings.isEnabled()) {
+            throw new IllegalStateException("Uploads are disabled");
+        }
+
+        long limit = limitFor(kind);
+        long declared = request.getContentLengthLong();
+        if (declared > limit + settings.getMaxOverheadBytes()) {
+            // Reject before reading a single byte of the body
+            throw new UploadTooLargeException(limit);
+        }
+
+        MultipartStream multipart = new MultipartStream(request.getInputStream(),
+                boundaryOf(request.getContentType()), 8192, null);
+
+        boolean hasPart = multipart.skipPreamble();
+        while (hasPart) {
+            String filename = filenameOf(multipart.readHeaders());
+            if (filename != null) {
+                return writePart(multipart, kind, extensionOf(filename, kind), limit);
+            }
+            multipart.discardBodyData();
+            hasPart = multipart.readBoundary();
+        }
+        throw new IllegalArgumentException("No file part found in upload");
+    }
+
+    private StoredUpload writePart(MultipartStream multipart, Kind kind, String extension, long limit) throws IOException {
+        Files.createDirectories(uploadDir);
+        Path temp = Files.createTempFile(uploadDir, ".upload-", ".tmp");
+
+        HashingOutputStream hashing;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            hashing = new HashingOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024), limit);
+            multipart.readBodyData(hashing);
+            hashing.flush();
+            // Durable before the entity is pointed at it
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        if (hashing.getCount() == 0 || !matchesSignature(extension, hashing.getHead())) {
+            Files.deleteIfExists(temp);
+            throw new IllegalArgumentException("File content does not match ." + extension);
+        }
+
+        String sha256 = hashing.hex();
+        String name = sha256 + "." + extension;
+        Path target = uploadDir.resolve(name);
+
+        boolean deduplicated = false;
+        if (Files.exists(target)) {
+            Files.delete(temp);
+            deduplicated = true;
+        } else {
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Same content uploaded concurrently
+                Files.deleteIfExists(temp);
+                deduplicated = true;
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            syncDirectory();
+        }
+
+        log.info("Stored {} upload {} ({} bytes{})", kind, name, hashing.getCount(),
+                deduplicated ? ", deduplicated" : "");
+        return new StoredUpload("uploads/" + name, target, sha256, hashing.getCount(), deduplicated);
+    }
+
+    private long limitFor(Kind kind) {
+        return kind == Kind.RESUME ? settings.getMaxResumeBytes() : settings.getMaxImageBytes();
+    }
+
+    private void syncDirectory() {
+        // Persist the rename itself; not supported on every platform
+        try (FileChannel directory = FileChannel.open(uploadDir, StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            log.debug("Directory fsync not supported for {}: {}", uploadDir, e.getMessage());
+        }
+    }
+
+    private static byte[] boundaryOf(String contentType) {
+        if (contentType == null) {
+            throw new IllegalArgumentException("Missing Content-Type, expected multipart/form-data");
+        }
+
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        String boundary = mediaType.getParameter("boundary");
+        if (!MediaType.MULTIPART_FORM_DATA.includes(mediaType) || boundary == null || boundary.isEmpty()) {
+            throw new IllegalArgumentException("Expected multipart/form-data with a boundary");
+        }
+        if (boundary.length() > 1 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+            boundary = boundary.substring(1, boundary.length() - 1);
+        }
+        return boundary.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static String filenameOf(String headers) {
+        for (String line : headers.split("\r\n")) {
+            if (line.regionMatches(true, 0, "Content-Disposition:", 0, "Content-Disposition:".length())) {
+                Matcher matcher = FILENAME.matcher(line);
+                return matcher.find() ? matcher.group(1) : null;
+            }
+        }
+        return null;
+    }
+
+    private static String extensionOf(String filename, Kind kind) {
+        int dot = filename.lastIndexOf('.');
+        String extension = dot < 0 ? "" : filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        if (!kind.extensions.contains(extension)) {
+            throw new IllegalArgumentException("File type not allowed, expected one of " + kind.extensions);
+        }
+        return "jpeg".equals(extension) ? "jpg" : extension;
+    }
+
+    /**
+     * Cheap magic-number check so a renamed file cannot masquerade as an image or PDF
+     */
+    private static boolean matchesSignature(String extension, byte[] head) {
+        return switch (extension) {
+            case "jpg" -> startsWith(head, 0xFF, 0xD8, 0xFF);
+            case "png" -> startsWith(head, 0x89, 'P', 'N', 'G');
+            case "gif" -> startsWith(head, 'G', 'I', 'F', '8');
+            case "webp" -> startsWith(head, 'R', 'I', 'F', 'F') && head.length >= 12
+                    && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P';
+            case "pdf" -> startsWith(head, '%', 'P', 'D', 'F');
+            case "doc" -> startsWith(head, 0xD0, 0xCF, 0x11, 0xE0);
+            case "docx" -> startsWith(head, 'P', 'K', 0x03, 0x04);
+            default -> false;
+        };
+    }
+
+    private static boolean startsWith(byte[] head, int... signature) {
+        if (head.length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((head[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts, hashes and size-checks bytes on their way to disk, keeping the first few for sniffing
+     */
+    private static final class HashingOutputStream extends FilterOutputStream {
+
+        private final MessageDigest digest;
+        private final long limit;
+        private final byte[] head = new byte[16];
+
+        @Getter
+        private long count;
+
+        HashingOutputStream(OutputStream out, long limit) {
+            super(out);
+            this.limit = limit;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (count + len > limit) {
+                throw new UploadTooLargeException(limit);
+            }
+            if (count < head.length) {
+                System.arraycopy(b, off, head, (int) count, (int) Math.min(len, head.length - count));
+            }
+            digest.update(b, off, len);
+            out.write(b, off, len);
+            count += len;
+        }
+
+        byte[] getHead() {
+            return Arrays.copyOf(head, (int) Math.min(count, head.length));
+        }
+
+        String hex() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
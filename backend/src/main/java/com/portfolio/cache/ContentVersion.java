@@ -0,0 +1,64 @@
+package com.portfolio.cache;
+
+import com.portfolio.event.PortfolioChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic content version for portfolio data
+ * Bumped on every write; caches tag their entries with the version they were
+ * built from and treat entries from an older version as misses
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class ContentVersion {
+
+    private final AtomicLong version = new AtomicLong(1);
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Invalidate everything derived from the previous version.
+     * Inside a transaction the bump is deferred to after commit, so readers cannot
+     * re-cache pre-commit data under the new version.
+     *
+     * @param reason Short description of the write, for logging
+     */
+    public void bump(String reason) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(reason);
+                }
+            });
+        } else {
+            increment(reason);
+        }
+    }
+
+    /**
+     * Catches committed writes that bypass the services (e.g. repositories used directly)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChange(PortfolioChangeEvent event) {
+        if (event.is(PortfolioChangeEvent.EntityType.CONTACT_MESSAGE)) {
+            return; // inbox traffic is not part of any cached public read
+        }
+        increment(event.entityType() + " " + event.action().name().toLowerCase());
+    }
+
+    private void increment(String reason) {
+        long next = version.incrementAndGet();
+        log.debug("Content version bumped to {} ({})", next, reason);
+    }
+}
@@ -0,0 +1,130 @@
+package com.portfolio.cache;
+
+import com.portfolio.config.ApplicationConfig;
+import com.portfolio.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuit breaker guarding repository reads
+ * Trips after consecutive database failures or slow calls, short-circuits reads while open
+ * and probes the database in the background until it answers again
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class DatabaseCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN
+    }
+
+    private final UserRepository userRepository;
+    private final ApplicationConfig.Resilience settings;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile Instant openedAt;
+
+    public DatabaseCircuitBreaker(UserRepository userRepository,
+                                  ApplicationConfig.PortfolioProperties portfolioProperties,
+                                  MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.settings = portfolioProperties.getResilience();
+
+        Gauge.builder("portfolio.database.circuit.open", this, breaker -> breaker.isOpen() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return true if callers may hit the database
+     */
+    public boolean allowRequest() {
+        return !settings.isEnabled() || state.get() == State.CLOSED;
+    }
+
+    public boolean isOpen() {
+        return state.get() == State.OPEN;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public Instant getOpenedAt() {
+        return openedAt;
+    }
+
+    /**
+     * Record a completed call; calls slower than the threshold count as failures
+     *
+     * @param elapsedMillis Call duration
+     */
+    public void recordSuccess(long elapsedMillis) {
+        if (elapsedMillis > settings.getSlowCallMillis()) {
+            log.warn("Slow database call: {} ms (threshold {} ms)", elapsedMillis, settings.getSlowCallMillis());
+            recordFailure();
+            return;
+        }
+        consecutiveFailures.set(0);
+    }
+
+    public void recordFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= settings.getFailureThreshold() && state.compareAndSet(State.CLOSED, State.OPEN)) {
+            openedAt = Instant.now();
+            log.error("Database circuit OPENED after {} consecutive failures - serving last-known-good snapshots",
+                    failures);
+        }
+    }
+
+    /**
+     * Background probe; closes the circuit once the database answers again
+     */
+    @Scheduled(fixedDelayString = "${portfolio.resilience.probe-interval-millis:5000}")
+    public void probe() {
+        if (state.get() != State.OPEN) {
+            return;
+        }
+
+        try {
+            long userCount = userRepository.count();
+            consecutiveFailures.set(0);
+            state.set(State.CLOSED);
+            log.info("Database circuit CLOSED - probe succeeded ({} users), open since {}", userCount, openedAt);
+            openedAt = null;
+        } catch (Exception e) {
+            log.debug("Database probe failed, circuit stays open: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Whether a failure originates from the data layer (as opposed to a bug in mapping code)
+     *
+     * @param throwable Failure thrown by a read
+     * @return true if any cause is a database/transaction exception
+     */
+    public static boolean isDatabaseFailure(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof DataAccessException
+                    || current instanceof TransactionException
+                    || current instanceof SQLException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+package com.portfolio.cache;
+
+import com.portfolio.config.ApplicationConfig;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Parsed and validated GraphQL documents, keyed by query text
+ * Clients send a small set of query shapes with varying variables, so parsing and
+ * validation run once per shape; repeats go straight to execution. Only documents that
+ * validated cleanly are kept, and the least recently used shape is evicted at capacity.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class GraphQlDocumentCache implements PreparsedDocumentProvider {
+
+    private final Map<String, PreparsedDocumentEntry> documents;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public GraphQlDocumentCache(ApplicationConfig.PortfolioProperties portfolioProperties,
+                                MeterRegistry meterRegistry) {
+        int capacity = Math.max(1, portfolioProperties.getGraphql().getDocumentCacheSize());
+        this.documents = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparsedDocumentEntry> eldest) {
+                return size() > capacity;
+            }
+        };
+
+        Gauge.builder("portfolio.graphql.document-cache.size", this, GraphQlDocumentCache::size)
+                .register(meterRegistry);
+        FunctionCounter.builder("portfolio.graphql.document-cache.hits", hits, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("portfolio.graphql.document-cache.misses", misses, LongAdder::sum)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        String query = executionInput.getQuery();
+
+        PreparsedDocumentEntry cached;
+        synchronized (documents) {
+            cached = documents.get(query);
+        }
+        if (cached != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        misses.increment();
+        PreparsedDocumentEntry entry = parseAndValidate.apply(executionInput);
+        if (!entry.hasErrors()) {
+            synchronized (documents) {
+                documents.put(query, entry);
+            }
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    public int size() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+}
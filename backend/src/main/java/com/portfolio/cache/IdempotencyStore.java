@@ -0,0 +1,205 @@
+package com.portfolio.cache;
+
+import com.portfolio.config.ApplicationConfig;
+import com.portfolio.entity.IdempotencyRecord;
+import com.portfolio.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Responses of Idempotency-Key requests, kept for replay
+ * Bounded (least recently used first out) and expiring after the configured TTL. A key is
+ * claimed before its request runs, so a duplicate that arrives while the original is still
+ * in flight waits on the same future instead of running again. Completed responses can also
+ * be written to idempotency_keys so replays survive a restart.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    /**
+     * Response replayed for a repeated key
+     */
+    public record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    /**
+     * Outcome of claiming a key
+     *
+     * @param owner    The caller runs the request and must complete or release the key
+     * @param mismatch The key was already used with a different request body
+     * @param result   Completes with the stored response, or null when the owner released the key
+     */
+    public record Claim(boolean owner, boolean mismatch, CompletableFuture<StoredResponse> result) {
+    }
+
+    private static final class Entry {
+        private final String requestHash;
+        private final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+        private volatile long expiresAtMillis;
+
+        private Entry(String requestHash, long expiresAtMillis) {
+            this.requestHash = requestHash;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    private final ApplicationConfig.Idempotency settings;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Map<String, Entry> entries;
+
+    public IdempotencyStore(ApplicationConfig.PortfolioProperties portfolioProperties,
+                            IdempotencyRecordRepository idempotencyRecordRepository,
+                            MeterRegistry meterRegistry) {
+        this.settings = portfolioProperties.getIdempotency();
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > settings.getMaxEntries();
+            }
+        };
+
+        Gauge.builder("portfolio.idempotency.keys", this, IdempotencyStore::size).register(meterRegistry);
+    }
+
+    /**
+     * Claim a key for a request, or join the request that already holds it
+     *
+     * @param keyHash     SHA-256 of method, path and Idempotency-Key
+     * @param requestHash SHA-256 of the request body
+     */
+    public Claim claim(String keyHash, String requestHash) {
+        Claim existing = existing(keyHash, requestHash);
+        if (existing != null) {
+            return existing;
+        }
+
+        // Not in memory: a persisted response from before a restart is as good as a live one
+        IdempotencyRecord persisted = settings.isPersist() ? load(keyHash) : null;
+
+        synchronized (this) {
+            existing = existing(keyHash, requestHash);
+            if (existing != null) {
+                return existing;
+            }
+
+            if (persisted != null) {
+                Entry entry = new Entry(persisted.getRequestHash(), toMillis(persisted.getExpiresAt()));
+                entry.result.complete(new StoredResponse(persisted.getStatus(), persisted.getContentType(), persisted.getBody()));
+                entries.put(keyHash, entry);
+                return new Claim(false, !entry.requestHash.equals(requestHash), entry.result);
+            }
+
+            Entry entry = new Entry(requestHash, System.currentTimeMillis() + settings.getTtlSeconds() * 1000L);
+            entries.put(keyHash, entry);
+            return new Claim(true, false, entry.result);
+        }
+    }
+
+    /**
+     * Store the owner's response and hand it to every waiting duplicate
+     */
+    public void complete(String keyHash, Claim claim, StoredResponse response) {
+        long expiresAt = System.currentTimeMillis() + settings.getTtlSeconds() * 1000L;
+        String requestHash = null;
+        synchronized (this) {
+            Entry entry = entries.get(keyHash);
+            if (entry != null && entry.result == claim.result()) {
+                entry.expiresAtMillis = expiresAt;
+                requestHash = entry.requestHash;
+            }
+        }
+        claim.result().complete(response);
+
+        if (settings.isPersist() && requestHash != null) {
+            try {
+                idempotencyRecordRepository.save(new IdempotencyRecord(keyHash, requestHash,
+                        response.status(), response.contentType(), response.body(),
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAt), ZoneId.systemDefault())));
+            } catch (Exception e) {
+                log.warn("Could not persist idempotent response: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Give the key up without a response (server error), so a retry runs the request again
+     */
+    public void release(String keyHash, Claim claim) {
+        synchronized (this) {
+            Entry entry = entries.get(keyHash);
+            if (entry != null && entry.result == claim.result()) {
+                entries.remove(keyHash);
+            }
+        }
+        claim.result().complete(null);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.idempotency.purge-interval-millis:600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.result.isDone() && entry.expiresAtMillis < now) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        if (settings.isPersist()) {
+            try {
+                int removed = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+                log.debug("Purged {} expired idempotency keys", removed);
+            } catch (Exception e) {
+                log.warn("Could not purge expired idempotency keys: {}", e.getMessage());
+            }
+        }
+    }
+
+    private synchronized Claim existing(String keyHash, String requestHash) {
+        Entry entry = entries.get(keyHash);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.result.isDone() && entry.expiresAtMillis < System.currentTimeMillis()) {
+            entries.remove(keyHash);
+            return null;
+        }
+        return new Claim(false, !entry.requestHash.equals(requestHash), entry.result);
+    }
+
+    private IdempotencyRecord load(String keyHash) {
+        try {
+            return idempotencyRecordRepository.findById(keyHash)
+                    .filter(record -> record.getExpiresAt().isAfter(LocalDateTime.now()))
+                    .orElse(null);
+        } catch (Exception e) {
+            log.warn("Could not read persisted idempotency key: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,20 @@
+package com.portfolio.cache;
+
+import java.time.Instant;
+
+/**
+ * Result of a resilient read: the value, when it was read from the database,
+ * and whether it came from a last-known-good snapshot instead of a live query
+ *
+ * @author Debojit Chakraborty
+ */
+public record ReadResult<T>(T value, Instant asOf, boolean stale) {
+
+    public static <T> ReadResult<T> fresh(T value) {
+        return new ReadResult<>(value, Instant.now(), false);
+    }
+
+    public static <T> ReadResult<T> stale(T value, Instant asOf) {
+        return new ReadResult<>(value, asOf, true);
+    }
+}
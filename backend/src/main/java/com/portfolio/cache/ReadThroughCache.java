@@ -0,0 +1,166 @@
+package com.portfolio.cache;
+
+import com.portfolio.config.ApplicationConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache with single-flight loading and stale-while-revalidate
+ * Concurrent misses for the same key share one in-flight load; entries past their
+ * fresh TTL are still served while a single background refresh runs on the task executor
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class ReadThroughCache {
+
+    private record Entry(ReadResult<?> result, long loadedAtNanos, long version) {
+    }
+
+    private final ContentVersion contentVersion;
+    private final Executor taskExecutor;
+    private final ApplicationConfig.Cache settings;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<ReadResult<?>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public ReadThroughCache(ContentVersion contentVersion,
+                            @Qualifier("taskExecutor") Executor taskExecutor,
+                            ApplicationConfig.PortfolioProperties portfolioProperties,
+                            MeterRegistry meterRegistry) {
+        this.contentVersion = contentVersion;
+        this.taskExecutor = taskExecutor;
+        this.settings = portfolioProperties.getCache();
+
+        this.hits = Counter.builder("portfolio.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.staleHits = Counter.builder("portfolio.cache.requests").tag("result", "stale-hit").register(meterRegistry);
+        this.misses = Counter.builder("portfolio.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.coalesced = Counter.builder("portfolio.cache.requests").tag("result", "coalesced").register(meterRegistry);
+        Gauge.builder("portfolio.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Get a value, loading it at most once per key at a time
+     *
+     * @param key    Cache key, e.g. "projects:1"
+     * @param loader Loads the value; runs on the calling thread for misses
+     * @return Cached or freshly loaded result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ReadResult<T> get(String key, Supplier<ReadResult<T>> loader) {
+        if (!settings.isEnabled()) {
+            return loader.get();
+        }
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version() == contentVersion.current()) {
+            long ageMillis = (System.nanoTime() - entry.loadedAtNanos()) / 1_000_000L;
+
+            if (ageMillis <= settings.getFreshTtlSeconds() * 1000L) {
+                hits.increment();
+                return (ReadResult<T>) entry.result();
+            }
+            if (ageMillis <= (settings.getFreshTtlSeconds() + settings.getStaleTtlSeconds()) * 1000L) {
+                staleHits.increment();
+                refreshInBackground(key, loader);
+                return (ReadResult<T>) entry.result();
+            }
+        }
+
+        misses.increment();
+        return (ReadResult<T>) loadShared(key, loader);
+    }
+
+    /**
+     * Drop every cached entry (content version bumps make this unnecessary for writes)
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private ReadResult<?> loadShared(String key, Supplier<? extends ReadResult<?>> loader) {
+        CompletableFuture<ReadResult<?>> mine = new CompletableFuture<>();
+        CompletableFuture<ReadResult<?>> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        runLoad(key, loader, mine);
+        return await(mine);
+    }
+
+    private void refreshInBackground(String key, Supplier<? extends ReadResult<?>> loader) {
+        CompletableFuture<ReadResult<?>> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return; // a load or refresh for this key is already running
+        }
+
+        try {
+            taskExecutor.execute(() -> runLoad(key, loader, mine));
+        } catch (RejectedExecutionException e) {
+            // Executor saturated: refresh inline rather than leave waiters on a future nobody completes
+            log.debug("Background refresh of {} rejected, refreshing on the request thread", key);
+            runLoad(key, loader, mine);
+        }
+    }
+
+    private void runLoad(String key, Supplier<? extends ReadResult<?>> loader,
+                         CompletableFuture<ReadResult<?>> future) {
+        long version = contentVersion.current();
+        try {
+            ReadResult<?> result = loader.get();
+
+            // Snapshot fallbacks are never cached so the next request retries the database
+            if (!result.stale()) {
+                entries.put(key, new Entry(result, System.nanoTime(), version));
+                evictIfNeeded();
+            }
+            future.complete(result);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private void evictIfNeeded() {
+        if (entries.size() <= settings.getMaxEntries()) {
+            return;
+        }
+
+        entries.entrySet().stream()
+                .min((a, b) -> Long.compare(a.getValue().loadedAtNanos(), b.getValue().loadedAtNanos()))
+                .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+    }
+
+    private static ReadResult<?> await(CompletableFuture<ReadResult<?>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
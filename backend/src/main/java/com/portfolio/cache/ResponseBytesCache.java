@@ -0,0 +1,109 @@
+package com.portfolio.cache;
+
+import com.portfolio.config.ApplicationConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of fully serialized response bodies
+ * Entries are tagged with the content version they were rendered from, so a write
+ * invalidates them the same way it invalidates the DTO read-through cache
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class ResponseBytesCache {
+
+    /**
+     * Final response bytes with the headers needed to replay them
+     */
+    public record CachedResponse(byte[] body, String contentType, String contentEncoding,
+                                 String etag, long version, long storedAtNanos) {
+    }
+
+    private final ContentVersion contentVersion;
+    private final ApplicationConfig.Cache settings;
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+
+    public ResponseBytesCache(ContentVersion contentVersion,
+                              ApplicationConfig.PortfolioProperties portfolioProperties,
+                              MeterRegistry meterRegistry) {
+        this.contentVersion = contentVersion;
+        this.settings = portfolioProperties.getCache();
+
+        Gauge.builder("portfolio.response-cache.size", entries, Map::size).register(meterRegistry);
+        Gauge.builder("portfolio.response-cache.bytes", this, ResponseBytesCache::totalBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param key Endpoint + query + representation key
+     * @return Entry if present, rendered from the current content version and still fresh
+     */
+    public CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+
+        long ageMillis = (System.nanoTime() - cached.storedAtNanos()) / 1_000_000L;
+        if (cached.version() != contentVersion.current() || ageMillis > settings.getFreshTtlSeconds() * 1000L) {
+            entries.remove(key, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Store rendered bytes under the given content version
+     *
+     * @param version Content version observed before the response was rendered
+     */
+    public CachedResponse put(String key, byte[] body, String contentType, String contentEncoding, long version) {
+        CachedResponse cached = new CachedResponse(body, contentType, contentEncoding,
+                etagFor(body), version, System.nanoTime());
+        entries.put(key, cached);
+
+        if (entries.size() > settings.getResponseMaxEntries()) {
+            entries.entrySet().stream()
+                    .min((a, b) -> Long.compare(a.getValue().storedAtNanos(), b.getValue().storedAtNanos()))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+        }
+        return cached;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public Map<String, CachedResponse> snapshot() {
+        return Map.copyOf(entries);
+    }
+
+    private double totalBytes() {
+        long total = 0;
+        for (CachedResponse cached : entries.values()) {
+            total += cached.body().length;
+        }
+        return total;
+    }
+
+    private static String etagFor(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
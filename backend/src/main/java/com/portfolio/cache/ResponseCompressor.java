@@ -0,0 +1,131 @@
+package com.portfolio.cache;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.portfolio.config.ApplicationConfig;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content-coding negotiation and compression for cached response bodies
+ * Brotli is used when the native encoder could be loaded, gzip otherwise
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class ResponseCompressor {
+
+    /**
+     * Supported content codings, in order of preference
+     */
+    public enum Coding {
+        BROTLI("br"), GZIP("gzip"), IDENTITY(null);
+
+        @Getter
+        private final String headerValue;
+
+        Coding(String headerValue) {
+            this.headerValue = headerValue;
+        }
+    }
+
+    private final ApplicationConfig.Compression settings;
+
+    @Getter
+    private final boolean brotliAvailable;
+
+    public ResponseCompressor(ApplicationConfig.PortfolioProperties portfolioProperties) {
+        this.settings = portfolioProperties.getCompression();
+        this.brotliAvailable = settings.isBrotliEnabled() && loadBrotli();
+
+        log.info("Response compression {} - gzip level {}, brotli {}",
+                settings.isEnabled() ? "enabled" : "disabled",
+                settings.getGzipLevel(),
+                brotliAvailable ? "quality " + settings.getBrotliQuality() : "unavailable");
+    }
+
+    /**
+     * Pick the best coding the client accepts for a body of the given size
+     *
+     * @param acceptEncoding Accept-Encoding request header (may be null)
+     * @param bodySize       Uncompressed body size
+     * @return Coding to use
+     */
+    public Coding negotiate(String acceptEncoding, int bodySize) {
+        if (!settings.isEnabled() || acceptEncoding == null || bodySize < settings.getMinSizeBytes()) {
+            return Coding.IDENTITY;
+        }
+
+        boolean brotli = false;
+        boolean gzip = false;
+        for (String token : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = token.trim().split(";");
+            if (parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?")) {
+                continue; // explicitly not acceptable
+            }
+            switch (parts[0].trim()) {
+                case "br" -> brotli = true;
+                case "gzip", "*" -> gzip = true;
+                default -> { }
+            }
+        }
+
+        if (brotli && brotliAvailable) {
+            return Coding.BROTLI;
+        }
+        return gzip ? Coding.GZIP : Coding.IDENTITY;
+    }
+
+    /**
+     * Compress with the configured level for the coding
+     */
+    public byte[] compress(byte[] body, Coding coding) {
+        return switch (coding) {
+            case BROTLI -> brotli(body, settings.getBrotliQuality());
+            case GZIP -> gzip(body, settings.getGzipLevel());
+            case IDENTITY -> body;
+        };
+    }
+
+    public byte[] gzip(byte[] body, int level) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public byte[] brotli(byte[] body, int quality) {
+        if (!brotliAvailable) {
+            throw new IllegalStateException("Brotli encoder is not available");
+        }
+        try {
+            return Encoder.compress(body, new Encoder.Parameters().setQuality(quality));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean loadBrotli() {
+        try {
+            return Brotli4jLoader.isAvailable();
+        } catch (Throwable t) {
+            log.warn("Brotli native library could not be loaded, using gzip only: {}", t.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.portfolio.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.portfolio.config.ApplicationConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Last-known-good snapshot store
+ * Keeps the most recent successful read result per key in memory and on local disk,
+ * so reads can still be answered (marked stale) while the database is unavailable,
+ * including right after a restart
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class SnapshotStore {
+
+    /**
+     * A stored value together with the time it was read from the database
+     */
+    public record Snapshot<T>(T value, Instant savedAt) {
+    }
+
+    private record Entry(byte[] payload, byte[] digest, Instant savedAt) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Executor taskExecutor;
+    private final Path directory;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public SnapshotStore(ObjectMapper objectMapper,
+                         @Qualifier("taskExecutor") Executor taskExecutor,
+                         ApplicationConfig.PortfolioProperties portfolioProperties) {
+        this.objectMapper = objectMapper;
+        this.taskExecutor = taskExecutor;
+        this.directory = Paths.get(portfolioProperties.getResilience().getSnapshotDir());
+    }
+
+    /**
+     * Remember a successful read; only writes to disk when the content actually changed
+     *
+     * @param key   Snapshot key, e.g. "projects:1"
+     * @param value Value read from the database
+     */
+    public void save(String key, Object value) {
+        if (value == null) {
+            return;
+        }
+
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(value);
+            byte[] digest = sha256(payload);
+
+            Entry previous = entries.get(key);
+            if (previous != null && Arrays.equals(previous.digest(), digest)) {
+                // Unchanged content: only refresh the verification time kept in memory
+                entries.put(key, new Entry(previous.payload(), digest, Instant.now()));
+                return;
+            }
+
+            Entry entry = new Entry(payload, digest, Instant.now());
+            entries.put(key, entry);
+            taskExecutor.execute(() -> persist(key, entry));
+        } catch (Exception e) {
+            log.warn("Could not snapshot {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Load the last-known-good value for a key, from memory or from disk
+     *
+     * @param key  Snapshot key
+     * @param type Target type
+     * @return Snapshot if one was ever saved
+     */
+    public <T> Optional<Snapshot<T>> load(String key, TypeReference<T> type) {
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                entry = readFromDisk(key);
+                if (entry == null) {
+                    return Optional.empty();
+                }
+                entries.putIfAbsent(key, entry);
+            }
+
+            T value = objectMapper.readValue(entry.payload(), type);
+            return Optional.of(new Snapshot<>(value, entry.savedAt()));
+        } catch (Exception e) {
+            log.error("Could not load snapshot {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void persist(String key, Entry entry) {
+        if (entries.get(key) != entry) {
+            return; // superseded by a newer snapshot before this write ran
+        }
+
+        try {
+            Files.createDirectories(directory);
+
+            ObjectNode document = objectMapper.createObjectNode();
+            document.put("savedAt", entry.savedAt().toString());
+            document.set("payload", objectMapper.readTree(entry.payload()));
+
+            Path target = fileFor(key);
+            Path temp = Files.createTempFile(directory, "snapshot", ".tmp");
+            Files.write(temp, objectMapper.writeValueAsBytes(document));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            log.debug("Snapshot {} written to {}", key, target);
+        } catch (IOException e) {
+            log.warn("Could not persist snapshot {}: {}", key, e.getMessage());
+        }
+    }
+
+    private Entry readFromDisk(String key) throws IOException {
+        Path file = fileFor(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        JsonNode document = objectMapper.readTree(file.toFile());
+        byte[] payload = objectMapper.writeValueAsBytes(document.get("payload"));
+        Instant savedAt = Instant.parse(document.get("savedAt").asText());
+        log.info("Loaded snapshot {} from disk (saved at {})", key, savedAt);
+        return new Entry(payload, sha256(payload), savedAt);
+    }
+
+    private Path fileFor(String key) {
+        return directory.resolve(key.replaceAll("[^A-Za-z0-9_-]", "_") + ".json");
+    }
+
+    private static byte[] sha256(byte[] payload) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(payload);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.portfolio.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Adds staleness headers to responses that were answered from a last-known-good snapshot
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@RestControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STALE_HEADER = "X-Data-Stale";
+    public static final String AS_OF_HEADER = "X-Data-As-Of";
+
+    private static final String STALE_AS_OF_ATTRIBUTE = StaleResponseAdvice.class.getName() + ".asOf";
+
+    /**
+     * Flag the current request as served from stale data
+     *
+     * @param asOf Time the data was last read from the database
+     */
+    public static void markStale(Instant asOf) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return; // not on a request thread
+        }
+
+        Object previous = attributes.getAttribute(STALE_AS_OF_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (previous instanceof Instant earlier && earlier.isBefore(asOf)) {
+            return; // keep the oldest timestamp when several reads were stale
+        }
+        attributes.setAttribute(STALE_AS_OF_ATTRIBUTE, asOf, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * @return true if the current request has been answered with stale data
+     */
+    public static boolean isStale() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && attributes.getAttribute(STALE_AS_OF_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return body;
+        }
+
+        Object asOf = attributes.getAttribute(STALE_AS_OF_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (asOf instanceof Instant savedAt) {
+            long ageSeconds = Math.max(0, Duration.between(savedAt, Instant.now()).getSeconds());
+
+            HttpHeaders headers = response.getHeaders();
+            headers.set(STALE_HEADER, "true");
+            headers.set(AS_OF_HEADER, savedAt.toString());
+            headers.set(HttpHeaders.AGE, String.valueOf(ageSeconds));
+            headers.set("Warning", "110 - \"Response is Stale\"");
+            headers.setCacheControl("no-store");
+
+            log.debug("Serving stale response for {} (age {}s)", request.getURI(), ageSeconds);
+        }
+        return body;
+    }
+}
@@ -1,5 +1,7 @@
 package com.portfolio.config;
 
+import com.portfolio.cache.DatabaseCircuitBreaker;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
@@ -25,8 +27,11 @@ public class ActuatorConfig {
      * Custom health indicator for portfolio application
      */
     @Component
+    @RequiredArgsConstructor
     public static class PortfolioHealthIndicator implements HealthIndicator {
 
+        private final DatabaseCircuitBreaker databaseCircuitBreaker;
+
         @Override
         public Health health() {
             log.debug("Checking portfolio application health");
@@ -60,8 +65,8 @@ public class ActuatorConfig {
         }
 
         private boolean checkDatabaseHealth() {
-            // Add actual database health check logic
-            return true;
+            // Open circuit means reads are currently served from last-known-good snapshots
+            return !databaseCircuitBreaker.isOpen();
         }
 
         private boolean checkApiHealth() {
@@ -9,6 +9,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * General Application Configuration
  * Contains common beans and configuration
@@ -49,7 +52,277 @@ public class ApplicationConfig {
         private String author = "Debojit Chakraborty";
         private boolean enableSampleData = true;
         private String supportEmail = "devchakraborty9914@gmail.com";
+        private Concurrency concurrency = new Concurrency();
+        private Resilience resilience = new Resilience();
+        private Cache cache = new Cache();
+        private Compression compression = new Compression();
+        private Assets assets = new Assets();
+        private Images images = new Images();
+        private Uploads uploads = new Uploads();
+        private Graphql graphql = new Graphql();
+        private Batch batch = new Batch();
+        private Events events = new Events();
+        private Analytics analytics = new Analytics();
+        private Classification classification = new Classification();
+        private Idempotency idempotency = new Idempotency();
+        private Notifications notifications = new Notifications();
+        private Archive archive = new Archive();
+
+    }
+
+    /**
+     * Adaptive concurrency limiter settings (portfolio.concurrency.*)
+     */
+    @Getter
+    @Setter
+    public static class Concurrency {
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        private double smoothing = 0.2;
+        private double rttTolerance = 1.5;
+        private long windowMillis = 250;
+        private int retryAfterSeconds = 1;
+
+        // Share of the global limit each priority group may occupy
+        private double criticalShare = 1.0;
+        private double standardShare = 0.85;
+        private double bulkShare = 0.5;
+
+        private List<String> criticalPaths = new ArrayList<>(List.of(
+                "/portfolio/summary", "/portfolio/health", "/health", "/actuator/health"));
+        private List<String> bulkPaths = new ArrayList<>(List.of(
+                "/portfolio/contact/messages", "/portfolio/batch", "/auth/profile/**", "/actuator/**"));
+    }
+
+    /**
+     * Database circuit breaker and last-known-good snapshot settings (portfolio.resilience.*)
+     */
+    @Getter
+    @Setter
+    public static class Resilience {
+        private boolean enabled = true;
+        private int failureThreshold = 5;
+        private long slowCallMillis = 3000;
+        private long probeIntervalMillis = 5000;
+        private String snapshotDir = "./data/snapshots";
+    }
+
+    /**
+     * Read-through cache settings for portfolio reads (portfolio.cache.*)
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private long freshTtlSeconds = 60;
+        private long staleTtlSeconds = 600;
+        private int maxEntries = 1000;
+
+        // Pre-serialized response bytes for public GET endpoints (ResponseCacheFilter)
+        private boolean responseCacheEnabled = true;
+        private int responseMaxEntries = 2000;
+        private List<String> responsePaths = new ArrayList<>(List.of(
+                "/portfolio/summary", "/portfolio/user/active",
+                "/portfolio/experience/**", "/portfolio/projects/*",
+                "/portfolio/skills/**", "/portfolio/education/*",
+                "/portfolio/search", "/portfolio/search/tags"));
+    }
+
+    /**
+     * Pre-compressed response variant settings (portfolio.compression.*)
+     */
+    @Getter
+    @Setter
+    public static class Compression {
+        private boolean enabled = true;
+        private boolean brotliEnabled = true;
+        private int gzipLevel = 6;
+        private int brotliQuality = 5;
+        private int minSizeBytes = 1024;
+    }
+
+    /**
+     * Fingerprinted static asset settings (portfolio.assets.*)
+     */
+    @Getter
+    @Setter
+    public static class Assets {
+        private boolean enabled = true;
+        private String uploadDir = "./uploads";
+        private String classpathLocation = "static/files";
+        private long maxAgeSeconds = 31_536_000L;
+        // Below this size a plain channel copy beats setting up sendfile
+        private long sendfileMinBytes = 48 * 1024;
+    }
+
+    /**
+     * Resized image variant settings (portfolio.images.*)
+     */
+    @Getter
+    @Setter
+    public static class Images {
+        private boolean enabled = true;
+        private boolean webpEnabled = true;
+        private List<Integer> widths = new ArrayList<>(List.of(320, 640, 1024, 1600));
+        private float jpegQuality = 0.82f;
+        private int maxConcurrent = 2;
+        private int queueCapacity = 256;
+        private String variantDir = "./uploads/variants";
+        // Larger images are never decoded (a small file can declare a huge canvas)
+        private long maxPixels = 40_000_000;
+    }
+
+    /**
+     * Streaming upload settings (portfolio.uploads.*)
+     */
+    @Getter
+    @Setter
+    public static class Uploads {
+        private boolean enabled = true;
+        private long maxImageBytes = 10L * 1024 * 1024;
+        private long maxResumeBytes = 20L * 1024 * 1024;
+        // Allowance for multipart headers and boundaries on top of the file itself
+        private long maxOverheadBytes = 64L * 1024;
+    }
+
+    /**
+     * GraphQL endpoint limits (portfolio.graphql.*)
+     */
+    @Getter
+    @Setter
+    public static class Graphql {
+        private int maxDepth = 8;
+        private int maxComplexity = 300;
+        // Parsed and validated documents kept per distinct query text
+        private int documentCacheSize = 500;
+    }
+
+    /**
+     * Batch read endpoint settings (portfolio.batch.*)
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+        private int maxRequests = 20;
+        // Deadline for the whole batch; sub-requests still running are answered with 504
+        private long timeoutMillis = 2000;
+        // Sub-requests of one batch allowed to wait on the database at the same time
+        private int maxParallel = 4;
+    }
+
+    /**
+     * Server-sent change stream settings (portfolio.events.*)
+     */
+    @Getter
+    @Setter
+    public static class Events {
+        private boolean enabled = true;
+        private int maxSubscribers = 500;
+        // Events buffered per connection before a slow client is told to resync
+        private int queueCapacity = 64;
+        private long timeoutMillis = 1800000;
+        private long heartbeatMillis = 25000;
+    }
 
+    /**
+     * Visitor analytics settings (portfolio.analytics.*)
+     */
+    @Getter
+    @Setter
+    public static class Analytics {
+        private boolean enabled = true;
+        private long flushIntervalMillis = 5000;
+        // Distinct (day, type, target) keys held between flushes; further new keys are dropped
+        private int maxPendingKeys = 10000;
+        // HyperLogLog precision: 2^p registers, about 1.04 / sqrt(2^p) standard error
+        private int sketchPrecision = 14;
+        private int maxEventsPerBeacon = 20;
+        // SECTION_VIEW targets that are counted; anything else is rejected
+        private List<String> sections = List.of("hero", "about", "experience", "projects", "skills", "education", "contact");
+        // Distinct targets accepted per day across all event types
+        private int maxTargetsPerDay = 1000;
+    }
+
+    /**
+     * Contact message duplicate and spam classification settings (portfolio.classification.*)
+     */
+    @Getter
+    @Setter
+    public static class Classification {
+        private boolean enabled = true;
+        private double spamThreshold = 0.8;
+        // SimHash bits two messages may differ in and still be duplicates (0-15; the index uses distance + 1 bands)
+        private int maxDistance = 3;
+        private int windowDays = 30;
+        private int maxIndexedMessages = 50000;
+        private long evictIntervalMillis = 3600000;
+        // How often messages still PENDING (e.g. after a rejected or failed run) are queued again
+        private long recheckIntervalMillis = 60000;
+    }
+
+    /**
+     * Idempotency-Key handling for retried POSTs (portfolio.idempotency.*)
+     */
+    @Getter
+    @Setter
+    public static class Idempotency {
+        private boolean enabled = true;
+        private List<String> paths = new ArrayList<>(List.of("/portfolio/contact", "/auth/register"));
+        private long ttlSeconds = 86400;
+        private int maxEntries = 10000;
+        private int maxKeyLength = 255;
+        private int maxBodyBytes = 65536;
+        // How long a retry waits for the original request still in flight before answering 409
+        private long inFlightWaitMillis = 10000;
+        // Also keep completed responses in idempotency_keys so replays survive restarts
+        private boolean persist = false;
+        private long purgeIntervalMillis = 600000;
+    }
+
+    /**
+     * Contact message e-mail outbox and dispatcher settings (portfolio.notifications.*)
+     */
+    @Getter
+    @Setter
+    public static class Notifications {
+        private boolean enabled = true;
+        private String fromAddress = "no-reply@localhost";
+        // Tell the support address about new inbox messages / mail responses to the sender
+        private boolean notifyNewMessages = true;
+        private boolean sendResponses = true;
+        private long pollIntervalMillis = 2000;
+        private int batchSize = 20;
+        private int maxPerMinute = 30;
+        private int maxAttempts = 8;
+        private long initialBackoffSeconds = 30;
+        private long maxBackoffSeconds = 3600;
+        // A claimed batch becomes claimable again if the dispatcher dies mid-send
+        private long leaseSeconds = 120;
+        // How long a new-message notice waits for spam/duplicate classification
+        private long classificationWaitSeconds = 60;
+        // Sent and skipped notifications are deleted after this many days
+        private int retentionDays = 14;
+        private long purgeIntervalMillis = 3600000;
+    }
+
+    /**
+     * Contact message archival settings (portfolio.archive.*)
+     */
+    @Getter
+    @Setter
+    public static class Archive {
+        // Needs a persistent volume at the directory and a single backend instance
+        private boolean enabled = false;
+        // Read messages older than this move from contact_messages to the archive
+        private int retentionDays = 180;
+        private String directory = "./data/archive";
+        private int blockSize = 200;
+        private long segmentMaxBytes = 8388608;
+        private int blockCacheSize = 32;
+        private int maxMessagesPerRun = 10000;
+        private long intervalMillis = 3600000;
     }
 
     // Log application startup info
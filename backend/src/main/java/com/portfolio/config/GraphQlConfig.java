@@ -0,0 +1,57 @@
+package com.portfolio.config;
+
+import com.portfolio.cache.GraphQlDocumentCache;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * GraphQL Configuration
+ * Rejects queries that nest too deeply or would fan out too far before they execute,
+ * and reuses parsed/validated documents across requests
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Configuration
+public class GraphQlConfig {
+
+    // A list field costs its children this many times over, as if it returned this many rows
+    private static final int LIST_FACTOR = 5;
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+            ApplicationConfig.PortfolioProperties portfolioProperties) {
+        return new MaxQueryDepthInstrumentation(portfolioProperties.getGraphql().getMaxDepth());
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            ApplicationConfig.PortfolioProperties portfolioProperties) {
+        int maxComplexity = portfolioProperties.getGraphql().getMaxComplexity();
+        log.info("GraphQL limits: depth {}, complexity {}", portfolioProperties.getGraphql().getMaxDepth(), maxComplexity);
+
+        FieldComplexityCalculator calculator = (environment, childComplexity) ->
+                isList(environment.getFieldDefinition().getType())
+                        ? 1 + childComplexity * LIST_FACTOR
+                        : 1 + childComplexity;
+        return new MaxQueryComplexityInstrumentation(maxComplexity, calculator);
+    }
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer documentCacheCustomizer(GraphQlDocumentCache documentCache) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(documentCache));
+    }
+
+    private static boolean isList(GraphQLType type) {
+        GraphQLType unwrapped = type instanceof GraphQLNonNull nonNull ? nonNull.getWrappedType() : type;
+        return unwrapped instanceof GraphQLList;
+    }
+}
@@ -2,15 +2,24 @@ package com.portfolio.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.portfolio.dto.SparseFields;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 /**
- * Jackson JSON Configuration
- * Configures JSON serialization/deserialization
+ * Jackson Configuration
+ * Configures JSON serialization/deserialization, plus CBOR and Smile for clients that
+ * send Accept: application/cbor or application/x-jackson-smile. All three mappers share
+ * the same settings, so every format carries exactly the same data.
  *
  * @author Debojit Chakraborty
  */
@@ -23,11 +32,7 @@ public class JacksonConfig {
     public ObjectMapper objectMapper() {
         log.info("Configuring Jackson ObjectMapper for JSON processing");
 
-        ObjectMapper mapper = new ObjectMapper();
-
-        // Handle Java 8 time types properly
-        mapper.registerModule(new JavaTimeModule());
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper mapper = configure(new ObjectMapper());
 
         // Pretty print JSON in development
         mapper.enable(SerializationFeature.INDENT_OUTPUT);
@@ -35,4 +40,35 @@ public class JacksonConfig {
         log.debug("Jackson ObjectMapper configured with JavaTimeModule");
         return mapper;
     }
+
+    /**
+     * Replaces the default CBOR converter, which would not know the sparse-fieldset filter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(configure(new CBORMapper()));
+    }
+
+    /**
+     * Replaces the default Smile converter, which would not know the sparse-fieldset filter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(configure(new SmileMapper()));
+    }
+
+    /**
+     * Settings shared by every wire format
+     */
+    static <M extends ObjectMapper> M configure(M mapper) {
+        // Handle Java 8 time types properly
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        // Sparse-fieldset DTOs write every property unless a request selects fewer
+        mapper.setFilterProvider(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(SparseFields.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+        return mapper;
+    }
 }
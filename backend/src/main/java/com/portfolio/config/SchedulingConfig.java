@@ -0,0 +1,21 @@
+package com.portfolio.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Enables @Scheduled background jobs (database probes, cache maintenance)
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public SchedulingConfig() {
+        log.info("Initializing Scheduling Configuration");
+    }
+}
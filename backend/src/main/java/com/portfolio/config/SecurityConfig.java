@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -49,10 +50,16 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> {
                     log.debug("Configuring authorization rules");
                     auth
+                            // Admin inbox actions and statistics - matched before the public /portfolio/** rule
+                            .requestMatchers("/portfolio/contact/messages", "/portfolio/contact/messages/*/**",
+                                    "/portfolio/contact/stats").hasRole("ADMIN")
+
                             // Public endpoints - no authentication required
                             .requestMatchers("/portfolio/**").permitAll()
                             .requestMatchers("/auth/login", "/auth/register", "/auth/check-email").permitAll()
                             .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                            // Every other actuator (metrics, env, benchmarks) - before the permitAll catch-all
+                            .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                             // Swagger/OpenAPI endpoints
                             .requestMatchers("/v3/api-docs", "/v3/api-docs/**").permitAll()
@@ -62,9 +69,10 @@ public class SecurityConfig {
 
                             // Static resources
                             .requestMatchers("/css/**", "/js/**", "/images/**", "/favicon.ico").permitAll()
+                            .requestMatchers("/assets/**").permitAll()
 
                             // Admin endpoints - require authentication
-                            .requestMatchers("/portfolio/contact/messages").hasRole("ADMIN")
+                            .requestMatchers(HttpMethod.GET, "/analytics/**").hasRole("ADMIN")
                             .requestMatchers("/auth/profile/**").authenticated()
 
                             // Allow all other requests (for development)
@@ -109,12 +117,19 @@ public class SecurityConfig {
                 "Accept",
                 "Origin",
                 "Access-Control-Request-Method",
-                "Access-Control-Request-Headers"
+                "Access-Control-Request-Headers",
+                "Idempotency-Key"
         ));
 
         configuration.setExposedHeaders(List.of(
                 "Access-Control-Allow-Origin",
-                "Access-Control-Allow-Credentials"
+                "Access-Control-Allow-Credentials",
+                "Retry-After",
+                "X-Data-Stale",
+                "X-Data-As-Of",
+                "X-Cache",
+                "ETag",
+                "Idempotent-Replayed"
         ));
 
         configuration.setAllowCredentials(true);
@@ -0,0 +1,69 @@
+package com.portfolio.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.portfolio.dto.SparseFields;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * Applies the sparse fieldset selected by the controller to the response being serialized
+ *
+ * @author Debojit Chakraborty
+ */
+@RestControllerAdvice
+public class SparseFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        SparseFields.Selection selection = SparseFields.selected();
+        if (selection != null) {
+            bodyContainer.setFilters(filtersFor(selection));
+        }
+    }
+
+    /**
+     * Filters writing only the selected properties, for callers serializing outside a controller response
+     */
+    public static FilterProvider filtersFor(SparseFields.Selection selection) {
+        return new SimpleFilterProvider()
+                .addFilter(SparseFields.FILTER_ID, new SelectionFilter(selection.type(), selection.fields()));
+    }
+
+    /**
+     * Writes only the selected properties of the selected DTO type; other DTOs are written in full
+     */
+    private static final class SelectionFilter extends SimpleBeanPropertyFilter {
+
+        private final Class<?> type;
+        private final Set<String> fields;
+
+        private SelectionFilter(Class<?> type, Set<String> fields) {
+            this.type = type;
+            this.fields = fields;
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider,
+                                     PropertyWriter writer) throws Exception {
+            if (pojo.getClass() != type || fields.contains(writer.getName())) {
+                writer.serializeAsField(pojo, generator, provider);
+            } else if (!generator.canOmitFields()) {
+                writer.serializeAsOmittedField(pojo, generator, provider);
+            }
+        }
+    }
+}
@@ -39,6 +39,7 @@ public class WebConfig implements WebMvcConfigurer {
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         log.info("Configuring static resource handlers");
 
+        // Legacy un-fingerprinted URLs; DTOs now link to the immutable /assets/ URLs (see AssetController)
         // Serve static files (profile images, resumes, project images)
         registry.addResourceHandler("/files/**")
                 .addResourceLocations("classpath:/static/files/")
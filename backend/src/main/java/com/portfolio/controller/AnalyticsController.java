@@ -0,0 +1,200 @@
+package com.portfolio.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.dto.AnalyticsBeaconDTO;
+import com.portfolio.dto.AnalyticsSummaryDTO;
+import com.portfolio.dto.AnalyticsTargetDTO;
+import com.portfolio.dto.ApiResponse;
+import com.portfolio.service.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Visitor analytics endpoints
+ * The beacon is public and cheap (in-memory counters only); the rollup queries are admin-only
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@RestController
+@RequestMapping("/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Visitor analytics beacon and daily rollups")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Record visitor events
+     */
+    @Operation(
+            summary = "Record visitor events",
+            description = "Accepts one event or an array of events ({type, target}) as JSON; any content type is read, so navigator.sendBeacon can post text/plain. Malformed events are skipped."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "202",
+                    description = "Events accepted; data is the number recorded",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Body is not JSON or carries too many events",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @PostMapping("/beacon")
+    public ResponseEntity<ApiResponse<Integer>> beacon(@RequestBody String body, HttpServletRequest request) {
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            List<AnalyticsBeaconDTO> events = new ArrayList<>();
+            if (root != null && root.isArray()) {
+                for (JsonNode node : root) {
+                    events.add(objectMapper.treeToValue(node, AnalyticsBeaconDTO.class));
+                }
+            } else if (root != null && root.isObject()) {
+                events.add(objectMapper.treeToValue(root, AnalyticsBeaconDTO.class));
+            }
+
+            int recorded = analyticsService.record(events, request.getRemoteAddr(), request.getHeader(HttpHeaders.USER_AGENT));
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(recorded, "Events recorded"));
+        } catch (JsonProcessingException e) {
+            log.debug("Unreadable analytics beacon: {}", e.getOriginalMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid beacon", "Body must be a JSON event or array of events"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected analytics beacon: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid beacon", e.getMessage()));
+        }
+    }
+
+    /**
+     * Daily views and unique visitors
+     */
+    @Operation(
+            summary = "Get analytics summary (Admin only)",
+            description = "Daily views by event type and unique visitors for a date range (UTC days, inclusive, default last 30 days). Data lags ingestion by up to one flush interval."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Analytics summary retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = AnalyticsSummaryDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid date range",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "500",
+                    description = "Failed to retrieve analytics summary",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<AnalyticsSummaryDTO>> getSummary(
+            @Parameter(description = "First day (yyyy-MM-dd)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (yyyy-MM-dd)", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = from != null ? from : end.minusDays(29);
+        log.info("Analytics summary requested for {}..{}", start, end);
+
+        try {
+            return ResponseEntity.ok(ApiResponse.success(analyticsService.getSummary(start, end),
+                    "Analytics summary retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid analytics range: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid date range", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error retrieving analytics summary: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to retrieve analytics summary", e.getMessage()));
+        }
+    }
+
+    /**
+     * Most viewed sections, projects or downloads
+     */
+    @Operation(
+            summary = "Get most viewed targets (Admin only)",
+            description = "Targets of one event type ranked by views over a date range (UTC days, inclusive, default last 30 days)"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Top targets retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = AnalyticsTargetDTO.class)))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown event type or invalid date range",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "500",
+                    description = "Failed to retrieve top targets",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @GetMapping("/top")
+    public ResponseEntity<ApiResponse<List<AnalyticsTargetDTO>>> getTopTargets(
+            @Parameter(description = "SECTION_VIEW, PROJECT_VIEW or RESUME_DOWNLOAD", example = "PROJECT_VIEW")
+            @RequestParam(defaultValue = "PROJECT_VIEW") String type,
+            @Parameter(description = "First day (yyyy-MM-dd)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (yyyy-MM-dd)", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Maximum targets (1-100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = from != null ? from : end.minusDays(29);
+        log.info("Top {} targets requested for {}..{}", type, start, end);
+
+        try {
+            return ResponseEntity.ok(ApiResponse.success(analyticsService.getTopTargets(type, start, end, limit),
+                    "Top targets retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid analytics query: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid analytics query", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error retrieving top targets: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to retrieve top targets", e.getMessage()));
+        }
+    }
+}
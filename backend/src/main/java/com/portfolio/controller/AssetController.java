@@ -0,0 +1,115 @@
+package com.portfolio.controller;
+
+import com.portfolio.asset.AssetManifest;
+import com.portfolio.asset.AssetResponseWriter;
+import com.portfolio.asset.ImageVariantService;
+import com.portfolio.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Fingerprinted static asset endpoints
+ * Serves resume, profile and project files under content-hashed URLs
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@RestController
+@RequestMapping("/assets")
+@RequiredArgsConstructor
+@Tag(name = "Assets", description = "Content-hashed static files with range support")
+public class AssetController {
+
+    private final AssetManifest assetManifest;
+    private final AssetResponseWriter assetResponseWriter;
+    private final ImageVariantService imageVariantService;
+
+    /**
+     * Logical path to fingerprinted URL mapping
+     */
+    @Operation(summary = "Get asset manifest", description = "Maps logical file paths to their current content-hashed URLs")
+    @GetMapping("/manifest")
+    public ResponseEntity<ApiResponse<Map<String, String>>> getManifest() {
+        log.debug("Fetching asset manifest");
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(assetManifest.manifest(), "Asset manifest retrieved successfully"));
+    }
+
+    /**
+     * Serve a fingerprinted asset
+     */
+    @Operation(summary = "Get asset", description = "Serves a content-hashed file with immutable caching and HTTP Range support")
+    @GetMapping("/{name:.+}")
+    public void getAsset(@Parameter(description = "Fingerprinted file name") @PathVariable String name,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        Optional<AssetManifest.Asset> asset = assetManifest.find(name);
+        if (asset.isEmpty()) {
+            log.debug("Asset not found: {}", name);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        assetResponseWriter.write(request, response, asset.get(), true);
+    }
+
+    /**
+     * Serve the best resized variant of a fingerprinted image
+     * Until the variants exist the original or a smaller variant is served (revalidated) and
+     * generation is queued; only the variant a request will always get is cached as immutable
+     */
+    @Operation(summary = "Get image variant",
+            description = "Serves a resized JPEG/WebP variant chosen by the w parameter and the Accept header")
+    @GetMapping("/images/{name:.+}")
+    public void getImageVariant(@Parameter(description = "Fingerprinted image name") @PathVariable String name,
+                                @Parameter(description = "Display width in pixels") @RequestParam(defaultValue = "640") int w,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        Optional<AssetManifest.Asset> source = assetManifest.find(name);
+        if (source.isEmpty() || !imageVariantService.isImage(source.get())) {
+            log.debug("Image not found: {}", name);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        Optional<ImageVariantService.Variant> variant =
+                imageVariantService.bestVariant(source.get(), w, request.getHeader(HttpHeaders.ACCEPT));
+        if (variant.isPresent()) {
+            // A smaller fallback is replaced once generation catches up, so it is only revalidated
+            if (!variant.get().exact()) {
+                imageVariantService.enqueue(source.get());
+            }
+            assetResponseWriter.write(request, response, variant.get().asset(), variant.get().exact());
+            return;
+        }
+
+        if (imageVariantService.isOriginalOnly(source.get())) {
+            assetResponseWriter.write(request, response, source.get(), true);
+            return;
+        }
+
+        imageVariantService.enqueue(source.get());
+        assetResponseWriter.write(request, response, source.get(), false);
+    }
+}
@@ -5,6 +5,7 @@ import com.portfolio.dto.UserDTO;
 import com.portfolio.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -157,7 +158,10 @@ public class AuthController {
             **Optional Fields:**
             - phone: Contact phone number
             - bio: Personal biography/description
-            """
+            
+            A retry carrying the same Idempotency-Key returns the original response instead of registering again.
+            """,
+            parameters = @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", description = "Client-generated key (e.g. a UUID) identifying this registration across retries")
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
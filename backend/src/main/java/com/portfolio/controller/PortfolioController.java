@@ -1,17 +1,33 @@
 package com.portfolio.controller;
 
 import com.portfolio.dto.ApiResponse;
+import com.portfolio.dto.BatchOperationDTO;
+import com.portfolio.dto.BatchResultDTO;
+import com.portfolio.dto.ContactBulkRequestDTO;
+import com.portfolio.dto.ContactBulkResultDTO;
 import com.portfolio.dto.ContactMessageDTO;
+import com.portfolio.dto.ContactResponseDTO;
+import com.portfolio.dto.ContactStatsDTO;
+import com.portfolio.dto.CursorPageDTO;
 import com.portfolio.dto.EducationDTO;
 import com.portfolio.dto.ExperienceDTO;
 import com.portfolio.dto.PortfolioSummaryDTO;
 import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.RelatedProjectDTO;
 import com.portfolio.dto.SkillDTO;
+import com.portfolio.dto.SparseFields;
+import com.portfolio.dto.SuggestionDTO;
 import com.portfolio.dto.UserDTO;
+import com.portfolio.event.PortfolioEventStream;
+import com.portfolio.service.BatchService;
+import com.portfolio.service.ContactStatsService;
+import com.portfolio.service.PortfolioQueryService;
+import com.portfolio.service.PortfolioReadService;
 import com.portfolio.service.PortfolioService;
-import com.portfolio.service.UserService;
+import com.portfolio.service.SearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -20,19 +36,26 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -50,7 +73,12 @@ import java.util.stream.Collectors;
 public class PortfolioController {
 
     private final PortfolioService portfolioService;
-    private final UserService userService;
+    private final PortfolioReadService portfolioReadService;
+    private final SearchService searchService;
+    private final PortfolioQueryService portfolioQueryService;
+    private final BatchService batchService;
+    private final PortfolioEventStream portfolioEventStream;
+    private final ContactStatsService contactStatsService;
 
     /**
      * Health check endpoint
@@ -125,11 +153,15 @@ public class PortfolioController {
             )
     })
     @GetMapping("/summary")
-    public ResponseEntity<ApiResponse<PortfolioSummaryDTO>> getPortfolioSummary() {
+    public ResponseEntity<ApiResponse<PortfolioSummaryDTO>> getPortfolioSummary(
+            @Parameter(description = "Comma-separated properties to return", example = "name,profileImage,projectCount")
+            @RequestParam(required = false) String fields) {
+
         log.info("Portfolio summary requested");
 
         try {
-            Optional<PortfolioSummaryDTO> summary = portfolioService.getPortfolioSummary();
+            SparseFields.apply(fields, PortfolioSummaryDTO.class);
+            Optional<PortfolioSummaryDTO> summary = portfolioReadService.getPortfolioSummary();
 
             if (summary.isPresent()) {
                 log.debug("Portfolio summary retrieved successfully");
@@ -141,6 +173,10 @@ public class PortfolioController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(ApiResponse.error("No portfolio data found", "Portfolio summary not available"));
             }
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields requested: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid fields", e.getMessage()));
         } catch (Exception e) {
             log.error("Error retrieving portfolio summary: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -173,11 +209,15 @@ public class PortfolioController {
             )
     })
     @GetMapping("/user/active")
-    public ResponseEntity<ApiResponse<UserDTO>> getActiveUser() {
+    public ResponseEntity<ApiResponse<UserDTO>> getActiveUser(
+            @Parameter(description = "Comma-separated properties to return", example = "fullName,profileImage,resumeUrl")
+            @RequestParam(required = false) String fields) {
+
         log.info("Active user profile requested");
 
         try {
-            Optional<UserDTO> activeUser = userService.getActiveUser();
+            Set<String> selected = SparseFields.apply(fields, UserDTO.class);
+            Optional<UserDTO> activeUser = portfolioReadService.getActiveUser(selected);
 
             if (activeUser.isPresent()) {
                 log.debug("Active user profile retrieved: {}", activeUser.get().getEmail());
@@ -189,6 +229,10 @@ public class PortfolioController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(ApiResponse.error("No active user found", "Please check system configuration"));
             }
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields requested: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid fields", e.getMessage()));
         } catch (Exception e) {
             log.error("Error retrieving active user: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -218,17 +262,24 @@ public class PortfolioController {
     @GetMapping("/experience/{userId}")
     public ResponseEntity<ApiResponse<List<ExperienceDTO>>> getUserExperience(
             @Parameter(description = "Unique identifier of the user", example = "1", required = true)
-            @PathVariable Long userId) {
+            @PathVariable Long userId,
+            @Parameter(description = "Comma-separated properties to return", example = "company,position,startDate,endDate")
+            @RequestParam(required = false) String fields) {
 
         log.info("Experience data requested for user: {}", userId);
 
         try {
-            List<ExperienceDTO> experiences = portfolioService.getUserExperience(userId);
+            Set<String> selected = SparseFields.apply(fields, ExperienceDTO.class);
+            List<ExperienceDTO> experiences = portfolioReadService.getUserExperience(userId, selected);
 
             log.debug("Retrieved {} experiences for user {}", experiences.size(), userId);
             return ResponseEntity.ok(
                     ApiResponse.success(experiences, "Experience data retrieved successfully")
             );
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields requested: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid fields", e.getMessage()));
         } catch (Exception e) {
             log.error("Error retrieving experiences for user {}: {}", userId, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -258,17 +309,24 @@ public class PortfolioController {
     @GetMapping("/experience/{userId}/current")
     public ResponseEntity<ApiResponse<List<ExperienceDTO>>> getCurrentExperiences(
             @Parameter(description = "Unique identifier of the user", example = "1", required = true)
-            @PathVariable Long userId) {
+            @PathVariable Long userId,
+            @Parameter(description = "Comma-separated properties to return", example = "company,position,startDate")
+            @RequestParam(required = false) String fields) {
 
         log.info("Current experience data requested for user: {}", userId);
 
         try {
-            List<ExperienceDTO> currentExperiences = portfolioService.getCurrentExperiences(userId);
+            Set<String> selected = SparseFields.apply(fields, ExperienceDTO.class);
+            List<ExperienceDTO> currentExperiences = portfolioReadService.getCurrentExperiences(userId, selected);
 
             log.debug("Retrieved {} current experiences for user {}", currentExperiences.size(), userId);
             return ResponseEntity.ok(
                     ApiResponse.success(currentExperiences, "Current experience data retrieved successfully")
             );
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields requested: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid fields", e.getMessage()));
         } catch (Exception e) {
             log.error("Error retrieving current experiences for user {}: {}", userId, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -276,6 +334,65 @@ public class PortfolioController {
         }
     }
 
+    /**
+     * Query user experience
+     */
+    @Operation(
+            summary = "Query user experience",
+            description = "Filters, sorts and keyset-paginates a user's experience in the database. Sort by startDate, endDate, company, position or createdAt (prefix with - for descending); pass nextCursor back as cursor for the next page"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Experience page retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = CursorPageDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown sort or field, or invalid cursor",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @GetMapping("/experience/{userId}/query")
+    public ResponseEntity<ApiResponse<CursorPageDTO<ExperienceDTO>>> queryUserExperience(
+            @Parameter(description = "Unique identifier of the user", example = "1", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "Only current (true) or past (false) roles")
+            @RequestParam(required = false) Boolean current,
+            @Parameter(description = "Technology mentioned in the role", example = "Kafka")
+            @RequestParam(required = false) String technology,
+            @Parameter(description = "Roles active on or after this date", example = "2020-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Roles active on or before this date", example = "2023-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Sort attribute, - for descending", example = "-startDate")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Cursor from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-50)", example = "10")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Comma-separated properties to return", example = "company,position,startDate")
+            @RequestParam(required = false) String fields) {
+
+        log.info("Experience query requested for user: {}", userId);
+
+        try {
+            Set<String> selected = SparseFields.apply(fields, ExperienceDTO.class);
+            CursorPageDTO<ExperienceDTO> page = portfolioQueryService.queryExperience(userId,
+                    new PortfolioQueryService.ExperienceQuery(current, technology, from, to, sort, cursor, size),
+                    selected);
+            return ResponseEntity.ok(ApiResponse.success(page, "Experience page retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid experience query for user {}: {}", userId, e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid experience query", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error querying experience for user {}: {}", userId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to query experience", e.getMessage()));
+        }
+    }
+
     /**
      * Get user projects
      */
@@ -298,17 +415,24 @@ public class PortfolioController {
     @GetMapping("/projects/{userId}")
     public ResponseEntity<ApiResponse<List<ProjectDTO>>> getUserProjects(
             @Parameter(description = "Unique identifier of the user", example = "1", required = true)
-            @PathVariable Long userId) {
+            @PathVariable Long userId,
+            @Parameter(description = "Comma-separated properties to return", example = "projectName,imageUrl,startDate,endDate")
+            @RequestParam(required = false) String fields) {
 
         log.info("Project data requested for user: {}", userId);
 
         try {
-            List<ProjectDTO> projects = portfolioService.getUserProjects(userId);
+            Set<String> selected = SparseFields.apply(fields, ProjectDTO.class);
+            List<ProjectDTO> projects = portfolioReadService.getUserProjects(userId, selected);
 
             log.debug("Retrieved {} projects for user {}", projects.size(), userId);
             return ResponseEntity.ok(
                     ApiResponse.success(projects, "Project data retrieved successfully")
             );
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields requested: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid fields", e.getMessage()));
         } catch (Exception e) {
             log.error("Error retrieving projects for user {}: {}", userId, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -316,6 +440,100 @@ public class PortfolioController {
         }
     }
 
+    /**
+     * Query user projects
+     */
+    @Operation(
+            summary = "Query user projects",
+            description = "Filters, sorts and keyset-paginates a user's projects in the database. Sort by startDate, endDate, projectName or createdAt (prefix with - for descending); pass nextCursor back as cursor for the next page"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Project page retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = CursorPageDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown sort or field, or invalid cursor",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @GetMapping("/projects/{userId}/query")
+    public ResponseEntity<ApiResponse<CursorPageDTO<ProjectDTO>>> queryUserProjects(
+            @Parameter(description = "Unique identifier of the user", example = "1", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "Only projects with (true) or without (false) a GitHub link")
+            @RequestParam(required = false) Boolean hasGithub,
+            @Parameter(description = "Only projects with (true) or without (false) a live demo")
+            @RequestParam(required = false) Boolean hasLiveDemo,
+            @Parameter(description = "Technology used in the project", example = "React")
+            @RequestParam(required = false) String technology,
+            @Parameter(description = "Projects active on or after this date", example = "2022-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Projects active on or before this date", example = "2024-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Sort attribute, - for descending", example = "-startDate")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Cursor from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-50)", example = "10")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Comma-separated properties to return", example = "projectName,imageUrl,startDate")
+            @RequestParam(required = false) String fields) {
+
+        log.info("Project query requested for user: {}", userId);
+
+        try {
+            Set<String> selected = SparseFields.apply(fields, ProjectDTO.class);
+            CursorPageDTO<ProjectDTO> page = portfolioQueryService.queryProjects(userId,
+                    new PortfolioQueryService.ProjectQuery(hasGithub, hasLiveDemo, technology, from, to,
+                            sort, cursor, size), selected);
+            return ResponseEntity.ok(ApiResponse.success(page, "Project page retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid project query for user {}: {}", userId, e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid project query", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error querying projects for user {}: {}", userId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to query projects", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get related projects
+     */
+    @Operation(
+            summary = "Get related projects",
+            description = "Recommends other projects of the same owner ranked by Jaccard similarity of their technology sets"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Related projects retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = RelatedProjectDTO.class)))
+            )
+    })
+    @GetMapping("/projects/{projectId}/related")
+    public ResponseEntity<ApiResponse<List<RelatedProjectDTO>>> getRelatedProjects(
+            @Parameter(description = "Unique identifier of the project", example = "1", required = true)
+            @PathVariable Long projectId,
+            @Parameter(description = "Maximum recommendations (1-6)", example = "3")
+            @RequestParam(defaultValue = "3") int limit) {
+
+        log.info("Related projects requested for project: {}", projectId);
+
+        try {
+            List<RelatedProjectDTO> related = searchService.getRelatedProjects(projectId, Math.max(1, limit));
+            return ResponseEntity.ok(ApiResponse.success(related, "Related projects retrieved successfully"));
+        } catch (Exception e) {
+            log.error("Error retrieving related projects for {}: {}", projectId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to retrieve related projects", e.getMessage()));
+        }
+    }
+
     /**
      * Get user skills
      */
@@ -338,17 +556,24 @@ public class PortfolioController {
     @GetMapping("/skills/{userId}")
     public ResponseEntity<ApiResponse<List<SkillDTO>>> getUserSkills(
             @Parameter(description = "Unique identifier of the user", example = "1", required = true)
-            @PathVariable Long userId) {
+            @PathVariable Long userId,
+            @Parameter(description = "Comma-separated properties to return", example = "skillName,skillCategory")
+            @RequestParam(required = false) String fields) {
 
         log.info("Skills data requested for user: {}", userId);
 
         try {
-            List<SkillDTO> skills = portfolioService.getUserSkills(userId);
+            Set<String> selected = SparseFields.apply(fields, SkillDTO.class);
+            List<SkillDTO> skills = portfolioReadService.getUserSkills(userId, selected);
 
             log.debug("Retrieved {} skills for user {}", skills.size(), userId);
             return ResponseEntity.ok(
                     ApiResponse.success(skills, "Skills data retrieved successfully")
             );
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields requested: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid fields", e.getMessage()));
         } catch (Exception e) {
             log.error("Error retrieving skills for user {}: {}", userId, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -378,17 +603,24 @@ public class PortfolioController {
     @GetMapping("/skills/{userId}/featured")
     public ResponseEntity<ApiResponse<List<SkillDTO>>> getFeaturedSkills(
             @Parameter(description = "Unique identifier of the user", example = "1", required = true)
-            @PathVariable Long userId) {
+            @PathVariable Long userId,
+            @Parameter(description = "Comma-separated properties to return", example = "skillName,proficiencyLevel")
+            @RequestParam(required = false) String fields) {
 
         log.info("Featured skills data requested for user: {}", userId);
 
         try {
-            List<SkillDTO> featuredSkills = portfolioService.getFeaturedSkills(userId);
+            Set<String> selected = SparseFields.apply(fields, SkillDTO.class);
+            List<SkillDTO> featuredSkills = portfolioReadService.getFeaturedSkills(userId, selected);
 
             log.debug("Retrieved {} featured skills for user {}", featuredSkills.size(), userId);
             return ResponseEntity.ok(
                     ApiResponse.success(featuredSkills, "Featured skills data retrieved successfully")
             );
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields requested: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid fields", e.getMessage()));
         } catch (Exception e) {
             log.error("Error retrieving featured skills for user {}: {}", userId, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -396,6 +628,41 @@ public class PortfolioController {
         }
     }
 
+    /**
+     * Autocomplete skills and technologies
+     */
+    @Operation(
+            summary = "Autocomplete skills",
+            description = "Prefix suggestions over skill names, skill categories and project technologies, ranked by featured flag and years of experience"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Suggestions retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = SuggestionDTO.class)))
+            )
+    })
+    @GetMapping("/skills/{userId}/autocomplete")
+    public ResponseEntity<ApiResponse<List<SuggestionDTO>>> autocompleteSkills(
+            @Parameter(description = "Unique identifier of the user", example = "1", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "Typed prefix", example = "spr")
+            @RequestParam(defaultValue = "") String q,
+            @Parameter(description = "Maximum suggestions (1-10)", example = "8")
+            @RequestParam(defaultValue = "8") int limit) {
+
+        log.debug("Skill autocomplete requested for user {}: '{}'", userId, q);
+
+        try {
+            List<SuggestionDTO> suggestions = searchService.autocomplete(userId, q, Math.max(1, limit));
+            return ResponseEntity.ok(ApiResponse.success(suggestions, "Suggestions retrieved successfully"));
+        } catch (Exception e) {
+            log.error("Error autocompleting skills for user {}: {}", userId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to retrieve suggestions", e.getMessage()));
+        }
+    }
+
     /**
      * Get skill categories
      */
@@ -423,7 +690,7 @@ public class PortfolioController {
         log.info("Skill categories requested for user: {}", userId);
 
         try {
-            List<String> categories = portfolioService.getSkillCategories(userId);
+            List<String> categories = portfolioReadService.getSkillCategories(userId);
 
             log.debug("Retrieved {} skill categories for user {}", categories.size(), userId);
             return ResponseEntity.ok(
@@ -458,17 +725,24 @@ public class PortfolioController {
     @GetMapping("/education/{userId}")
     public ResponseEntity<ApiResponse<List<EducationDTO>>> getUserEducation(
             @Parameter(description = "Unique identifier of the user", example = "1", required = true)
-            @PathVariable Long userId) {
+            @PathVariable Long userId,
+            @Parameter(description = "Comma-separated properties to return", example = "institution,degree,startDate,endDate")
+            @RequestParam(required = false) String fields) {
 
         log.info("Education data requested for user: {}", userId);
 
         try {
-            List<EducationDTO> educations = portfolioService.getUserEducation(userId);
+            Set<String> selected = SparseFields.apply(fields, EducationDTO.class);
+            List<EducationDTO> educations = portfolioReadService.getUserEducation(userId, selected);
 
             log.debug("Retrieved {} education records for user {}", educations.size(), userId);
             return ResponseEntity.ok(
                     ApiResponse.success(educations, "Education data retrieved successfully")
             );
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields requested: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid fields", e.getMessage()));
         } catch (Exception e) {
             log.error("Error retrieving education for user {}: {}", userId, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -481,7 +755,8 @@ public class PortfolioController {
      */
     @Operation(
             summary = "Submit contact message",
-            description = "Allows visitors to submit contact messages through the portfolio website. Messages are stored and can be retrieved by administrators."
+            description = "Allows visitors to submit contact messages through the portfolio website. Messages are stored and can be retrieved by administrators. A retry carrying the same Idempotency-Key returns the original response instead of storing the message again.",
+            parameters = @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", description = "Client-generated key (e.g. a UUID) identifying this submission across retries")
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -540,13 +815,18 @@ public class PortfolioController {
      */
     @Operation(
             summary = "Get all contact messages (Admin only)",
-            description = "Retrieves all contact messages submitted through the portfolio website. This is an administrative endpoint for managing inquiries."
+            description = "Retrieves contact messages submitted through the portfolio website, newest first, keyset-paginated: pass nextCursor back as cursor for the next page. Read messages past the retention period are served from the archive transparently. Messages filed as spam or collapsed as near-duplicates are left out unless includeFiltered is set. This is an administrative endpoint for managing inquiries."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200",
                     description = "Contact messages retrieved successfully",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContactMessageDTO.class)))
+                    content = @Content(schema = @Schema(implementation = CursorPageDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field or invalid cursor",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "403",
@@ -560,16 +840,31 @@ public class PortfolioController {
             )
     })
     @GetMapping("/contact/messages")
-    public ResponseEntity<ApiResponse<List<ContactMessageDTO>>> getAllContactMessages() {
-        log.info("All contact messages requested (admin endpoint)");
+    public ResponseEntity<ApiResponse<CursorPageDTO<ContactMessageDTO>>> getAllContactMessages(
+            @Parameter(description = "Comma-separated properties to return", example = "name,subject,sentDate,isRead")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Also return messages filed as spam or near-duplicates", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeFiltered,
+            @Parameter(description = "Cursor from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-200)", example = "50")
+            @RequestParam(required = false) Integer size) {
+
+        log.info("Contact messages requested (admin endpoint)");
 
         try {
-            List<ContactMessageDTO> messages = portfolioService.getAllContactMessages();
+            Set<String> selected = SparseFields.apply(fields, ContactMessageDTO.class);
+            CursorPageDTO<ContactMessageDTO> page =
+                    portfolioService.getContactMessages(selected, includeFiltered, cursor, size);
 
-            log.debug("Retrieved {} contact messages", messages.size());
+            log.debug("Retrieved {} contact messages", page.getSize());
             return ResponseEntity.ok(
-                    ApiResponse.success(messages, "Contact messages retrieved successfully")
+                    ApiResponse.success(page, "Contact messages retrieved successfully")
             );
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid contact message query: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid contact message query", e.getMessage()));
         } catch (Exception e) {
             log.error("Error retrieving contact messages: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -577,6 +872,298 @@ public class PortfolioController {
         }
     }
 
+    /**
+     * Mark a contact message as read (Admin endpoint)
+     */
+    @Operation(
+            summary = "Mark contact message as read (Admin only)",
+            description = "Marks a contact message as read. The first read time is kept and feeds the time-to-read statistics."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Contact message marked as read",
+                    content = @Content(schema = @Schema(implementation = ContactMessageDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Contact message not found",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "500",
+                    description = "Failed to mark contact message as read",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @PutMapping("/contact/messages/{messageId}/read")
+    public ResponseEntity<ApiResponse<ContactMessageDTO>> markContactMessageRead(
+            @Parameter(description = "Unique identifier of the contact message", example = "1", required = true)
+            @PathVariable Long messageId) {
+
+        log.info("Mark as read requested for contact message: {}", messageId);
+
+        try {
+            Optional<ContactMessageDTO> message = portfolioService.markContactMessageRead(messageId);
+
+            if (message.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success(message.get(), "Contact message marked as read"));
+            } else {
+                log.warn("Contact message not found: {}", messageId);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Contact message not found", "No message with ID " + messageId));
+            }
+        } catch (Exception e) {
+            log.error("Error marking contact message {} as read: {}", messageId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to mark contact message as read", e.getMessage()));
+        }
+    }
+
+    /**
+     * Respond to a contact message (Admin endpoint)
+     */
+    @Operation(
+            summary = "Respond to contact message (Admin only)",
+            description = "Records the response to a contact message and marks it as read. The first response time feeds the response statistics."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Response recorded",
+                    content = @Content(schema = @Schema(implementation = ContactMessageDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Response is blank",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Contact message not found",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "500",
+                    description = "Failed to record response",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @PostMapping("/contact/messages/{messageId}/respond")
+    public ResponseEntity<ApiResponse<ContactMessageDTO>> respondToContactMessage(
+            @Parameter(description = "Unique identifier of the contact message", example = "1", required = true)
+            @PathVariable Long messageId,
+            @Parameter(description = "Response text", required = true)
+            @Valid @RequestBody ContactResponseDTO contactResponseDTO,
+            BindingResult bindingResult) {
+
+        log.info("Response submitted for contact message: {}", messageId);
+
+        try {
+            if (bindingResult.hasErrors()) {
+                String errorMessage = bindingResult.getFieldErrors().stream()
+                        .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                        .collect(Collectors.joining(", "));
+
+                log.warn("Contact response validation failed: {}", errorMessage);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(ApiResponse.error("Validation failed", errorMessage));
+            }
+
+            Optional<ContactMessageDTO> message =
+                    portfolioService.respondToContactMessage(messageId, contactResponseDTO.getResponse());
+
+            if (message.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success(message.get(), "Response recorded successfully"));
+            } else {
+                log.warn("Contact message not found: {}", messageId);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Contact message not found", "No message with ID " + messageId));
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid contact response: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Validation failed", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error responding to contact message {}: {}", messageId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to record response", e.getMessage()));
+        }
+    }
+
+    /**
+     * Mark contact messages as read in bulk (Admin endpoint)
+     */
+    @Operation(
+            summary = "Mark contact messages as read in bulk",
+            description = "Marks every message matching the criteria as read with a single UPDATE, e.g. a list of ids or all unread messages sent before a date. The unread count and read statistics are adjusted in the same transaction."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Messages marked as read",
+                    content = @Content(schema = @Schema(implementation = ContactBulkResultDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "No criterion given, too many ids or an empty date range",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Admin role required",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "500",
+                    description = "Failed to mark messages as read",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @PostMapping("/contact/messages/bulk/read")
+    public ResponseEntity<ApiResponse<ContactBulkResultDTO>> bulkMarkContactMessagesRead(
+            @Parameter(description = "Message ids, sent-date range (sentFrom inclusive, sentBefore exclusive) and/or classification; all given criteria must match", required = true)
+            @Valid @RequestBody ContactBulkRequestDTO request,
+            BindingResult bindingResult) {
+
+        log.info("Bulk mark-read requested for {} ids: {}", request.idCount(), request);
+
+        try {
+            if (bindingResult.hasErrors()) {
+                String errorMessage = bindingResult.getFieldErrors().stream()
+                        .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                        .collect(Collectors.joining(", "));
+
+                log.warn("Bulk contact request validation failed: {}", errorMessage);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(ApiResponse.error("Validation failed", errorMessage));
+            }
+
+            ContactBulkResultDTO result = portfolioService.markContactMessagesRead(request);
+            return ResponseEntity.ok(ApiResponse.success(result, "Messages marked as read successfully"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid bulk contact request: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Validation failed", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error in bulk contact request: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to mark messages as read", e.getMessage()));
+        }
+    }
+
+    /**
+     * Delete contact messages in bulk (Admin endpoint)
+     */
+    @Operation(
+            summary = "Delete contact messages in bulk",
+            description = "Deletes every message matching the criteria with a single DELETE, including archived copies, e.g. a list of ids or all spam sent before a date. The unread count is adjusted in the same transaction."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Messages deleted",
+                    content = @Content(schema = @Schema(implementation = ContactBulkResultDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "No criterion given, too many ids or an empty date range",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Admin role required",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "500",
+                    description = "Failed to delete messages",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @PostMapping("/contact/messages/bulk/delete")
+    public ResponseEntity<ApiResponse<ContactBulkResultDTO>> bulkDeleteContactMessages(
+            @Parameter(description = "Message ids, sent-date range (sentFrom inclusive, sentBefore exclusive) and/or classification; all given criteria must match", required = true)
+            @Valid @RequestBody ContactBulkRequestDTO request,
+            BindingResult bindingResult) {
+
+        log.info("Bulk delete requested for {} ids: {}", request.idCount(), request);
+
+        try {
+            if (bindingResult.hasErrors()) {
+                String errorMessage = bindingResult.getFieldErrors().stream()
+                        .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                        .collect(Collectors.joining(", "));
+
+                log.warn("Bulk contact request validation failed: {}", errorMessage);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(ApiResponse.error("Validation failed", errorMessage));
+            }
+
+            ContactBulkResultDTO result = portfolioService.deleteContactMessages(request);
+            return ResponseEntity.ok(ApiResponse.success(result, "Messages deleted successfully"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid bulk contact request: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Validation failed", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error in bulk contact request: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to delete messages", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get contact message statistics (Admin endpoint)
+     */
+    @Operation(
+            summary = "Get contact message statistics (Admin only)",
+            description = "Messages received, read rate, response rate and average hours to read/respond per day, week or month, for messages received in the range (default last 30 days). Answered from daily rollups, independent of the number of messages."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Contact statistics retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = ContactStatsDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid range or granularity",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "500",
+                    description = "Failed to retrieve contact statistics",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @GetMapping("/contact/stats")
+    public ResponseEntity<ApiResponse<ContactStatsDTO>> getContactStats(
+            @Parameter(description = "First day received (yyyy-MM-dd)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day received (yyyy-MM-dd)", example = "2025-03-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "day, week or month", example = "week")
+            @RequestParam(defaultValue = "day") String granularity) {
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        log.info("Contact statistics requested for {}..{} by {}", start, end, granularity);
+
+        try {
+            ContactStatsDTO stats = contactStatsService.getStats(start, end, granularity);
+            return ResponseEntity.ok(ApiResponse.success(stats, "Contact statistics retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid contact statistics query: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid statistics query", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error retrieving contact statistics: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to retrieve contact statistics", e.getMessage()));
+        }
+    }
+
     /**
      * Get unread messages count
      */
@@ -613,4 +1200,84 @@ public class PortfolioController {
                     .body(ApiResponse.error("Failed to retrieve unread messages count", e.getMessage()));
         }
     }
+
+    /**
+     * Execute several public reads in one request
+     */
+    @Operation(
+            summary = "Batch portfolio reads",
+            description = "Executes up to 20 public GET routes (summary, user, experience, projects, skills, education) concurrently and returns each result with its own status, in request order"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Batch executed; check each result's status",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchResultDTO.class)))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized batch, or a request without a path",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "500",
+                    description = "Failed to execute batch",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<BatchResultDTO>>> executeBatch(
+            @Parameter(description = "Sub-requests, each a GET path relative to /api", required = true)
+            @RequestBody List<BatchOperationDTO> operations) {
+
+        log.info("Batch of {} requests received", operations == null ? 0 : operations.size());
+
+        try {
+            List<BatchResultDTO> results = batchService.execute(operations);
+            return ResponseEntity.ok(ApiResponse.success(results, "Batch executed successfully"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid batch: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid batch", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error executing batch: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to execute batch", e.getMessage()));
+        }
+    }
+
+    /**
+     * Stream portfolio changes as server-sent events
+     */
+    @Operation(
+            summary = "Subscribe to portfolio changes",
+            description = "Opens a server-sent event stream. 'change' events describe committed inserts, updates and deletes of portfolio data; admins additionally receive contact message changes and 'unread-count' events. A 'resync' event means the client fell behind and should refetch."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "Event stream disabled or at capacity",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    @GetMapping(value = "/events", produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> streamEvents(Authentication authentication) {
+        boolean admin = authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        log.info("Event stream requested (admin: {})", admin);
+
+        try {
+            return ResponseEntity.ok(portfolioEventStream.subscribe(admin));
+        } catch (IllegalStateException e) {
+            log.warn("Event stream refused: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponse.error("Event stream unavailable", e.getMessage()));
+        }
+    }
 }
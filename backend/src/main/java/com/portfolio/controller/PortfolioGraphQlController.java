@@ -0,0 +1,95 @@
+package com.portfolio.controller;
+
+import com.portfolio.dto.ContactMessageDTO;
+import com.portfolio.dto.EducationDTO;
+import com.portfolio.dto.ExperienceDTO;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.SkillDTO;
+import com.portfolio.dto.UserDTO;
+import com.portfolio.service.PortfolioGraphService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GraphQL Controller (POST /api/graphql)
+ * Root queries return DTOs; a user's experiences, projects, skills and educations are
+ * resolved with @BatchMapping, so each list costs one IN query per request no matter
+ * how many users the query touches
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class PortfolioGraphQlController {
+
+    private final PortfolioGraphService portfolioGraphService;
+
+    @QueryMapping
+    public UserDTO activeUser() {
+        return portfolioGraphService.getActiveUser().orElse(null);
+    }
+
+    @QueryMapping
+    public UserDTO user(@Argument Long id) {
+        return portfolioGraphService.getUser(id).orElse(null);
+    }
+
+    @QueryMapping
+    public ProjectDTO project(@Argument Long id) {
+        return portfolioGraphService.getProject(id).orElse(null);
+    }
+
+    @QueryMapping
+    public List<ContactMessageDTO> contactMessages(@Argument boolean unreadOnly, @Argument int first,
+                                                   @Argument Long after, Authentication authentication) {
+        boolean admin = authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        if (!admin) {
+            throw new AccessDeniedException("Contact messages require the ADMIN role");
+        }
+        return portfolioGraphService.getContactMessages(unreadOnly, first, after);
+    }
+
+    @BatchMapping(typeName = "User")
+    public List<List<ExperienceDTO>> experiences(List<UserDTO> users) {
+        return alignTo(users, portfolioGraphService.getExperiencesByUser(userIds(users)));
+    }
+
+    @BatchMapping(typeName = "User")
+    public List<List<ProjectDTO>> projects(List<UserDTO> users) {
+        return alignTo(users, portfolioGraphService.getProjectsByUser(userIds(users)));
+    }
+
+    @BatchMapping(typeName = "User")
+    public List<List<SkillDTO>> skills(List<UserDTO> users) {
+        return alignTo(users, portfolioGraphService.getSkillsByUser(userIds(users)));
+    }
+
+    @BatchMapping(typeName = "User")
+    public List<List<EducationDTO>> educations(List<UserDTO> users) {
+        return alignTo(users, portfolioGraphService.getEducationsByUser(userIds(users)));
+    }
+
+    private static List<Long> userIds(List<UserDTO> users) {
+        return users.stream().map(UserDTO::getUserId).distinct().toList();
+    }
+
+    /**
+     * Batch results must line up with the requested users
+     */
+    private static <T> List<List<T>> alignTo(List<UserDTO> users, Map<Long, List<T>> byUser) {
+        return users.stream()
+                .map(user -> byUser.getOrDefault(user.getUserId(), List.of()))
+                .toList();
+    }
+}
@@ -0,0 +1,147 @@
+package com.portfolio.controller;
+
+import com.portfolio.dto.ApiResponse;
+import com.portfolio.dto.TechSearchResultDTO;
+import com.portfolio.dto.TextSearchResultDTO;
+import com.portfolio.search.FullTextIndex;
+import com.portfolio.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Portfolio search endpoints
+ * Served from in-memory indexes rather than LIKE scans
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@RestController
+@RequestMapping("/portfolio/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Technology and text search over projects and experience")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * Full-text search
+     */
+    @Operation(
+            summary = "Full-text search",
+            description = "Ranks projects, experience and education by relevance to the query (BM25) "
+                    + "and returns snippets with matched terms wrapped in <mark>. Answered from memory."
+    )
+    @GetMapping(params = "q")
+    public ResponseEntity<ApiResponse<TextSearchResultDTO>> searchText(
+            @Parameter(description = "Search text", example = "kafka streaming")
+            @RequestParam String q,
+            @Parameter(description = "Comma-separated kinds: project, experience, education", example = "project")
+            @RequestParam(required = false) String type,
+            @Parameter(description = "Portfolio owner, defaults to the active user", example = "1")
+            @RequestParam(required = false) Long userId,
+            @Parameter(description = "Maximum number of hits (1-50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        log.info("Full-text search requested: q={}, type={}", q, type);
+
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("Invalid query", "q must not be blank"));
+        }
+
+        Set<FullTextIndex.DocType> types = EnumSet.allOf(FullTextIndex.DocType.class);
+        if (type != null && !type.isBlank()) {
+            try {
+                types = EnumSet.noneOf(FullTextIndex.DocType.class);
+                for (String value : type.split(",")) {
+                    types.add(FullTextIndex.DocType.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+                }
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("Invalid type parameter", "type must be project, experience or education"));
+            }
+        }
+
+        try {
+            TextSearchResultDTO result = searchService.searchText(q, types, userId, Math.max(1, Math.min(limit, 50)));
+            return ResponseEntity.ok(ApiResponse.success(result, "Search completed successfully"));
+        } catch (Exception e) {
+            log.error("Error in full-text search: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to search", e.getMessage()));
+        }
+    }
+
+    /**
+     * Search projects and experiences by technology
+     */
+    @Operation(
+            summary = "Search by technology",
+            description = "Finds projects and experiences tagged with the given technologies. "
+                    + "match=all requires every technology, match=any at least one."
+    )
+    @GetMapping(params = {"tech", "!q"})
+    public ResponseEntity<ApiResponse<TechSearchResultDTO>> search(
+            @Parameter(description = "Comma-separated technologies", example = "java,kafka")
+            @RequestParam String tech,
+            @Parameter(description = "all (AND) or any (OR)", example = "all")
+            @RequestParam(defaultValue = "all") String match,
+            @Parameter(description = "Portfolio owner, defaults to the active user", example = "1")
+            @RequestParam(required = false) Long userId) {
+
+        log.info("Technology search requested: tech={}, match={}", tech, match);
+
+        if (!"all".equalsIgnoreCase(match) && !"any".equalsIgnoreCase(match)) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid match parameter", "match must be 'all' or 'any'"));
+        }
+
+        try {
+            List<String> technologies = Arrays.stream(tech.split(","))
+                    .map(String::trim)
+                    .filter(value -> !value.isEmpty())
+                    .toList();
+
+            TechSearchResultDTO result = searchService.searchByTechnology(technologies,
+                    "all".equalsIgnoreCase(match), userId);
+            return ResponseEntity.ok(ApiResponse.success(result, "Search completed successfully"));
+        } catch (Exception e) {
+            log.error("Error searching by technology: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to search", e.getMessage()));
+        }
+    }
+
+    /**
+     * All known technology tags with usage counts
+     */
+    @Operation(summary = "Get technology tags", description = "Lists normalized technology tags with the number of projects and experiences using each")
+    @GetMapping("/tags")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> getTechnologyTags() {
+        log.debug("Technology tags requested");
+
+        try {
+            return ResponseEntity.ok(ApiResponse.success(searchService.getTechnologyTags(),
+                    "Technology tags retrieved successfully"));
+        } catch (Exception e) {
+            log.error("Error retrieving technology tags: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to retrieve technology tags", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.portfolio.controller;
+
+import com.portfolio.asset.UploadStorage;
+import com.portfolio.dto.ApiResponse;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.UserDTO;
+import com.portfolio.service.UploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+/**
+ * Upload endpoints for resume, profile and project images
+ * Multipart bodies are streamed to disk by UploadStorage (spring.servlet.multipart is disabled)
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@RestController
+@RequestMapping("/auth/profile/{userId}")
+@RequiredArgsConstructor
+@Tag(name = "Uploads", description = "Streaming file uploads for profile and project media")
+public class UploadController {
+
+    private final UploadStorage uploadStorage;
+    private final UploadService uploadService;
+
+    /**
+     * Upload resume (pdf, doc, docx)
+     */
+    @Operation(summary = "Upload resume", description = "Streams a resume file to storage and updates the user's resume URL")
+    @PostMapping(value = "/resume", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<UserDTO>> uploadResume(
+            @Parameter(description = "Unique identifier of the user", example = "1", required = true)
+            @PathVariable Long userId,
+            HttpServletRequest request) {
+
+        return uploadForUser(userId, UploadStorage.Kind.RESUME, request);
+    }
+
+    /**
+     * Upload profile image (jpg, png, webp, gif)
+     */
+    @Operation(summary = "Upload profile image", description = "Streams a profile image to storage and updates the user's profile image")
+    @PostMapping(value = "/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<UserDTO>> uploadProfileImage(
+            @Parameter(description = "Unique identifier of the user", example = "1", required = true)
+            @PathVariable Long userId,
+            HttpServletRequest request) {
+
+        return uploadForUser(userId, UploadStorage.Kind.PROFILE_IMAGE, request);
+    }
+
+    /**
+     * Upload project image (jpg, png, webp, gif)
+     */
+    @Operation(summary = "Upload project image", description = "Streams a project image to storage and updates the project's image URL")
+    @PostMapping(value = "/projects/{projectId}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ProjectDTO>> uploadProjectImage(
+            @Parameter(description = "Unique identifier of the user", example = "1", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "Unique identifier of the project", example = "1", required = true)
+            @PathVariable Long projectId,
+            HttpServletRequest request) {
+
+        log.info("Project image upload requested for project {} of user {}", projectId, userId);
+
+        try {
+            UploadStorage.StoredUpload upload = uploadStorage.store(request, UploadStorage.Kind.PROJECT_IMAGE);
+            Optional<ProjectDTO> project = uploadService.attachToProject(userId, projectId, upload);
+
+            if (project.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success(project.get(), "Project image uploaded successfully"));
+            } else {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Project not found", "No project found with the specified ID for this user"));
+            }
+        } catch (UploadStorage.UploadTooLargeException e) {
+            return tooLarge(e);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected project image upload for project {}: {}", projectId, e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error("Invalid upload", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error uploading image for project {}: {}", projectId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to upload project image", e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<ApiResponse<UserDTO>> uploadForUser(Long userId, UploadStorage.Kind kind,
+                                                               HttpServletRequest request) {
+        log.info("{} upload requested for user {}", kind, userId);
+
+        try {
+            UploadStorage.StoredUpload upload = uploadStorage.store(request, kind);
+            Optional<UserDTO> user = uploadService.attachToUser(userId, kind, upload);
+
+            if (user.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success(user.get(), "File uploaded successfully"));
+            } else {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("User not found", "No user found with the specified ID"));
+            }
+        } catch (UploadStorage.UploadTooLargeException e) {
+            return tooLarge(e);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected {} upload for user {}: {}", kind, userId, e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error("Invalid upload", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error uploading {} for user {}: {}", kind, userId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to upload file", e.getMessage()));
+        }
+    }
+
+    private static <T> ResponseEntity<ApiResponse<T>> tooLarge(UploadStorage.UploadTooLargeException e) {
+        log.warn("Upload rejected: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(ApiResponse.error("File too large", e.getMessage()));
+    }
+}
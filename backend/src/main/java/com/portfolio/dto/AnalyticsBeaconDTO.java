@@ -0,0 +1,20 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one visitor event sent to the analytics beacon
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsBeaconDTO {
+
+    // SECTION_VIEW, PROJECT_VIEW or RESUME_DOWNLOAD
+    private String type;
+    private String target;
+}
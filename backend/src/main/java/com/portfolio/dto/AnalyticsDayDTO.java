@@ -0,0 +1,25 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for one day of analytics rollups
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsDayDTO {
+
+    private LocalDate day;
+    // HyperLogLog estimate
+    private Long uniqueVisitors;
+    private Long totalViews;
+    private Map<String, Long> viewsByType;
+}
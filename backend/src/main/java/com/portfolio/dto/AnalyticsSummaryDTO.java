@@ -0,0 +1,26 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object for analytics over a date range
+ * uniqueVisitors merges the daily sketches, so a visitor seen on several days counts once
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsSummaryDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private Long uniqueVisitors;
+    private Long totalViews;
+    private List<AnalyticsDayDTO> days;
+}
@@ -0,0 +1,20 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the views of one section, project or download over a date range
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsTargetDTO {
+
+    private String eventType;
+    private String target;
+    private Long views;
+}
@@ -0,0 +1,22 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one sub-request of POST /portfolio/batch
+ * path is a public GET route relative to /api, query string included,
+ * e.g. "/portfolio/projects/1?fields=projectName,imageUrl"
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperationDTO {
+
+    // Echoed back on the result; defaults to the position in the batch
+    private String id;
+    private String path;
+}
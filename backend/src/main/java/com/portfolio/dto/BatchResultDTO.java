@@ -0,0 +1,22 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the outcome of one batch sub-request
+ * status and body are what the standalone GET would have answered
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultDTO {
+
+    private String id;
+    private String path;
+    private Integer status;
+    private ApiResponse<?> body;
+}
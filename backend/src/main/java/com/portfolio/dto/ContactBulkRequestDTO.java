@@ -0,0 +1,42 @@
+package com.portfolio.dto;
+
+import com.portfolio.inbox.MessageClassification;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Selection of contact messages for a bulk action; all given criteria must match
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = {"ids"})
+public class ContactBulkRequestDTO {
+
+    @Size(max = 10000, message = "At most 10000 ids per request")
+    private List<Long> ids;
+
+    // Sent at or after
+    private LocalDateTime sentFrom;
+
+    // Sent strictly before ("all unread before X")
+    private LocalDateTime sentBefore;
+
+    private MessageClassification classification;
+
+    public int idCount() {
+        return ids == null ? 0 : ids.size();
+    }
+
+    public boolean hasCriteria() {
+        return (ids != null && !ids.isEmpty()) || sentFrom != null || sentBefore != null || classification != null;
+    }
+}
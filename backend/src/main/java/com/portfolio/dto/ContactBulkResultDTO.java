@@ -0,0 +1,25 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the outcome of a bulk contact message action
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactBulkResultDTO {
+
+    // Messages changed or deleted in contact_messages
+    private long affected;
+    // How many of them were unread
+    private long unreadAffected;
+    // Archived messages deleted too (mark-read never touches the archive: archived messages are read)
+    private long archived;
+    // Unread count once the action commits
+    private long unreadCount;
+}
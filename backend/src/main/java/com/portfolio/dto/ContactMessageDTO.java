@@ -1,5 +1,7 @@
 package com.portfolio.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.portfolio.inbox.MessageClassification;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -16,6 +18,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(SparseFields.FILTER_ID)
 public class ContactMessageDTO {
 
     private Long messageId;
@@ -35,6 +38,12 @@ public class ContactMessageDTO {
     private LocalDateTime sentDate;
     private Boolean isRead;
     private String response;
+    private LocalDateTime readDate;
+    private LocalDateTime respondedDate;
+    private MessageClassification classification;
+    private Double spamScore;
+    private Long duplicateOf;
+    private Integer duplicateCount;
 
     // Custom constructor for essential fields
     public ContactMessageDTO(String name, String email, String message) {
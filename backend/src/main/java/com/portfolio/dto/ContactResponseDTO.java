@@ -0,0 +1,20 @@
+package com.portfolio.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for an admin's response to a contact message
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactResponseDTO {
+
+    @NotBlank(message = "Response is required")
+    private String response;
+}
@@ -0,0 +1,28 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for contact message statistics of one day, week or month
+ * Rates and averages are null when there is nothing to divide by
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactStatsBucketDTO {
+
+    private LocalDate start;
+    private Long received;
+    private Long read;
+    private Long responded;
+    private Double readRate;
+    private Double responseRate;
+    private Double avgHoursToRead;
+    private Double avgHoursToRespond;
+}
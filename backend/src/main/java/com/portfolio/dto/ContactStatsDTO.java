@@ -0,0 +1,26 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object for contact message statistics over a date range
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactStatsDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    // day, week or month
+    private String granularity;
+    private ContactStatsBucketDTO total;
+    private List<ContactStatsBucketDTO> buckets;
+}
@@ -0,0 +1,24 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one keyset-paginated page
+ * nextCursor is null on the last page; pass it back as ?cursor= to fetch the next one
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private Integer size;
+    private String sort;
+}
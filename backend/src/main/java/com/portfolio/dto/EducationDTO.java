@@ -1,5 +1,6 @@
 package com.portfolio.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -16,6 +17,7 @@ import java.time.LocalDate;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(SparseFields.FILTER_ID)
 public class EducationDTO {
 
     private Long educationId;
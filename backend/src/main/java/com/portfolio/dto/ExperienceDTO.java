@@ -1,5 +1,6 @@
 package com.portfolio.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -17,6 +18,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(SparseFields.FILTER_ID)
 public class ExperienceDTO {
 
     private Long experienceId;
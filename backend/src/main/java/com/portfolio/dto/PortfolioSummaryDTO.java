@@ -1,5 +1,6 @@
 package com.portfolio.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(SparseFields.FILTER_ID)
 public class PortfolioSummaryDTO {
 
     private String name;
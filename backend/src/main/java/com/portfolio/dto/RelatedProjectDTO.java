@@ -0,0 +1,23 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a related project recommendation
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedProjectDTO {
+
+    private ProjectDTO project;
+    // Jaccard similarity of the technology sets, 0..1
+    private Double similarity;
+    private List<String> sharedTechnologies;
+}
@@ -0,0 +1,24 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a single full-text search hit
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDTO {
+
+    private String type;
+    private Long id;
+    private String title;
+    private String subtitle;
+    private Double score;
+    // HTML-escaped text with matched terms wrapped in <mark>
+    private String snippet;
+}
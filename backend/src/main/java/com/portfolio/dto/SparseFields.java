@@ -0,0 +1,109 @@
+package com.portfolio.dto;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldsets (?fields=projectName,imageUrl) for DTOs annotated with
+ * {@code @JsonFilter(SparseFields.FILTER_ID)}
+ * Controllers validate and select the fields for the current request; services read only
+ * the matching columns (ProjectionRepository) and SparseFieldsAdvice writes only those
+ * properties. Without a selection every property is written, so annotated DTOs serialize
+ * exactly as before.
+ *
+ * @author Debojit Chakraborty
+ */
+public final class SparseFields {
+
+    public static final String FILTER_ID = "sparseFields";
+
+    private static final String ATTRIBUTE = SparseFields.class.getName() + ".selected";
+
+    private SparseFields() {
+    }
+
+    /**
+     * Parse a comma-separated field list against the properties of a DTO
+     *
+     * @return Selected properties, or an empty set when the parameter is absent
+     * @throws IllegalArgumentException for unknown properties
+     */
+    public static Set<String> parse(String fields, Class<?> dtoType) {
+        if (fields == null || fields.isBlank()) {
+            return Set.of();
+        }
+
+        Set<String> allowed = propertiesOf(dtoType);
+        Set<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String field : selected) {
+            if (!allowed.contains(field)) {
+                throw new IllegalArgumentException("Unknown field '" + field + "'; allowed: " + allowed);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Parse and select in one step
+     *
+     * @return Selected properties, or an empty set when the parameter is absent
+     * @throws IllegalArgumentException for unknown properties
+     */
+    public static Set<String> apply(String fields, Class<?> dtoType) {
+        Set<String> selected = parse(fields, dtoType);
+        select(dtoType, selected);
+        return selected;
+    }
+
+    /**
+     * Fields selected for one DTO type in the current request
+     */
+    public record Selection(Class<?> type, Set<String> fields) {
+    }
+
+    /**
+     * Restrict serialization of the given DTO type in the current response to the given properties;
+     * other filtered DTOs in the same response (nested or not) are written in full
+     */
+    public static void select(Class<?> dtoType, Set<String> fields) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && !fields.isEmpty()) {
+            attributes.setAttribute(ATTRIBUTE, new Selection(dtoType, Set.copyOf(fields)),
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * @return Selection for the current request, or null when none was made
+     */
+    public static Selection selected() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes == null ? null
+                : (Selection) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * Canonical form of a selection, usable in cache keys ("" when nothing was selected)
+     */
+    public static String cacheKey(Set<String> fields) {
+        return fields.isEmpty() ? "" : "?fields=" + String.join(",", new TreeSet<>(fields));
+    }
+
+    static Set<String> propertiesOf(Class<?> dtoType) {
+        return Arrays.stream(dtoType.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,20 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for an autocomplete suggestion
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDTO {
+
+    private String text;
+    // skill, category or technology
+    private String type;
+}
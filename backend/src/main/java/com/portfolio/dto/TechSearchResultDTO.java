@@ -0,0 +1,23 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for technology tag search results
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechSearchResultDTO {
+
+    private List<String> technologies;
+    private String match;
+    private List<ProjectDTO> projects;
+    private List<ExperienceDTO> experiences;
+}
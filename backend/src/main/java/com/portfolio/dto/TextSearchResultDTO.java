@@ -0,0 +1,23 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for full-text search results
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextSearchResultDTO {
+
+    private String query;
+    // Documents matching the query, of which at most the limit are in hits
+    private Integer total;
+    private List<SearchHitDTO> hits;
+}
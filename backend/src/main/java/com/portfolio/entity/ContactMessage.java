@@ -1,22 +1,34 @@
 package com.portfolio.entity;
 
+import com.portfolio.event.PortfolioEntityListener;
+import com.portfolio.inbox.MessageClassification;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 /**
  * ContactMessage entity representing contact form submissions
+ * Updates write only the changed columns, so marking a message read never puts back a
+ * stale duplicate_count incremented concurrently by classification
  *
  * @author Debojit Chakraborty
  */
@@ -24,7 +36,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@DynamicUpdate
 @Table(name = "contact_messages")
+@EntityListeners(PortfolioEntityListener.class)
 public class ContactMessage {
 
     @Id
@@ -52,6 +66,37 @@ public class ContactMessage {
     @Column(columnDefinition = "TEXT")
     private String response;
 
+    // First time the message was marked read; kept if it is marked unread again
+    private LocalDateTime readDate;
+
+    private LocalDateTime respondedDate;
+
+    // Set asynchronously by ContactClassificationService after the message is stored
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private MessageClassification classification;
+
+    // SimHash of subject and message
+    private Long fingerprint;
+
+    private Double spamScore;
+
+    // First message of the near-duplicate cluster this one was collapsed into
+    private Long duplicateOf;
+
+    // Near-duplicates collapsed into this message
+    private Integer duplicateCount;
+
+    // State as last loaded or flushed, so change listeners can tell what an update changed
+    @Transient
+    private Boolean readBefore;
+
+    @Transient
+    private LocalDateTime readDateBefore;
+
+    @Transient
+    private LocalDateTime respondedDateBefore;
+
     // Custom constructor for essential fields
     public ContactMessage(String name, String email, String message) {
         this.name = name;
@@ -64,4 +109,14 @@ public class ContactMessage {
     protected void onCreate() {
         sentDate = LocalDateTime.now();
     }
+
+    // Entity listeners run before this callback, so they still see the previous state
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    protected void rememberState() {
+        readBefore = isRead;
+        readDateBefore = readDate;
+        respondedDateBefore = respondedDate;
+    }
 }
@@ -0,0 +1,37 @@
+package com.portfolio.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Contact message statistics for the messages received on one day
+ * Reads and responses are credited to the day the message arrived, so each row
+ * describes one day's cohort. Rows are maintained by ContactStatsService as messages
+ * change and are never rewritten by deletes.
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "contact_message_stats_daily")
+public class ContactStatsDaily {
+
+    @Id
+    private LocalDate day;
+
+    private Long received;
+    private Long readCount;
+    private Long responded;
+
+    // Sums of (readDate - sentDate) and (respondedDate - sentDate)
+    private Long readSeconds;
+    private Long responseSeconds;
+}
@@ -0,0 +1,54 @@
+package com.portfolio.entity;
+
+import com.portfolio.analytics.AnalyticsEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Daily rollup of visitor events per target
+ * Rows are upserted in batches by AnalyticsService, never one per view
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "analytics_daily_counts")
+@IdClass(DailyViewCount.Key.class)
+public class DailyViewCount {
+
+    @Id
+    private LocalDate day;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private AnalyticsEventType eventType;
+
+    @Id
+    @Column(length = 64)
+    private String target;
+
+    private Long views;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate day;
+        private AnalyticsEventType eventType;
+        private String target;
+    }
+}
@@ -0,0 +1,33 @@
+package com.portfolio.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Unique visitors per day, stored as HyperLogLog registers plus the estimate they give
+ * Only the sketch is kept; no visitor identifier is ever persisted
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "analytics_daily_visitors")
+public class DailyVisitors {
+
+    @Id
+    private LocalDate day;
+
+    @Column(columnDefinition = "BLOB")
+    private byte[] registers;
+
+    private Long visitors;
+}
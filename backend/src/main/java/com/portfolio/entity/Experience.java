@@ -1,7 +1,9 @@
 package com.portfolio.entity;
 
+import com.portfolio.event.PortfolioEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -31,6 +33,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Entity
 @Table(name = "experience")
+@EntityListeners(PortfolioEntityListener.class)
 @EqualsAndHashCode(exclude = {"user"})
 @ToString(exclude = {"user"})
 public class Experience {
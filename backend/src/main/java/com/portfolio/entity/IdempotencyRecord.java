@@ -0,0 +1,45 @@
+package com.portfolio.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Completed response of an Idempotency-Key request, kept so replays survive a restart
+ * The key itself is stored only as a SHA-256 of method, path and key
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expiresAt"))
+public class IdempotencyRecord {
+
+    @Id
+    @Column(length = 64)
+    private String keyHash;
+
+    @Column(length = 64, nullable = false)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private Integer status;
+
+    @Column(length = 128)
+    private String contentType;
+
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private byte[] body;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,72 @@
+package com.portfolio.entity;
+
+import com.portfolio.notification.NotificationType;
+import com.portfolio.notification.OutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * E-mail waiting in the transactional outbox
+ * Rows are inserted in the same transaction as the contact message change that causes them
+ * (see NotificationOutbox) and delivered later by OutboxDispatcher
+ *
+ * @author Debojit Chakraborty
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "notification_outbox",
+        indexes = {
+                @Index(name = "idx_notification_outbox_due", columnList = "status, nextAttemptAt"),
+                @Index(name = "idx_notification_outbox_created", columnList = "status, createdAt")
+        })
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32, nullable = false)
+    private NotificationType type;
+
+    // Contact message the notification is about
+    private Long messageId;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private OutboxStatus status;
+
+    private Integer attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+}
@@ -1,8 +1,10 @@
 package com.portfolio.entity;
 
+import com.portfolio.event.PortfolioEntityListener;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -35,6 +37,7 @@ import java.util.List;
 @AllArgsConstructor
 @Entity
 @Table(name = "users")
+@EntityListeners(PortfolioEntityListener.class)
 @EqualsAndHashCode(exclude = {"experiences", "projects", "skills", "educations"})
 @ToString(exclude = {"experiences", "projects", "skills", "educations"})
 public class User {
@@ -0,0 +1,28 @@
+package com.portfolio.event;
+
+/**
+ * Published whenever a portfolio entity is inserted, updated or deleted through JPA
+ * Listeners that maintain derived state (indexes, caches, streams) should use
+ * {@code @TransactionalEventListener} so they only see committed changes
+ *
+ * @param entityType Kind of entity that changed
+ * @param action     What happened to it
+ * @param entityId   Primary key of the entity
+ * @param userId     Owning user, or null if unknown
+ * @param entity     The entity instance as flushed (detached once the transaction ends)
+ * @author Debojit Chakraborty
+ */
+public record PortfolioChangeEvent(EntityType entityType, Action action, Long entityId, Long userId, Object entity) {
+
+    public enum EntityType {
+        USER, EXPERIENCE, PROJECT, SKILL, EDUCATION, CONTACT_MESSAGE
+    }
+
+    public enum Action {
+        CREATED, UPDATED, DELETED
+    }
+
+    public boolean is(EntityType type) {
+        return entityType == type;
+    }
+}
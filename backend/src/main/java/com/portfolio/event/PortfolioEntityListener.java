@@ -0,0 +1,88 @@
+package com.portfolio.event;
+
+import com.portfolio.entity.ContactMessage;
+import com.portfolio.entity.Education;
+import com.portfolio.entity.Experience;
+import com.portfolio.entity.Project;
+import com.portfolio.entity.Skill;
+import com.portfolio.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns entity lifecycle callbacks into PortfolioChangeEvents
+ * Instantiated by Hibernate through Spring's bean container, so it can be injected
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        publish(entity, PortfolioChangeEvent.Action.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        publish(entity, PortfolioChangeEvent.Action.UPDATED);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        publish(entity, PortfolioChangeEvent.Action.DELETED);
+    }
+
+    private void publish(Object entity, PortfolioChangeEvent.Action action) {
+        PortfolioChangeEvent event = toEvent(entity, action);
+        if (event == null) {
+            log.debug("No change event mapping for {}", entity.getClass().getSimpleName());
+            return;
+        }
+
+        log.debug("Publishing {} {} {}", event.entityType(), event.action(), event.entityId());
+        eventPublisher.publishEvent(event);
+    }
+
+    private static PortfolioChangeEvent toEvent(Object entity, PortfolioChangeEvent.Action action) {
+        if (entity instanceof Project project) {
+            return new PortfolioChangeEvent(PortfolioChangeEvent.EntityType.PROJECT, action,
+                    project.getProjectId(), ownerOf(project.getUser()), project);
+        }
+        if (entity instanceof Experience experience) {
+            return new PortfolioChangeEvent(PortfolioChangeEvent.EntityType.EXPERIENCE, action,
+                    experience.getExperienceId(), ownerOf(experience.getUser()), experience);
+        }
+        if (entity instanceof Skill skill) {
+            return new PortfolioChangeEvent(PortfolioChangeEvent.EntityType.SKILL, action,
+                    skill.getSkillId(), ownerOf(skill.getUser()), skill);
+        }
+        if (entity instanceof Education education) {
+            return new PortfolioChangeEvent(PortfolioChangeEvent.EntityType.EDUCATION, action,
+                    education.getEducationId(), ownerOf(education.getUser()), education);
+        }
+        if (entity instanceof User user) {
+            return new PortfolioChangeEvent(PortfolioChangeEvent.EntityType.USER, action,
+                    user.getUserId(), user.getUserId(), user);
+        }
+        if (entity instanceof ContactMessage message) {
+            return new PortfolioChangeEvent(PortfolioChangeEvent.EntityType.CONTACT_MESSAGE, action,
+                    message.getMessageId(), null, message);
+        }
+        return null;
+    }
+
+    private static Long ownerOf(User user) {
+        // Reading the id of a lazy proxy does not initialize it
+        return user == null ? null : user.getUserId();
+    }
+}
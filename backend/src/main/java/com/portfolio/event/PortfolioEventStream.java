@@ -0,0 +1,189 @@
+package com.portfolio.event;
+
+import com.portfolio.config.ApplicationConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-sent event stream of committed portfolio changes
+ * Every connection gets a bounded queue drained by its own virtual thread, so a slow
+ * client only blocks its own writer. When a queue overflows its backlog is dropped and
+ * replaced by a single "resync" event telling the client to refetch. Contact message
+ * changes and unread counts go to admin connections only.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class PortfolioEventStream {
+
+    private final ApplicationConfig.Events settings;
+    private final UnreadMessageCounter unreadCounter;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final LongAdder dropped = new LongAdder();
+    private final Set<ResponseBodyEmitter.DataWithMediaType> resync =
+            SseEmitter.event().name("resync").data("backlog dropped").build();
+
+    public PortfolioEventStream(ApplicationConfig.PortfolioProperties portfolioProperties,
+                                UnreadMessageCounter unreadCounter,
+                                MeterRegistry meterRegistry) {
+        this.settings = portfolioProperties.getEvents();
+        this.unreadCounter = unreadCounter;
+
+        Gauge.builder("portfolio.events.subscribers", subscribers, Set::size)
+                .register(meterRegistry);
+        FunctionCounter.builder("portfolio.events.resyncs", dropped, LongAdder::sum)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open a stream for one client
+     *
+     * @param admin Whether the client may see contact message activity
+     * @throws IllegalStateException when the stream is disabled or full
+     */
+    public SseEmitter subscribe(boolean admin) {
+        if (!settings.isEnabled()) {
+            throw new IllegalStateException("Event stream is disabled");
+        }
+        if (subscribers.size() >= settings.getMaxSubscribers()) {
+            throw new IllegalStateException("Too many event stream subscribers");
+        }
+
+        SseEmitter emitter = new SseEmitter(settings.getTimeoutMillis());
+        Subscriber subscriber = new Subscriber(emitter, admin, new ArrayBlockingQueue<>(Math.max(2, settings.getQueueCapacity())));
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        subscribers.add(subscriber);
+        if (admin) {
+            subscriber.offer(unreadCountEvent(unreadCounter.get()));
+        }
+        Thread.ofVirtual().name("portfolio-events-", subscribers.size()).start(subscriber::drain);
+
+        log.debug("Event stream opened ({} subscribers, admin: {})", subscribers.size(), admin);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChange(PortfolioChangeEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("entityType", event.entityType());
+        payload.put("action", event.action());
+        payload.put("entityId", event.entityId());
+        payload.put("userId", event.userId());
+
+        broadcast(SseEmitter.event().name("change").data(payload, MediaType.APPLICATION_JSON).build(),
+                event.is(PortfolioChangeEvent.EntityType.CONTACT_MESSAGE));
+    }
+
+    @EventListener
+    public void onUnreadCountChanged(UnreadCountChangedEvent event) {
+        broadcast(unreadCountEvent(event.unread()), true);
+    }
+
+    /**
+     * Keeps idle connections from being closed by proxies and notices clients that went away
+     */
+    @Scheduled(fixedDelayString = "${portfolio.events.heartbeat-millis:25000}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(SseEmitter.event().comment("heartbeat").build(), false);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> event, boolean adminOnly) {
+        for (Subscriber subscriber : subscribers) {
+            if (!adminOnly || subscriber.admin) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    private static Set<ResponseBodyEmitter.DataWithMediaType> unreadCountEvent(long unread) {
+        return SseEmitter.event().name("unread-count").data(unread).build();
+    }
+
+    /**
+     * One connection: its queue and the virtual thread writing it out
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final boolean admin;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean open = new AtomicBoolean(true);
+        private volatile Thread writer;
+
+        private Subscriber(SseEmitter emitter, boolean admin, BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue) {
+            this.emitter = emitter;
+            this.admin = admin;
+            this.queue = queue;
+        }
+
+        private synchronized void offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (!queue.offer(event)) {
+                // The client fell behind; what it missed is cheaper to refetch than to replay
+                queue.clear();
+                queue.offer(resync);
+                dropped.increment();
+            }
+        }
+
+        private void drain() {
+            writer = Thread.currentThread();
+            try {
+                while (open.get()) {
+                    emitter.send(queue.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Event stream client went away: {}", e.getMessage());
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            if (open.compareAndSet(true, false)) {
+                subscribers.remove(this);
+                Thread current = writer;
+                if (current != null && current != Thread.currentThread()) {
+                    current.interrupt();
+                }
+                log.debug("Event stream closed ({} subscribers)", subscribers.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.portfolio.event;
+
+/**
+ * Published after a committed change moved the number of unread contact messages
+ *
+ * @param unread Unread messages after the change
+ * @author Debojit Chakraborty
+ */
+public record UnreadCountChangedEvent(long unread) {
+}
@@ -0,0 +1,91 @@
+package com.portfolio.event;
+
+import com.portfolio.entity.ContactMessage;
+import com.portfolio.repository.ContactMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number of unread contact messages, kept in memory
+ * Counted once at startup, then moved by contact message change events: the delta is worked
+ * out while the entity still knows its previous read state and applied after commit, so
+ * rolled-back writes never show. Writes that bypass JPA callbacks (bulk JPQL updates) must
+ * call {@link #adjust(long)} or {@link #recount()} themselves.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadMessageCounter {
+
+    private final ContactMessageRepository contactMessageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicLong unread = new AtomicLong();
+
+    public long get() {
+        return unread.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recount() {
+        long count = contactMessageRepository.countByIsReadFalse();
+        unread.set(count);
+        log.info("Unread contact messages: {}", count);
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(count));
+    }
+
+    /**
+     * Runs synchronously inside the flush, before the entity forgets its previous read state
+     */
+    @EventListener
+    public void onPortfolioChange(PortfolioChangeEvent event) {
+        if (!(event.entity() instanceof ContactMessage message)) {
+            return;
+        }
+
+        long delta = switch (event.action()) {
+            case CREATED -> unread(message.getIsRead());
+            case DELETED -> -unread(message.getReadBefore() != null ? message.getReadBefore() : message.getIsRead());
+            case UPDATED -> message.getReadBefore() == null ? 0
+                    : unread(message.getIsRead()) - unread(message.getReadBefore());
+        };
+        if (delta != 0) {
+            adjust(delta);
+        }
+    }
+
+    /**
+     * Move the count by delta once the current transaction commits (immediately outside one)
+     */
+    public void adjust(long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(delta);
+                }
+            });
+        } else {
+            apply(delta);
+        }
+    }
+
+    private void apply(long delta) {
+        long count = unread.updateAndGet(current -> Math.max(0, current + delta));
+        log.debug("Unread contact messages now {} ({}{})", count, delta > 0 ? "+" : "", delta);
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(count));
+    }
+
+    private static long unread(Boolean read) {
+        return Boolean.TRUE.equals(read) ? 0 : 1;
+    }
+}
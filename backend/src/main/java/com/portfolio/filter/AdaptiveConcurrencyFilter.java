@@ -0,0 +1,175 @@
+package com.portfolio.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.config.ApplicationConfig;
+import com.portfolio.dto.ApiResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limiting and load shedding filter
+ * Rejects requests with 503 + Retry-After as soon as the measured latency shows
+ * the backend is saturated, instead of letting them queue on the connection pool.
+ * Bulk/admin traffic is shed first, critical endpoints are shed last.
+ *
+ * Runs right after the Spring Security chain so rejected responses still carry CORS headers.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    /**
+     * Endpoint groups in shedding order (last shed first)
+     */
+    public enum Priority {
+        CRITICAL, STANDARD, BULK
+    }
+
+    private final ApplicationConfig.Concurrency settings;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final AdaptiveConcurrencyLimiter globalLimiter;
+    private final Map<Priority, AdaptiveConcurrencyLimiter> groupLimiters = new EnumMap<>(Priority.class);
+    private final Map<Priority, Double> shares = new EnumMap<>(Priority.class);
+
+    public AdaptiveConcurrencyFilter(ApplicationConfig.PortfolioProperties portfolioProperties,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        this.settings = portfolioProperties.getConcurrency();
+        this.objectMapper = objectMapper;
+        this.globalLimiter = newLimiter("global");
+
+        for (Priority priority : Priority.values()) {
+            groupLimiters.put(priority, newLimiter(priority.name().toLowerCase()));
+        }
+        shares.put(Priority.CRITICAL, settings.getCriticalShare());
+        shares.put(Priority.STANDARD, settings.getStandardShare());
+        shares.put(Priority.BULK, settings.getBulkShare());
+
+        registerMetrics(meterRegistry, globalLimiter);
+        groupLimiters.values().forEach(limiter -> registerMetrics(meterRegistry, limiter));
+
+        log.info("Adaptive concurrency limiter {} - initial limit: {}, bounds: [{}, {}]",
+                settings.isEnabled() ? "enabled" : "disabled",
+                settings.getInitialLimit(), settings.getMinLimit(), settings.getMaxLimit());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !settings.isEnabled() || "OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        Priority priority = classify(request);
+        AdaptiveConcurrencyLimiter groupLimiter = groupLimiters.get(priority);
+
+        if (!globalLimiter.tryAcquire(shares.get(priority))) {
+            reject(request, response, priority, globalLimiter);
+            return;
+        }
+        if (!groupLimiter.tryAcquire(1.0)) {
+            globalLimiter.release(-1);
+            reject(request, response, priority, groupLimiter);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean sampled = false;
+        try {
+            filterChain.doFilter(request, response);
+            // Long-lived async responses (streams) would skew the latency baseline
+            sampled = !request.isAsyncStarted();
+        } finally {
+            long rtt = sampled ? System.nanoTime() - start : -1;
+            groupLimiter.release(rtt);
+            globalLimiter.release(rtt);
+        }
+    }
+
+    Priority classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        if ("GET".equalsIgnoreCase(request.getMethod()) && matches(settings.getCriticalPaths(), path)) {
+            return Priority.CRITICAL;
+        }
+        if (matches(settings.getBulkPaths(), path)) {
+            return Priority.BULK;
+        }
+        return Priority.STANDARD;
+    }
+
+    private boolean matches(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        Priority priority, AdaptiveConcurrencyLimiter limiter) throws IOException {
+
+        log.warn("Shedding {} request {} {} - {} limiter at {}/{}",
+                priority, request.getMethod(), request.getRequestURI(),
+                limiter.getName(), limiter.getInFlight(), limiter.getLimit());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(settings.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("Service temporarily overloaded", "Please retry shortly"));
+    }
+
+    private AdaptiveConcurrencyLimiter newLimiter(String name) {
+        return new AdaptiveConcurrencyLimiter(name,
+                settings.getInitialLimit(),
+                settings.getMinLimit(),
+                settings.getMaxLimit(),
+                settings.getSmoothing(),
+                settings.getRttTolerance(),
+                settings.getWindowMillis());
+    }
+
+    private void registerMetrics(MeterRegistry registry, AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("portfolio.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("group", limiter.getName())
+                .register(registry);
+        Gauge.builder("portfolio.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("group", limiter.getName())
+                .register(registry);
+        Gauge.builder("portfolio.concurrency.baseline-rtt", limiter, AdaptiveConcurrencyLimiter::getLongRttMillis)
+                .tag("group", limiter.getName())
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("portfolio.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+                .tag("group", limiter.getName())
+                .register(registry);
+    }
+}
@@ -0,0 +1,142 @@
+package com.portfolio.filter;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gradient based adaptive concurrency limiter
+ * Grows the limit while latency stays near its long-term baseline and
+ * shrinks it as soon as queueing shows up in the measured round-trip time
+ *
+ * @author Debojit Chakraborty
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    @Getter
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final long windowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder sampleRttSum = new LongAdder();
+    private final LongAdder sampleCount = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private volatile long windowStart = System.nanoTime();
+    private volatile double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double smoothing, double rttTolerance, long windowMillis) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.windowNanos = windowMillis * 1_000_000L;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Try to take a slot when fewer than {@code share} of the current limit is in use
+     *
+     * @param share Fraction of the limit the caller's priority may occupy
+     * @return true if the request may proceed
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release a slot and feed the observed latency into the current window
+     *
+     * @param rttNanos Request latency, or a negative value to release without sampling
+     */
+    public void release(long rttNanos) {
+        inFlight.decrementAndGet();
+
+        if (rttNanos >= 0) {
+            sampleRttSum.add(rttNanos);
+            sampleCount.increment();
+        }
+
+        long now = System.nanoTime();
+        if (now - windowStart >= windowNanos) {
+            closeWindow(now);
+        }
+    }
+
+    private synchronized void closeWindow(long now) {
+        if (now - windowStart < windowNanos) {
+            return; // another thread already rolled the window
+        }
+        windowStart = now;
+
+        long count = sampleCount.sumThenReset();
+        long sum = sampleRttSum.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+
+        if (count == 0) {
+            return;
+        }
+
+        double shortRtt = (double) sum / count;
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos = longRttNanos * 0.95 + shortRtt * 0.05;
+        }
+
+        // Let the baseline recover quickly after a sustained latency spike has passed
+        if (longRttNanos / shortRtt > 2.0) {
+            longRttNanos = longRttNanos * 0.9 + shortRtt * 0.1;
+        }
+
+        double current = limit;
+
+        // Application-limited: do not grow a limit the traffic never reached
+        if (peak < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRtt));
+        double queueSize = Math.sqrt(current);
+        double target = current * gradient + queueSize;
+
+        double next = current * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public double getLongRttMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+}
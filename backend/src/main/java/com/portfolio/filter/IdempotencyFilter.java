@@ -0,0 +1,305 @@
+package com.portfolio.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.cache.IdempotencyStore;
+import com.portfolio.config.ApplicationConfig;
+import com.portfolio.dto.ApiResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Idempotency-Key handling for retried submissions
+ * A POST to a configured path carrying an Idempotency-Key runs once; repeats with the same key
+ * and body get the original response back (marked Idempotent-Replayed), a repeat that arrives
+ * while the original is still running waits for it, and reusing a key for a different body is
+ * rejected with 422. Server errors are not stored, so the client can retry them.
+ *
+ * Runs after the Spring Security chain and the concurrency limiter, so a shed request never
+ * claims a key.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 3)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /**
+     * What happened to a keyed request, counted in portfolio.idempotency.requests
+     */
+    public enum Outcome {
+        STORED, REPLAYED, COALESCED, MISMATCH, CONFLICT, RELEASED
+    }
+
+    private final IdempotencyStore idempotencyStore;
+    private final ApplicationConfig.Idempotency settings;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<Outcome, LongAdder> outcomes = new EnumMap<>(Outcome.class);
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore,
+                             ApplicationConfig.PortfolioProperties portfolioProperties,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.idempotencyStore = idempotencyStore;
+        this.settings = portfolioProperties.getIdempotency();
+        this.objectMapper = objectMapper;
+
+        for (Outcome outcome : Outcome.values()) {
+            LongAdder counter = new LongAdder();
+            outcomes.put(outcome, counter);
+            FunctionCounter.builder("portfolio.idempotency.requests", counter, LongAdder::sum)
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!settings.isEnabled() || !"POST".equals(request.getMethod()) || request.getHeader(KEY_HEADER) == null) {
+            return true;
+        }
+
+        String path = pathWithinApplication(request);
+        for (String pattern : settings.getPaths()) {
+            if (pathMatcher.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String key = request.getHeader(KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > settings.getMaxKeyLength()) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Invalid Idempotency-Key",
+                    "Idempotency-Key must be 1-" + settings.getMaxKeyLength() + " characters");
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(settings.getMaxBodyBytes() + 1);
+        if (body.length > settings.getMaxBodyBytes()) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request too large",
+                    "Idempotent requests are limited to " + settings.getMaxBodyBytes() + " bytes");
+            return;
+        }
+
+        String keyHash = sha256((request.getMethod() + ' ' + pathWithinApplication(request) + ' ' + key)
+                .getBytes(StandardCharsets.UTF_8));
+        String requestHash = sha256(body);
+
+        // A second pass only happens when the original request failed and gave its key up
+        for (int attempt = 0; attempt < 2; attempt++) {
+            IdempotencyStore.Claim claim = idempotencyStore.claim(keyHash, requestHash);
+
+            if (claim.mismatch()) {
+                outcomes.get(Outcome.MISMATCH).increment();
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key reused",
+                        "This Idempotency-Key was already used for a different request");
+                return;
+            }
+
+            if (claim.owner()) {
+                execute(new CachedBodyRequest(request, body), response, filterChain, keyHash, claim);
+                return;
+            }
+
+            boolean inFlight = !claim.result().isDone();
+            IdempotencyStore.StoredResponse stored = await(claim);
+            if (stored != null) {
+                outcomes.get(inFlight ? Outcome.COALESCED : Outcome.REPLAYED).increment();
+                log.debug("Replaying response for idempotent {} {}", request.getMethod(), request.getRequestURI());
+                replay(response, stored);
+                return;
+            }
+            if (!claim.result().isDone()) {
+                break;
+            }
+        }
+
+        outcomes.get(Outcome.CONFLICT).increment();
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        writeError(response, HttpStatus.CONFLICT, "Request in progress",
+                "A request with this Idempotency-Key is still being processed");
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String keyHash, IdempotencyStore.Claim claim) throws ServletException, IOException {
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+
+            // 5xx and 429 mean "try again", so they must not be replayed
+            int status = wrapper.getStatus();
+            if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                idempotencyStore.complete(keyHash, claim, new IdempotencyStore.StoredResponse(
+                        status, wrapper.getContentType(), wrapper.getContentAsByteArray()));
+                outcomes.get(Outcome.STORED).increment();
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.release(keyHash, claim);
+                outcomes.get(Outcome.RELEASED).increment();
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private IdempotencyStore.StoredResponse await(IdempotencyStore.Claim claim) {
+        try {
+            return claim.result().get(settings.getInFlightWaitMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        byte[] body = stored.body() == null ? new byte[0] : stored.body();
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status,
+                            String message, String error) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message, error));
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * Request whose body was already read for hashing, replayed to the controller
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // The body is in memory and always ready: offer it until the reader stops
+                    // consuming, then report the end of the body
+                    try {
+                        int remaining = input.available();
+                        while (remaining > 0) {
+                            readListener.onDataAvailable();
+                            if (input.available() == remaining) {
+                                return;
+                            }
+                            remaining = input.available();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.portfolio.filter;
+
+import com.portfolio.cache.ContentVersion;
+import com.portfolio.cache.ResponseBytesCache;
+import com.portfolio.cache.ResponseCompressor;
+import com.portfolio.cache.StaleResponseAdvice;
+import com.portfolio.config.ApplicationConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-serialized response cache for public read endpoints
+ * A hit writes the stored bytes straight to the servlet output stream, skipping the
+ * controller, the ApiResponse wrapper and Jackson serialization entirely.
+ * A miss renders normally and keeps a copy of the final bytes; gzip/brotli variants
+ * are negotiated from Accept-Encoding, compressed once and reused.
+ *
+ * Entries are keyed by the representation Spring actually rendered (its Content-Type), never
+ * by a guess from Accept; each distinct Accept header remembers which representation content
+ * negotiation chose for it, so a hit serves exactly what a miss would have rendered.
+ *
+ * Runs after the Spring Security chain so CORS and security headers are still applied.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 2)
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private static final Map<String, String> REPRESENTATIONS = Map.of(
+            MediaType.APPLICATION_JSON_VALUE, "json",
+            MediaType.APPLICATION_CBOR_VALUE, "cbor",
+            "application/x-jackson-smile", "smile");
+
+    // Distinct Accept headers whose negotiated representation is remembered
+    private static final int MAX_ACCEPT_HEADERS = 256;
+
+    private final ResponseBytesCache responseBytesCache;
+    private final ResponseCompressor responseCompressor;
+    private final ContentVersion contentVersion;
+    private final ApplicationConfig.Cache settings;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, String> negotiated = new ConcurrentHashMap<>();
+
+    public ResponseCacheFilter(ResponseBytesCache responseBytesCache,
+                               ResponseCompressor responseCompressor,
+                               ContentVersion contentVersion,
+                               ApplicationConfig.PortfolioProperties portfolioProperties) {
+        this.responseBytesCache = responseBytesCache;
+        this.responseCompressor = responseCompressor;
+        this.contentVersion = contentVersion;
+        this.settings = portfolioProperties.getCache();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!settings.isResponseCacheEnabled() || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+
+        String path = pathWithinApplication(request);
+        for (String pattern : settings.getResponsePaths()) {
+            if (pathMatcher.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String resource = resourceKey(request);
+        String accept = acceptOf(request);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+
+        String representation = negotiated.get(accept);
+        if (representation != null) {
+            String key = resource + '#' + representation;
+            ResponseBytesCache.CachedResponse cached = responseBytesCache.get(key);
+            if (cached != null) {
+                writeCached(request, response, variantOf(key, cached, acceptEncoding), "HIT");
+                return;
+            }
+        }
+
+        long version = contentVersion.current();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.addHeader(HttpHeaders.VARY, "Accept, Accept-Encoding");
+
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            wrapper.copyBodyToResponse();
+            throw e;
+        }
+
+        String produced = representationOf(wrapper.getContentType());
+        if (produced == null || !isCacheable(wrapper)) {
+            wrapper.setHeader(CACHE_STATUS_HEADER, "BYPASS");
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        remember(accept, produced);
+        String key = resource + '#' + produced;
+        ResponseBytesCache.CachedResponse stored = responseBytesCache.put(key,
+                wrapper.getContentAsByteArray(),
+                wrapper.getContentType(),
+                wrapper.getHeader(HttpHeaders.CONTENT_ENCODING),
+                version);
+        log.debug("Cached {} bytes for {}", stored.body().length, key);
+
+        // The wrapper still holds the body; write the (possibly compressed) stored bytes instead
+        writeCached(request, response, variantOf(key, stored, acceptEncoding), "MISS");
+    }
+
+    /**
+     * Compressed variant of an identity entry, compressed once and reused until the content version changes
+     */
+    private ResponseBytesCache.CachedResponse variantOf(String key, ResponseBytesCache.CachedResponse identity,
+                                                       String acceptEncoding) {
+        if (identity.contentEncoding() != null) {
+            return identity;
+        }
+
+        ResponseCompressor.Coding coding = responseCompressor.negotiate(acceptEncoding, identity.body().length);
+        if (coding == ResponseCompressor.Coding.IDENTITY) {
+            return identity;
+        }
+
+        String variantKey = key + '#' + coding.getHeaderValue();
+        ResponseBytesCache.CachedResponse variant = responseBytesCache.get(variantKey);
+        if (variant == null || variant.version() != identity.version()) {
+            variant = responseBytesCache.put(variantKey,
+                    responseCompressor.compress(identity.body(), coding),
+                    identity.contentType(),
+                    coding.getHeaderValue(),
+                    identity.version());
+            log.debug("Compressed {} with {}: {} -> {} bytes", key, coding.getHeaderValue(),
+                    identity.body().length, variant.body().length);
+        }
+        return variant;
+    }
+
+    private void writeCached(HttpServletRequest request, HttpServletResponse response,
+                             ResponseBytesCache.CachedResponse cached, String cacheStatus) throws IOException {
+
+        response.setHeader(CACHE_STATUS_HEADER, cacheStatus);
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        if (!response.containsHeader(HttpHeaders.VARY)) {
+            response.addHeader(HttpHeaders.VARY, "Accept, Accept-Encoding");
+        }
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.contains(cached.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        if (cached.contentEncoding() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, cached.contentEncoding());
+        }
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    private boolean isCacheable(ContentCachingResponseWrapper wrapper) {
+        return wrapper.getStatus() == HttpServletResponse.SC_OK
+                && wrapper.getContentSize() > 0
+                && wrapper.getHeader(StaleResponseAdvice.STALE_HEADER) == null
+                && wrapper.getHeader(HttpHeaders.SET_COOKIE) == null;
+    }
+
+    String resourceKey(HttpServletRequest request) {
+        String query = request.getQueryString();
+        String path = pathWithinApplication(request);
+        return query == null ? path : path + '?' + query;
+    }
+
+    /**
+     * Representation of a rendered response from its Content-Type, or null when it is
+     * missing or not one of JSON, CBOR and Smile (such responses are never cached)
+     */
+    static String representationOf(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return REPRESENTATIONS.get(mediaType.getType() + "/" + mediaType.getSubtype());
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Every cached path is rendered through the same message converters, so the Accept header
+     * alone decides the negotiated representation
+     */
+    private void remember(String accept, String representation) {
+        if (negotiated.size() >= MAX_ACCEPT_HEADERS && !negotiated.containsKey(accept)) {
+            // Unbounded client-controlled keys; start over rather than grow
+            negotiated.clear();
+        }
+        negotiated.put(accept, representation);
+    }
+
+    private static String acceptOf(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept == null ? MediaType.ALL_VALUE : accept.trim();
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,16 @@
+package com.portfolio.inbox;
+
+/**
+ * Outcome of contact message classification
+ * Messages stored before classification existed have none and are treated as INBOX
+ *
+ * @author Debojit Chakraborty
+ */
+public enum MessageClassification {
+    // Stored, classification not finished yet
+    PENDING,
+    INBOX,
+    // Near-duplicate of an earlier message (see duplicateOf)
+    DUPLICATE,
+    SPAM
+}
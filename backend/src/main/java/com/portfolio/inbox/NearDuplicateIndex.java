@@ -0,0 +1,119 @@
+package com.portfolio.inbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * In-memory LSH index over SimHash fingerprints of recent messages
+ * The 64 bits are split into maxDistance + 1 bands (at least two); two fingerprints within
+ * Hamming distance maxDistance must agree on at least one band, so looking up every band finds
+ * every near-duplicate without comparing against the whole inbox. The default distance of 3
+ * gives four 16-bit bands; larger distances mean narrower bands and more candidates to check.
+ * Entries older than the window, or beyond the capacity, are evicted oldest first.
+ *
+ * @author Debojit Chakraborty
+ */
+public final class NearDuplicateIndex {
+
+    // Narrowest band is 4 bits; beyond this every lookup would touch most of the index
+    public static final int MAX_DISTANCE = 15;
+
+    /**
+     * One indexed message; representativeId is the first message of its cluster
+     */
+    private record Entry(long messageId, long fingerprint, long representativeId, LocalDateTime indexedAt) {
+    }
+
+    private final int capacity;
+    private final int maxDistance;
+    private final int bands;
+    private final Map<Long, List<Entry>> buckets = new HashMap<>();
+    private final Deque<Entry> byAge = new ArrayDeque<>();
+
+    /**
+     * @param capacity    Maximum number of indexed messages
+     * @param maxDistance Largest Hamming distance lookups must be exact for
+     * @throws IllegalArgumentException if maxDistance is negative or above MAX_DISTANCE
+     */
+    public NearDuplicateIndex(int capacity, int maxDistance) {
+        if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("maxDistance must be between 0 and " + MAX_DISTANCE + ", was " + maxDistance);
+        }
+        this.capacity = Math.max(1, capacity);
+        this.maxDistance = maxDistance;
+        this.bands = Math.max(2, maxDistance + 1);
+    }
+
+    /**
+     * Representative of the closest indexed fingerprint within maxDistance, if any
+     *
+     * @throws IllegalArgumentException if maxDistance exceeds the distance the index was built for
+     */
+    public synchronized OptionalLong findNear(long fingerprint, int maxDistance) {
+        if (maxDistance > this.maxDistance) {
+            throw new IllegalArgumentException("Index only finds matches within distance " + this.maxDistance);
+        }
+        Entry best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int band = 0; band < bands; band++) {
+            for (Entry entry : buckets.getOrDefault(bandKey(band, fingerprint), List.of())) {
+                int distance = SimHash.distance(fingerprint, entry.fingerprint());
+                if (distance <= maxDistance && distance < bestDistance) {
+                    best = entry;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best == null ? OptionalLong.empty() : OptionalLong.of(best.representativeId());
+    }
+
+    public synchronized void add(long messageId, long fingerprint, long representativeId, LocalDateTime indexedAt) {
+        Entry entry = new Entry(messageId, fingerprint, representativeId, indexedAt);
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfAbsent(bandKey(band, fingerprint), key -> new ArrayList<>(2)).add(entry);
+        }
+        byAge.addLast(entry);
+        while (byAge.size() > capacity) {
+            remove(byAge.removeFirst());
+        }
+    }
+
+    public synchronized void evictBefore(LocalDateTime cutoff) {
+        while (!byAge.isEmpty() && byAge.peekFirst().indexedAt().isBefore(cutoff)) {
+            remove(byAge.removeFirst());
+        }
+    }
+
+    public synchronized int size() {
+        return byAge.size();
+    }
+
+    private void remove(Entry entry) {
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(band, entry.fingerprint());
+            List<Entry> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(entry);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Band number and the band's bits; band i covers bits [64i/bands, 64(i+1)/bands), at most 32 wide
+     */
+    private long bandKey(int band, long fingerprint) {
+        int from = band * 64 / bands;
+        int width = (band + 1) * 64 / bands - from;
+        long bits = (fingerprint >>> from) & ((1L << width) - 1);
+        return ((long) band << 32) | bits;
+    }
+}
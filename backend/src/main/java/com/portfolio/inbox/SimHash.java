@@ -0,0 +1,70 @@
+package com.portfolio.inbox;
+
+import com.portfolio.util.Hashing;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 64-bit SimHash fingerprints of free text
+ * Features are word 3-shingles of the normalized text, so reworded or padded copies
+ * of a message land a few bits apart while unrelated messages differ in about half.
+ *
+ * @author Debojit Chakraborty
+ */
+public final class SimHash {
+
+    private static final int SHINGLE = 3;
+
+    private SimHash() {
+    }
+
+    /**
+     * Lowercased, accent-free words of letters and digits
+     */
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+        for (String token : normalized.split("[^\\p{L}\\p{Nd}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    public static long fingerprint(List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return 0L;
+        }
+
+        int[] votes = new int[64];
+        int shingles = Math.max(1, tokens.size() - SHINGLE + 1);
+        for (int i = 0; i < shingles; i++) {
+            String feature = String.join(" ", tokens.subList(i, Math.min(tokens.size(), i + SHINGLE)));
+            long hash = Hashing.hash64(feature);
+            for (int bit = 0; bit < 64; bit++) {
+                votes[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
@@ -0,0 +1,85 @@
+package com.portfolio.inbox;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lightweight local spam model: a logistic score over a handful of text features
+ * Weights are hand-tuned for contact-form spam (link farms, SEO and crypto pitches,
+ * shouting, markup, bot-generated senders); the score is a probability-like 0..1.
+ *
+ * @author Debojit Chakraborty
+ */
+public final class SpamScorer {
+
+    private static final double BIAS = -3.0;
+    private static final double W_LINK = 1.2;
+    private static final double W_KEYWORD = 1.4;
+    private static final double W_MARKUP = 2.0;
+    private static final double W_SHOUTING = 1.5;
+    private static final double W_SHORT = 0.8;
+    private static final double W_PUNCTUATION = 0.6;
+    private static final double W_NUMERIC_SENDER = 0.7;
+    private static final double W_REPEATS = 1.0;
+
+    private static final Pattern LINK = Pattern.compile("(?i)https?://|www\\.");
+    private static final Pattern MARKUP = Pattern.compile("(?i)<a\\s+href|\\[url[=\\]]|\\[link[=\\]]");
+    private static final Pattern PUNCTUATION_RUN = Pattern.compile("[!$?]{3,}");
+    private static final Pattern NUMERIC_LOCAL_PART = Pattern.compile("^[^@]*\\d{4,}[^@]*@");
+
+    private static final Set<String> KEYWORDS = Set.of(
+            "seo", "backlinks", "backlink", "ranking", "crypto", "bitcoin", "forex", "casino", "betting",
+            "loan", "loans", "viagra", "cialis", "investment", "guaranteed", "unsubscribe", "whatsapp",
+            "telegram", "promotion", "traffic", "leads", "winner", "prize", "escort", "replica");
+
+    private SpamScorer() {
+    }
+
+    /**
+     * @param tokens      Normalized words of subject and message (see SimHash#tokens)
+     * @param clusterSize Messages already in this message's near-duplicate cluster
+     */
+    public static double score(String subject, String message, String email, List<String> tokens, int clusterSize) {
+        String text = (subject == null ? "" : subject) + "\n" + (message == null ? "" : message);
+
+        double z = BIAS;
+        z += W_LINK * Math.min(count(LINK, text), 5);
+        z += W_KEYWORD * Math.min(tokens.stream().filter(KEYWORDS::contains).distinct().count(), 3);
+        z += MARKUP.matcher(text).find() ? W_MARKUP : 0;
+        z += uppercaseRatio(text) > 0.5 ? W_SHOUTING : 0;
+        z += tokens.size() < 4 ? W_SHORT : 0;
+        z += PUNCTUATION_RUN.matcher(text).find() ? W_PUNCTUATION : 0;
+        z += email != null && NUMERIC_LOCAL_PART.matcher(email.toLowerCase(Locale.ROOT)).find() ? W_NUMERIC_SENDER : 0;
+        // The same text arriving over and over is the strongest bot signal
+        z += clusterSize >= 2 ? W_REPEATS * Math.log(clusterSize) / Math.log(2) : 0;
+
+        return 1.0 / (1.0 + Math.exp(-z));
+    }
+
+    private static int count(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    private static double uppercaseRatio(String text) {
+        int letters = 0;
+        int upper = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetter(c)) {
+                letters++;
+                if (Character.isUpperCase(c)) {
+                    upper++;
+                }
+            }
+        }
+        return letters < 12 ? 0 : (double) upper / letters;
+    }
+}
@@ -1,5 +1,6 @@
 package com.portfolio.mapper;
 
+import com.portfolio.asset.AssetManifest;
 import com.portfolio.dto.ContactMessageDTO;
 import com.portfolio.dto.EducationDTO;
 import com.portfolio.dto.ExperienceDTO;
@@ -12,8 +13,13 @@ import com.portfolio.entity.Experience;
 import com.portfolio.entity.Project;
 import com.portfolio.entity.Skill;
 import com.portfolio.entity.User;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -27,8 +33,11 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class EntityDTOMapper {
 
+    private final AssetManifest assetManifest;
+
     // User mappings
     public UserDTO toUserDTO(User user) {
         if (user == null) {
@@ -44,8 +53,8 @@ public class EntityDTOMapper {
         dto.setEmail(user.getEmail());
         dto.setPhone(user.getPhone());
         dto.setBio(user.getBio());
-        dto.setProfileImage(user.getProfileImage());
-        dto.setResumeUrl(user.getResumeUrl());
+        dto.setProfileImage(assetManifest.fingerprintUrl(user.getProfileImage()));
+        dto.setResumeUrl(assetManifest.fingerprintUrl(user.getResumeUrl()));
         dto.setIsActive(user.getIsActive());
         dto.setCreatedAt(user.getCreatedAt());
         dto.setUpdatedAt(user.getUpdatedAt());
@@ -166,7 +175,7 @@ public class EntityDTOMapper {
         dto.setTechnologies(project.getTechnologies());
         dto.setGithubUrl(project.getGithubUrl());
         dto.setLiveUrl(project.getLiveUrl());
-        dto.setImageUrl(project.getImageUrl());
+        dto.setImageUrl(assetManifest.fingerprintUrl(project.getImageUrl()));
         dto.setStartDate(project.getStartDate());
         dto.setEndDate(project.getEndDate());
         dto.setCreatedAt(project.getCreatedAt());
@@ -279,6 +288,12 @@ public class EntityDTOMapper {
         dto.setSentDate(contactMessage.getSentDate());
         dto.setIsRead(contactMessage.getIsRead());
         dto.setResponse(contactMessage.getResponse());
+        dto.setReadDate(contactMessage.getReadDate());
+        dto.setRespondedDate(contactMessage.getRespondedDate());
+        dto.setClassification(contactMessage.getClassification());
+        dto.setSpamScore(contactMessage.getSpamScore());
+        dto.setDuplicateOf(contactMessage.getDuplicateOf());
+        dto.setDuplicateCount(contactMessage.getDuplicateCount());
 
         return dto;
     }
@@ -337,4 +352,45 @@ public class EntityDTOMapper {
                 .map(this::toContactMessageDTO)
                 .collect(Collectors.toList());
     }
+
+    // Sparse mappings: fill only the columns a projection selected (aliases are property names)
+
+    public UserDTO toUserDTO(Tuple tuple) {
+        UserDTO dto = fill(new UserDTO(), tuple);
+        dto.setProfileImage(assetManifest.fingerprintUrl(dto.getProfileImage()));
+        dto.setResumeUrl(assetManifest.fingerprintUrl(dto.getResumeUrl()));
+        return dto;
+    }
+
+    public ExperienceDTO toExperienceDTO(Tuple tuple) {
+        return fill(new ExperienceDTO(), tuple);
+    }
+
+    public ProjectDTO toProjectDTO(Tuple tuple) {
+        ProjectDTO dto = fill(new ProjectDTO(), tuple);
+        dto.setImageUrl(assetManifest.fingerprintUrl(dto.getImageUrl()));
+        return dto;
+    }
+
+    public SkillDTO toSkillDTO(Tuple tuple) {
+        return fill(new SkillDTO(), tuple);
+    }
+
+    public EducationDTO toEducationDTO(Tuple tuple) {
+        return fill(new EducationDTO(), tuple);
+    }
+
+    public ContactMessageDTO toContactMessageDTO(Tuple tuple) {
+        return fill(new ContactMessageDTO(), tuple);
+    }
+
+    private static <D> D fill(D dto, Tuple tuple) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(dto);
+        for (TupleElement<?> element : tuple.getElements()) {
+            if (wrapper.isWritableProperty(element.getAlias())) {
+                wrapper.setPropertyValue(element.getAlias(), tuple.get(element));
+            }
+        }
+        return dto;
+    }
 }
@@ -0,0 +1,101 @@
+package com.portfolio.notification;
+
+import com.portfolio.config.ApplicationConfig;
+import com.portfolio.entity.ContactMessage;
+import com.portfolio.event.PortfolioChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes contact notifications to the outbox table
+ * Runs synchronously inside the flush of the contact message change, so the outbox row
+ * commits or rolls back with the message and no SMTP call ever sits on the request path.
+ * OutboxDispatcher delivers the rows afterwards.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class NotificationOutbox {
+
+    private static final String INSERT = "INSERT INTO notification_outbox "
+            + "(type, message_id, recipient, subject, body, status, attempts, next_attempt_at, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private static final int MAX_SUBJECT_LENGTH = 255;
+    private static final DateTimeFormatter SENT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final ApplicationConfig.Notifications settings;
+    private final String supportEmail;
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationOutbox(ApplicationConfig.PortfolioProperties portfolioProperties, JdbcTemplate jdbcTemplate) {
+        this.settings = portfolioProperties.getNotifications();
+        this.supportEmail = portfolioProperties.getSupportEmail();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener
+    public void onPortfolioChange(PortfolioChangeEvent event) {
+        if (!settings.isEnabled() || !(event.entity() instanceof ContactMessage message)) {
+            return;
+        }
+
+        if (event.action() == PortfolioChangeEvent.Action.CREATED) {
+            if (settings.isNotifyNewMessages() && hasText(supportEmail)) {
+                enqueue(NotificationType.CONTACT_RECEIVED, message, supportEmail,
+                        "[Portfolio] New message from " + message.getName() + ": " + message.getSubject(),
+                        receivedBody(message));
+            }
+        } else if (event.action() == PortfolioChangeEvent.Action.UPDATED
+                && message.getRespondedDate() != null && message.getRespondedDateBefore() == null) {
+            if (settings.isSendResponses() && hasText(message.getEmail()) && hasText(message.getResponse())) {
+                enqueue(NotificationType.CONTACT_RESPONSE, message, message.getEmail(),
+                        "Re: " + message.getSubject(), responseBody(message));
+            }
+        }
+    }
+
+    private void enqueue(NotificationType type, ContactMessage message, String recipient, String subject, String body) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // Subject carries visitor input: keep it on one header line
+        String oneLine = subject.replaceAll("[\\r\\n]+", " ");
+        String trimmedSubject = oneLine.length() > MAX_SUBJECT_LENGTH ? oneLine.substring(0, MAX_SUBJECT_LENGTH) : oneLine;
+        jdbcTemplate.update(INSERT, type.name(), message.getMessageId(), recipient, trimmedSubject, body,
+                OutboxStatus.PENDING.name(), now, now);
+        log.debug("Queued {} notification for contact message {}", type, message.getMessageId());
+    }
+
+    private static String receivedBody(ContactMessage message) {
+        return "New message received through the portfolio contact form.\n\n"
+                + "From:    " + message.getName() + " <" + message.getEmail() + ">\n"
+                + "Sent:    " + (message.getSentDate() != null ? message.getSentDate().format(SENT_FORMAT) : "-") + "\n"
+                + "Subject: " + message.getSubject() + "\n\n"
+                + message.getMessage() + "\n";
+    }
+
+    private static String responseBody(ContactMessage message) {
+        StringBuilder body = new StringBuilder()
+                .append("Hi ").append(message.getName()).append(",\n\n")
+                .append(message.getResponse()).append("\n\n")
+                .append("---- Your message");
+        if (message.getSentDate() != null) {
+            body.append(" of ").append(message.getSentDate().format(SENT_FORMAT));
+        }
+        body.append(" ----\n");
+        for (String line : String.valueOf(message.getMessage()).split("\n", -1)) {
+            body.append("> ").append(line).append('\n');
+        }
+        return body.toString();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
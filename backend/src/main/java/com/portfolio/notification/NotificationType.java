@@ -0,0 +1,13 @@
+package com.portfolio.notification;
+
+/**
+ * Kinds of e-mail queued in the notification outbox
+ *
+ * @author Debojit Chakraborty
+ */
+public enum NotificationType {
+    // New contact message, sent to the support address
+    CONTACT_RECEIVED,
+    // Admin's response, sent to the message's sender
+    CONTACT_RESPONSE
+}
@@ -0,0 +1,318 @@
+package com.portfolio.notification;
+
+import com.portfolio.cache.DatabaseCircuitBreaker;
+import com.portfolio.config.ApplicationConfig;
+import com.portfolio.entity.OutboxMessage;
+import com.portfolio.inbox.MessageClassification;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivers the notification outbox over SMTP
+ * Each poll claims a batch of due rows (FOR UPDATE SKIP LOCKED plus a lease, so several
+ * instances never send the same row), sends it over one SMTP connection and records the
+ * outcome per row. Sends are paced by a token bucket of max-per-minute; failures are retried
+ * with exponential backoff and jitter until max-attempts. New-message notices wait briefly
+ * for spam/duplicate classification and are dropped for filtered messages.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final String CLAIM = "SELECT outbox_id, type, message_id, recipient, subject, body, attempts, created_at "
+            + "FROM notification_outbox WHERE status = 'PENDING' AND next_attempt_at <= ? "
+            + "ORDER BY next_attempt_at, outbox_id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String LEASE = "UPDATE notification_outbox SET next_attempt_at = ? WHERE outbox_id = ?";
+    private static final String MARK_SENT = "UPDATE notification_outbox SET status = 'SENT', attempts = ?, sent_at = ?, "
+            + "last_error = NULL WHERE outbox_id = ?";
+    private static final String MARK_RETRY = "UPDATE notification_outbox SET status = ?, attempts = ?, next_attempt_at = ?, "
+            + "last_error = ? WHERE outbox_id = ?";
+    private static final String MARK_SKIPPED = "UPDATE notification_outbox SET status = 'SKIPPED', last_error = ? WHERE outbox_id = ?";
+    private static final String DEFER = "UPDATE notification_outbox SET next_attempt_at = ? WHERE outbox_id = ?";
+    private static final String CLASSIFICATION = "SELECT classification FROM contact_messages WHERE message_id = ?";
+    private static final String BACKLOG = "SELECT COUNT(*), MIN(created_at) FROM notification_outbox WHERE status = 'PENDING'";
+    private static final String PURGE = "DELETE FROM notification_outbox WHERE status IN ('SENT', 'SKIPPED') "
+            + "AND created_at < ? LIMIT ?";
+    private static final int PURGE_CHUNK = 1000;
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> {
+        OutboxMessage message = new OutboxMessage();
+        message.setOutboxId(rs.getLong("outbox_id"));
+        message.setType(NotificationType.valueOf(rs.getString("type")));
+        message.setMessageId(rs.getObject("message_id", Long.class));
+        message.setRecipient(rs.getString("recipient"));
+        message.setSubject(rs.getString("subject"));
+        message.setBody(rs.getString("body"));
+        message.setAttempts(rs.getInt("attempts"));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        message.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+        return message;
+    };
+
+    private final ApplicationConfig.Notifications settings;
+    private final JavaMailSender mailSender;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseCircuitBreaker circuitBreaker;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private volatile long backlog;
+    private volatile double lagSeconds;
+
+    // Token bucket pacing deliveries; only touched by the scheduler thread
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    public OutboxDispatcher(ApplicationConfig.PortfolioProperties portfolioProperties,
+                            JavaMailSender mailSender,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            DatabaseCircuitBreaker circuitBreaker,
+                            MeterRegistry meterRegistry) {
+        this.settings = portfolioProperties.getNotifications();
+        this.mailSender = mailSender;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.tokens = Math.min(settings.getBatchSize(), settings.getMaxPerMinute());
+
+        FunctionCounter.builder("portfolio.notifications.sent", sent, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("portfolio.notifications.retried", retried, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("portfolio.notifications.failed", failed, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("portfolio.notifications.skipped", skipped, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("portfolio.notifications.outbox.pending", this, dispatcher -> dispatcher.backlog)
+                .register(meterRegistry);
+        Gauge.builder("portfolio.notifications.outbox.lag", this, dispatcher -> dispatcher.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Delete sent and skipped notifications past the retention period, in short chunks
+     * Failed ones are kept for inspection.
+     */
+    @Scheduled(fixedDelayString = "${portfolio.notifications.purge-interval-millis:3600000}", initialDelay = 60000)
+    public void purgeDelivered() {
+        if (!circuitBreaker.allowRequest()) {
+            return;
+        }
+
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(settings.getRetentionDays()));
+        try {
+            int removed = 0;
+            int chunk;
+            do {
+                chunk = jdbcTemplate.update(PURGE, cutoff, PURGE_CHUNK);
+                removed += chunk;
+            } while (chunk == PURGE_CHUNK);
+            if (removed > 0) {
+                log.info("Purged {} delivered notifications older than {} days", removed, settings.getRetentionDays());
+            }
+        } catch (Exception e) {
+            if (DatabaseCircuitBreaker.isDatabaseFailure(e)) {
+                circuitBreaker.recordFailure();
+            }
+            log.warn("Could not purge delivered notifications: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.notifications.poll-interval-millis:2000}")
+    public void dispatch() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        if (!circuitBreaker.allowRequest()) {
+            log.debug("Database circuit open - outbox dispatch deferred");
+            return;
+        }
+
+        try {
+            refreshBacklog();
+            int permits = availablePermits();
+            if (backlog == 0 || permits == 0) {
+                return;
+            }
+
+            List<OutboxMessage> batch = claim(Math.min(settings.getBatchSize(), permits));
+            List<OutboxMessage> deliverable = new ArrayList<>(batch.size());
+            for (OutboxMessage message : batch) {
+                if (readyToSend(message)) {
+                    deliverable.add(message);
+                }
+            }
+            if (!deliverable.isEmpty()) {
+                tokens -= deliverable.size();
+                deliver(deliverable);
+            }
+        } catch (Exception e) {
+            if (DatabaseCircuitBreaker.isDatabaseFailure(e)) {
+                circuitBreaker.recordFailure();
+            }
+            log.warn("Outbox dispatch failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Lock due rows and push their next attempt past the lease, so a crash mid-send only delays them
+     */
+    private List<OutboxMessage> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp leaseUntil = Timestamp.valueOf(now.plusSeconds(settings.getLeaseSeconds()));
+        return transactionTemplate.execute(status -> {
+            List<OutboxMessage> rows = jdbcTemplate.query(CLAIM, ROW_MAPPER, Timestamp.valueOf(now), limit);
+            List<Object[]> leases = new ArrayList<>(rows.size());
+            rows.forEach(row -> leases.add(new Object[]{leaseUntil, row.getOutboxId()}));
+            if (!leases.isEmpty()) {
+                jdbcTemplate.batchUpdate(LEASE, leases);
+            }
+            return rows;
+        });
+    }
+
+    /**
+     * New-message notices are held while the message is unclassified and dropped once it is filtered
+     */
+    private boolean readyToSend(OutboxMessage message) {
+        if (message.getType() != NotificationType.CONTACT_RECEIVED || message.getMessageId() == null) {
+            return true;
+        }
+
+        List<String> classification = jdbcTemplate.queryForList(CLASSIFICATION, String.class, message.getMessageId());
+        if (classification.isEmpty()) {
+            skip(message, "Contact message deleted");
+            return false;
+        }
+
+        String value = classification.get(0);
+        if (MessageClassification.SPAM.name().equals(value) || MessageClassification.DUPLICATE.name().equals(value)) {
+            skip(message, "Contact message filed as " + value);
+            return false;
+        }
+
+        LocalDateTime waitUntil = message.getCreatedAt() == null ? null
+                : message.getCreatedAt().plusSeconds(settings.getClassificationWaitSeconds());
+        if (MessageClassification.PENDING.name().equals(value) && waitUntil != null && waitUntil.isAfter(LocalDateTime.now())) {
+            jdbcTemplate.update(DEFER, Timestamp.valueOf(waitUntil), message.getOutboxId());
+            return false;
+        }
+        return true;
+    }
+
+    private void deliver(List<OutboxMessage> batch) {
+        Map<SimpleMailMessage, OutboxMessage> mails = new IdentityHashMap<>();
+        for (OutboxMessage message : batch) {
+            SimpleMailMessage mail = new SimpleMailMessage();
+            mail.setFrom(settings.getFromAddress());
+            mail.setTo(message.getRecipient());
+            mail.setSubject(message.getSubject());
+            mail.setText(message.getBody());
+            mails.put(mail, message);
+        }
+
+        Map<Object, Exception> failures;
+        try {
+            // One connection for the whole batch
+            mailSender.send(mails.keySet().toArray(new SimpleMailMessage[0]));
+            failures = Map.of();
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(mails, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = allFailed(mails, e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<SimpleMailMessage, OutboxMessage> entry : mails.entrySet()) {
+            OutboxMessage message = entry.getValue();
+            int attempts = message.getAttempts() + 1;
+            Exception failure = failures.get(entry.getKey());
+
+            if (failure == null) {
+                jdbcTemplate.update(MARK_SENT, attempts, Timestamp.valueOf(now), message.getOutboxId());
+                sent.increment();
+            } else if (attempts >= settings.getMaxAttempts()) {
+                jdbcTemplate.update(MARK_RETRY, OutboxStatus.FAILED.name(), attempts, Timestamp.valueOf(now),
+                        errorText(failure), message.getOutboxId());
+                failed.increment();
+                log.error("Giving up on {} notification {} after {} attempts: {}",
+                        message.getType(), message.getOutboxId(), attempts, failure.getMessage());
+            } else {
+                jdbcTemplate.update(MARK_RETRY, OutboxStatus.PENDING.name(), attempts,
+                        Timestamp.valueOf(now.plus(backoff(attempts))), errorText(failure), message.getOutboxId());
+                retried.increment();
+                log.warn("{} notification {} failed (attempt {}), will retry: {}",
+                        message.getType(), message.getOutboxId(), attempts, failure.getMessage());
+            }
+        }
+        log.debug("Outbox batch of {} delivered, {} failed", mails.size(), failures.size());
+    }
+
+    /**
+     * initial * 2^(attempt-1), capped, with up to 20% jitter so retries of a failed batch spread out
+     */
+    Duration backoff(int attempt) {
+        long seconds = settings.getInitialBackoffSeconds() << Math.min(attempt - 1, 20);
+        seconds = Math.min(seconds, settings.getMaxBackoffSeconds());
+        long jitterMillis = (long) (seconds * 1000 * 0.2 * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofSeconds(seconds).plusMillis(jitterMillis);
+    }
+
+    private int availablePermits() {
+        long now = System.nanoTime();
+        double perNano = settings.getMaxPerMinute() / 60_000_000_000.0;
+        tokens = Math.min(settings.getMaxPerMinute(), tokens + (now - lastRefillNanos) * perNano);
+        lastRefillNanos = now;
+        return (int) Math.floor(tokens);
+    }
+
+    private void refreshBacklog() {
+        jdbcTemplate.query(BACKLOG, rs -> {
+            backlog = rs.getLong(1);
+            Timestamp oldest = rs.getTimestamp(2);
+            lagSeconds = oldest == null ? 0
+                    : Math.max(0, Duration.between(oldest.toLocalDateTime(), LocalDateTime.now()).toMillis() / 1000.0);
+        });
+    }
+
+    private void skip(OutboxMessage message, String reason) {
+        jdbcTemplate.update(MARK_SKIPPED, reason, message.getOutboxId());
+        skipped.increment();
+        log.debug("Skipped {} notification {}: {}", message.getType(), message.getOutboxId(), reason);
+    }
+
+    private static Map<Object, Exception> allFailed(Map<SimpleMailMessage, OutboxMessage> mails, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        mails.keySet().forEach(mail -> failures.put(mail, e));
+        return failures;
+    }
+
+    private static String errorText(Exception e) {
+        String text = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return text.length() > 500 ? text.substring(0, 500) : text;
+    }
+}
@@ -0,0 +1,10 @@
+package com.portfolio.notification;
+
+/**
+ * Delivery state of an outbox row
+ *
+ * @author Debojit Chakraborty
+ */
+public enum OutboxStatus {
+    PENDING, SENT, FAILED, SKIPPED
+}
@@ -0,0 +1,131 @@
+package com.portfolio.repository;
+
+import com.portfolio.inbox.MessageClassification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Set-based bulk updates of contact messages
+ * Each action is a constant number of statements however many rows match: the affected rows
+ * are locked and summarised (SELECT ... FOR UPDATE, grouped by sent day) and then changed with
+ * one UPDATE or DELETE. No entity is loaded, so JPA callbacks do not run and callers adjust
+ * the unread counter and the statistics rollups from the returned summary.
+ *
+ * @author Debojit Chakraborty
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContactMessageBulkRepository {
+
+    /**
+     * Which messages a bulk action applies to; null criteria are ignored, the rest must all match
+     */
+    public record Criteria(Collection<Long> ids, LocalDateTime sentFrom, LocalDateTime sentBefore,
+                           MessageClassification classification) {
+    }
+
+    /**
+     * Messages first read by a mark-read action, for one sent day
+     *
+     * @param readSeconds Sum over the day's messages of the time from sending to now
+     */
+    public record DayReads(LocalDate day, long count, long readSeconds) {
+    }
+
+    /**
+     * @param changed  Rows the UPDATE or DELETE touched
+     * @param unread   How many of them were unread
+     * @param newReads Rows whose read date was set by this action, per sent day (mark-read only)
+     */
+    public record Result(long changed, long unread, List<DayReads> newReads) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Mark matching unread messages read; a read date is set where none was recorded yet
+     * Messages already read are left alone, including spam and near-duplicates, which are filed
+     * read without a read date and must not count as read by the admin in the statistics.
+     */
+    public Result markRead(Criteria criteria, LocalDateTime now) {
+        List<Object> args = new ArrayList<>();
+        String where = where(criteria, args);
+        Timestamp at = Timestamp.valueOf(now);
+
+        List<Object> summaryArgs = new ArrayList<>();
+        summaryArgs.add(at);
+        summaryArgs.addAll(args);
+        List<DayReads> newReads = new ArrayList<>();
+        long[] unread = new long[1];
+        jdbcTemplate.query("SELECT DATE(sent_date), SUM(CASE WHEN read_date IS NULL THEN 1 ELSE 0 END), "
+                        + "COALESCE(SUM(CASE WHEN read_date IS NULL THEN GREATEST(TIMESTAMPDIFF(SECOND, sent_date, ?), 0) END), 0), "
+                        + "COUNT(*) "
+                        + "FROM contact_messages WHERE " + where + " AND is_read = FALSE "
+                        + "GROUP BY DATE(sent_date) FOR UPDATE",
+                rs -> {
+                    Date day = rs.getDate(1);
+                    long count = rs.getLong(2);
+                    if (day != null && count > 0) {
+                        newReads.add(new DayReads(day.toLocalDate(), count, rs.getLong(3)));
+                    }
+                    unread[0] += rs.getLong(4);
+                },
+                summaryArgs.toArray());
+
+        List<Object> updateArgs = new ArrayList<>();
+        updateArgs.add(at);
+        updateArgs.addAll(args);
+        int changed = jdbcTemplate.update("UPDATE contact_messages SET is_read = TRUE, read_date = COALESCE(read_date, ?) "
+                + "WHERE " + where + " AND is_read = FALSE", updateArgs.toArray());
+
+        return new Result(changed, unread[0], newReads);
+    }
+
+    /**
+     * Delete matching messages
+     */
+    public Result delete(Criteria criteria) {
+        List<Object> args = new ArrayList<>();
+        String where = where(criteria, args);
+
+        Long unread = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM contact_messages WHERE "
+                + where + " AND is_read = FALSE FOR UPDATE", Long.class, args.toArray());
+        int changed = jdbcTemplate.update("DELETE FROM contact_messages WHERE " + where, args.toArray());
+
+        return new Result(changed, unread == null ? 0 : unread, Collections.emptyList());
+    }
+
+    private static String where(Criteria criteria, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (criteria.ids() != null && !criteria.ids().isEmpty()) {
+            conditions.add("message_id IN (" + String.join(", ", Collections.nCopies(criteria.ids().size(), "?")) + ")");
+            args.addAll(criteria.ids());
+        }
+        if (criteria.sentFrom() != null) {
+            conditions.add("sent_date >= ?");
+            args.add(Timestamp.valueOf(criteria.sentFrom()));
+        }
+        if (criteria.sentBefore() != null) {
+            conditions.add("sent_date < ?");
+            args.add(Timestamp.valueOf(criteria.sentBefore()));
+        }
+        if (criteria.classification() != null) {
+            conditions.add("classification = ?");
+            args.add(criteria.classification().name());
+        }
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("A bulk action needs at least one criterion");
+        }
+        return String.join(" AND ", conditions);
+    }
+}
@@ -1,10 +1,17 @@
 package com.portfolio.repository;
 
 import com.portfolio.entity.ContactMessage;
+import com.portfolio.inbox.MessageClassification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,7 +20,7 @@ import java.util.List;
  * @author Debojit Chakraborty
  */
 @Repository
-public interface ContactMessageRepository extends JpaRepository<ContactMessage, Long> {
+public interface ContactMessageRepository extends JpaRepository<ContactMessage, Long>, JpaSpecificationExecutor<ContactMessage> {
 
     List<ContactMessage> findAllByOrderBySentDateDesc();
 
@@ -24,4 +31,25 @@ public interface ContactMessageRepository extends JpaRepository<ContactMessage,
     List<ContactMessage> findReadMessages();
 
     long countByIsReadFalse();
+
+    @Query("SELECT c FROM ContactMessage c WHERE c.fingerprint IS NOT NULL AND c.sentDate >= :since ORDER BY c.sentDate")
+    List<ContactMessage> findFingerprintedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Oldest read messages sent before the cutoff, the next batch for the archive
+     */
+    @Query("SELECT c FROM ContactMessage c WHERE c.isRead = true AND c.sentDate < :cutoff ORDER BY c.messageId")
+    List<ContactMessage> findArchivable(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Query("SELECT c.messageId FROM ContactMessage c WHERE c.classification = :classification ORDER BY c.sentDate")
+    List<Long> findIdsByClassification(@Param("classification") MessageClassification classification);
+
+    // Which of these ids are in the hot table (their archived copies are shadowed)
+    @Query("SELECT c.messageId FROM ContactMessage c WHERE c.messageId IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // In the database, so concurrent duplicates of one cluster never lose an increment
+    @Modifying
+    @Query("UPDATE ContactMessage c SET c.duplicateCount = COALESCE(c.duplicateCount, 0) + 1 WHERE c.messageId = :id")
+    int incrementDuplicateCount(@Param("id") Long messageId);
 }
@@ -0,0 +1,35 @@
+package com.portfolio.repository;
+
+import com.portfolio.entity.ContactMessage;
+import com.portfolio.inbox.MessageClassification;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Typed query filters for ContactMessage
+ *
+ * @author Debojit Chakraborty
+ */
+public final class ContactMessageSpecifications {
+
+    // Inbox order, newest first; the archive pages in the same order (see ContactArchive.NEWEST_FIRST)
+    public static final Keyset.Order<ContactMessage> NEWEST_FIRST = new Keyset.Order<>(
+            new Keyset.SortKey<>("sentDate", "sentDate", Keyset.EARLIEST_TIME, ContactMessage::getSentDate), true);
+
+    private ContactMessageSpecifications() {
+    }
+
+    /**
+     * Messages the admin inbox shows: unclassified, pending or genuine (not spam, not a near-duplicate)
+     */
+    public static Specification<ContactMessage> inInbox() {
+        return (root, query, cb) -> cb.or(
+                cb.isNull(root.get("classification")),
+                cb.not(root.get("classification").in(List.of(MessageClassification.SPAM, MessageClassification.DUPLICATE))));
+    }
+
+    public static Specification<ContactMessage> unread() {
+        return (root, query, cb) -> cb.isFalse(root.get("isRead"));
+    }
+}
@@ -0,0 +1,19 @@
+package com.portfolio.repository;
+
+import com.portfolio.entity.ContactStatsDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for daily contact message statistics
+ *
+ * @author Debojit Chakraborty
+ */
+@Repository
+public interface ContactStatsDailyRepository extends JpaRepository<ContactStatsDaily, LocalDate> {
+
+    List<ContactStatsDaily> findByDayBetweenOrderByDay(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,22 @@
+package com.portfolio.repository;
+
+import com.portfolio.analytics.AnalyticsEventType;
+import com.portfolio.entity.DailyViewCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for daily analytics rollups
+ *
+ * @author Debojit Chakraborty
+ */
+@Repository
+public interface DailyViewCountRepository extends JpaRepository<DailyViewCount, DailyViewCount.Key> {
+
+    List<DailyViewCount> findByDayBetweenOrderByDay(LocalDate from, LocalDate to);
+
+    List<DailyViewCount> findByEventTypeAndDayBetween(AnalyticsEventType eventType, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,19 @@
+package com.portfolio.repository;
+
+import com.portfolio.entity.DailyVisitors;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for daily unique-visitor sketches
+ *
+ * @author Debojit Chakraborty
+ */
+@Repository
+public interface DailyVisitorsRepository extends JpaRepository<DailyVisitors, LocalDate> {
+
+    List<DailyVisitors> findByDayBetweenOrderByDay(LocalDate from, LocalDate to);
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,4 +20,8 @@ public interface EducationRepository extends JpaRepository<Education, Long> {
 
     @Query("SELECT e FROM Education e WHERE e.user.userId = :userId ORDER BY e.startDate DESC")
     List<Education> findEducationByUserIdOrderByDate(Long userId);
+
+    // One IN query for many owners (GraphQL batch loading)
+    @Query("SELECT e FROM Education e WHERE e.user.userId IN :userIds ORDER BY e.startDate DESC")
+    List<Education> findByUserIds(Collection<Long> userIds);
 }
@@ -2,9 +2,11 @@ package com.portfolio.repository;
 
 import com.portfolio.entity.Experience;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,7 +15,7 @@ import java.util.List;
  * @author Debojit Chakraborty
  */
 @Repository
-public interface ExperienceRepository extends JpaRepository<Experience, Long> {
+public interface ExperienceRepository extends JpaRepository<Experience, Long>, JpaSpecificationExecutor<Experience> {
 
     List<Experience> findByUserUserIdOrderByStartDateDesc(Long userId);
 
@@ -22,4 +24,8 @@ public interface ExperienceRepository extends JpaRepository<Experience, Long> {
 
     @Query("SELECT e FROM Experience e WHERE e.isCurrent = true AND e.user.userId = :userId")
     List<Experience> findCurrentExperiencesByUserId(Long userId);
+
+    // One IN query for many owners (GraphQL batch loading)
+    @Query("SELECT e FROM Experience e WHERE e.user.userId IN :userIds ORDER BY e.startDate DESC")
+    List<Experience> findByUserIds(Collection<Long> userIds);
 }
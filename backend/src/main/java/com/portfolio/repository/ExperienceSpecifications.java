@@ -0,0 +1,56 @@
+package com.portfolio.repository;
+
+import com.portfolio.entity.Experience;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Typed query filters for Experience, composed by the query API and pushed down into SQL
+ *
+ * @author Debojit Chakraborty
+ */
+public final class ExperienceSpecifications {
+
+    public static final String DEFAULT_SORT = "-startDate";
+
+    public static final List<Keyset.SortKey<Experience>> SORT_KEYS = List.of(
+            new Keyset.SortKey<>("startDate", "startDate", Keyset.EARLIEST_DATE, Experience::getStartDate),
+            new Keyset.SortKey<>("endDate", "endDate", Keyset.LATEST_DATE, Experience::getEndDate),
+            new Keyset.SortKey<>("company", "company", "", Experience::getCompany),
+            new Keyset.SortKey<>("position", "position", "", Experience::getPosition),
+            new Keyset.SortKey<>("createdAt", "createdAt", Keyset.EARLIEST_TIME, Experience::getCreatedAt));
+
+    private ExperienceSpecifications() {
+    }
+
+    public static Specification<Experience> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("userId"), userId);
+    }
+
+    public static Specification<Experience> current(boolean current) {
+        return (root, query, cb) -> current
+                ? cb.isTrue(root.get("isCurrent"))
+                : cb.or(cb.isNull(root.get("isCurrent")), cb.isFalse(root.get("isCurrent")));
+    }
+
+    /**
+     * Technologies text mentions the technology (case-insensitive)
+     */
+    public static Specification<Experience> usesTechnology(String technology) {
+        String pattern = "%" + ProjectSpecifications.escapeLike(technology.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("technologies")), pattern, '\\');
+    }
+
+    /**
+     * Role overlapped [from, to]; an open end date means ongoing
+     */
+    public static Specification<Experience> activeBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> cb.and(
+                to == null ? cb.conjunction() : cb.lessThanOrEqualTo(root.get("startDate"), to),
+                from == null ? cb.conjunction()
+                        : cb.or(cb.isNull(root.get("endDate")), cb.greaterThanOrEqualTo(root.get("endDate"), from)));
+    }
+}
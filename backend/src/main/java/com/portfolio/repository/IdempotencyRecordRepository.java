@@ -0,0 +1,25 @@
+package com.portfolio.repository;
+
+import com.portfolio.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for persisted idempotent responses
+ *
+ * @author Debojit Chakraborty
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
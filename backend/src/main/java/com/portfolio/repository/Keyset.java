@@ -0,0 +1,167 @@
+package com.portfolio.repository;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination over one whitelisted sort attribute plus the primary key
+ * A page is "rows after the last one seen", expressed as a WHERE clause on (sort key, id)
+ * instead of an OFFSET, so deep pages cost the same as the first and concurrent inserts
+ * never shift rows between pages. Nulls are ordered as a sentinel value so the ordering
+ * stays total and the cursor comparison matches the ORDER BY exactly.
+ *
+ * @author Debojit Chakraborty
+ */
+public final class Keyset {
+
+    // Sentinels for null dates: unknown start sorts first, open end (ongoing) sorts last
+    public static final LocalDate EARLIEST_DATE = LocalDate.of(1000, 1, 1);
+    public static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+    public static final LocalDateTime EARLIEST_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private Keyset() {
+    }
+
+    /**
+     * A sortable attribute exposed to clients
+     *
+     * @param name      Name used in the sort parameter
+     * @param attribute Entity attribute
+     * @param nullValue Value nulls are ordered as; also fixes the attribute's type
+     * @param getter    Reads the attribute from a loaded entity to build the next cursor
+     */
+    public record SortKey<T>(String name, String attribute, Comparable<?> nullValue, Function<T, ?> getter) {
+
+        Comparable<?> parse(String raw) {
+            if (nullValue instanceof LocalDate) {
+                return LocalDate.parse(raw);
+            }
+            if (nullValue instanceof LocalDateTime) {
+                return LocalDateTime.parse(raw);
+            }
+            return raw;
+        }
+
+        String format(Object value) {
+            return String.valueOf(value == null ? nullValue : value);
+        }
+    }
+
+    /**
+     * A resolved sort: attribute and direction
+     */
+    public record Order<T>(SortKey<T> key, boolean descending) {
+
+        /**
+         * Sort parameter form, e.g. "-startDate"
+         */
+        public String token() {
+            return (descending ? "-" : "") + key.name();
+        }
+    }
+
+    /**
+     * Opaque position of the last row of a page
+     *
+     * @param sort  Sort token the cursor was issued for
+     * @param id    Primary key of the last row
+     * @param value Sort key of the last row
+     */
+    public record Cursor(String sort, long id, String value) {
+
+        public String encode() {
+            String raw = sort + "|" + id + "|" + value;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 3);
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Malformed cursor");
+                }
+                return new Cursor(parts[0], Long.parseLong(parts[1]), parts[2]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + token, e);
+            }
+        }
+    }
+
+    /**
+     * Resolve a sort parameter ("startDate", "-startDate") against the whitelist
+     *
+     * @throws IllegalArgumentException if the attribute is not sortable
+     */
+    public static <T> Order<T> order(String sort, List<SortKey<T>> allowed, String defaultSort) {
+        String token = sort == null || sort.isBlank() ? defaultSort : sort.trim();
+        boolean descending = token.startsWith("-");
+        String name = descending || token.startsWith("+") ? token.substring(1) : token;
+
+        return allowed.stream()
+                .filter(key -> key.name().equals(name))
+                .findFirst()
+                .map(key -> new Order<>(key, descending))
+                .orElseThrow(() -> new IllegalArgumentException("Cannot sort by '" + name + "'; allowed: "
+                        + allowed.stream().map(SortKey::name).toList()));
+    }
+
+    /**
+     * Cursor for the row after which the next page starts
+     */
+    public static <T> String cursorAfter(Order<T> order, T last, long lastId) {
+        return cursorAfterValue(order, order.key().getter().apply(last), lastId);
+    }
+
+    /**
+     * Cursor for a row read as a projection, given its sort key value (null allowed)
+     */
+    public static String cursorAfterValue(Order<?> order, Object lastValue, long lastId) {
+        return new Cursor(order.token(), lastId, order.key().format(lastValue)).encode();
+    }
+
+    /**
+     * ORDER BY (key, id) and, when a cursor is given, restrict to rows strictly after it
+     *
+     * @throws IllegalArgumentException if the cursor was issued for a different sort
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> seek(Order<T> order, String idAttribute, Cursor after) {
+        if (after != null && !after.sort().equals(order.token())) {
+            throw new IllegalArgumentException("Cursor was issued for sort '" + after.sort() + "'");
+        }
+        Comparable afterValue = after == null ? null : order.key().parse(after.value());
+
+        return (root, query, cb) -> {
+            Expression key = cb.coalesce(root.get(order.key().attribute()), order.key().nullValue());
+            Path<Long> id = root.get(idAttribute);
+
+            // Count queries share the specification but must not carry an ORDER BY
+            if (!Long.class.equals(query.getResultType())) {
+                query.orderBy(order.descending()
+                        ? List.of(cb.desc(key), cb.desc(id))
+                        : List.of(cb.asc(key), cb.asc(id)));
+            }
+
+            if (after == null) {
+                return null;
+            }
+            Predicate beyondKey = order.descending()
+                    ? cb.lessThan(key, afterValue)
+                    : cb.greaterThan(key, afterValue);
+            Predicate beyondId = order.descending()
+                    ? cb.lessThan(id, after.id())
+                    : cb.greaterThan(id, after.id());
+            return cb.or(beyondKey, cb.and(cb.equal(key, afterValue), beyondId));
+        };
+    }
+}
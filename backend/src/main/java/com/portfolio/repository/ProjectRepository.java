@@ -2,9 +2,11 @@ package com.portfolio.repository;
 
 import com.portfolio.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,7 +15,7 @@ import java.util.List;
  * @author Debojit Chakraborty
  */
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
 
     List<Project> findByUserUserIdOrderByStartDateDesc(Long userId);
 
@@ -25,4 +27,11 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     @Query("SELECT p FROM Project p WHERE p.user.userId = :userId AND p.liveUrl IS NOT NULL")
     List<Project> findProjectsWithLiveDemoByUserId(Long userId);
+
+    // One IN query for many owners (GraphQL batch loading)
+    @Query("SELECT p FROM Project p WHERE p.user.userId IN :userIds ORDER BY p.startDate DESC")
+    List<Project> findByUserIds(Collection<Long> userIds);
+
+    @Query("SELECT p.projectId FROM Project p")
+    List<Long> findAllIds();
 }
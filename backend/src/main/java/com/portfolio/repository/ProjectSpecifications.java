@@ -0,0 +1,65 @@
+package com.portfolio.repository;
+
+import com.portfolio.entity.Project;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Typed query filters for Project, composed by the query API and pushed down into SQL
+ *
+ * @author Debojit Chakraborty
+ */
+public final class ProjectSpecifications {
+
+    public static final String DEFAULT_SORT = "-startDate";
+
+    public static final List<Keyset.SortKey<Project>> SORT_KEYS = List.of(
+            new Keyset.SortKey<>("startDate", "startDate", Keyset.EARLIEST_DATE, Project::getStartDate),
+            new Keyset.SortKey<>("endDate", "endDate", Keyset.LATEST_DATE, Project::getEndDate),
+            new Keyset.SortKey<>("projectName", "projectName", "", Project::getProjectName),
+            new Keyset.SortKey<>("createdAt", "createdAt", Keyset.EARLIEST_TIME, Project::getCreatedAt));
+
+    private ProjectSpecifications() {
+    }
+
+    public static Specification<Project> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("userId"), userId);
+    }
+
+    public static Specification<Project> hasGithub(boolean present) {
+        return (root, query, cb) -> present
+                ? cb.and(cb.isNotNull(root.get("githubUrl")), cb.notEqual(root.get("githubUrl"), ""))
+                : cb.or(cb.isNull(root.get("githubUrl")), cb.equal(root.get("githubUrl"), ""));
+    }
+
+    public static Specification<Project> hasLiveDemo(boolean present) {
+        return (root, query, cb) -> present
+                ? cb.and(cb.isNotNull(root.get("liveUrl")), cb.notEqual(root.get("liveUrl"), ""))
+                : cb.or(cb.isNull(root.get("liveUrl")), cb.equal(root.get("liveUrl"), ""));
+    }
+
+    /**
+     * Technologies text mentions the technology (case-insensitive)
+     */
+    public static Specification<Project> usesTechnology(String technology) {
+        String pattern = "%" + escapeLike(technology.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("technologies")), pattern, '\\');
+    }
+
+    /**
+     * Project ran at some point within [from, to]; an open end date means ongoing
+     */
+    public static Specification<Project> activeBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> cb.and(
+                to == null ? cb.conjunction() : cb.lessThanOrEqualTo(root.get("startDate"), to),
+                from == null ? cb.conjunction()
+                        : cb.or(cb.isNull(root.get("endDate")), cb.greaterThanOrEqualTo(root.get("endDate"), from)));
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
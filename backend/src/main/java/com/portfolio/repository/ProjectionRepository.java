@@ -0,0 +1,96 @@
+package com.portfolio.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Column-projected reads for sparse fieldsets
+ * Selects only the requested basic attributes as a Tuple (each element aliased with its
+ * attribute name), so a listing that asks for projectName and imageUrl never reads the
+ * description or technologies TEXT columns. Associations and collections are never
+ * selected; requested names that aren't basic attributes of the entity are skipped.
+ *
+ * @author Debojit Chakraborty
+ */
+@Repository
+public class ProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Rows owned by a user
+     */
+    public static <E> Specification<E> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("userId"), userId);
+    }
+
+    /**
+     * Select the given attributes of every matching row
+     *
+     * @param entityType Entity to read
+     * @param attributes Requested attribute names
+     * @param where      Filter, or null for all rows
+     * @param sort       Ordering
+     */
+    public <E> List<Tuple> select(Class<E> entityType, Collection<String> attributes,
+                                  Specification<E> where, Sort sort) {
+        return select(entityType, attributes, where, sort, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Select the given attributes of at most limit matching rows
+     */
+    public <E> List<Tuple> select(Class<E> entityType, Collection<String> attributes,
+                                  Specification<E> where, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entityType);
+
+        query.multiselect(selections(root, attributes));
+        if (where != null) {
+            Predicate predicate = where.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        if (sort != null && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private static <E> List<Selection<?>> selections(Root<E> root, Collection<String> attributes) {
+        EntityType<E> model = root.getModel();
+        List<Selection<?>> selections = new ArrayList<>(attributes.size());
+        for (String name : attributes) {
+            model.getSingularAttributes().stream()
+                    .filter(attribute -> attribute.getName().equals(name))
+                    .filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC)
+                    .findFirst()
+                    .ifPresent(attribute -> selections.add(root.get(name).alias(name)));
+        }
+        if (selections.isEmpty()) {
+            // A tuple query needs at least one column; the id is the cheapest
+            String id = model.getId(model.getIdType().getJavaType()).getName();
+            selections.add(root.get(id).alias(id));
+        }
+        return selections;
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,4 +26,8 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
 
     @Query("SELECT DISTINCT s.skillCategory FROM Skill s WHERE s.user.userId = :userId ORDER BY s.skillCategory")
     List<String> findDistinctCategoriesByUserId(Long userId);
+
+    // One IN query for many owners (GraphQL batch loading)
+    @Query("SELECT s FROM Skill s WHERE s.user.userId IN :userIds ORDER BY s.skillCategory, s.skillName")
+    List<Skill> findByUserIds(Collection<Long> userIds);
 }
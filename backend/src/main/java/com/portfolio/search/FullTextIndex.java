@@ -0,0 +1,321 @@
+package com.portfolio.search;
+
+import com.portfolio.entity.Education;
+import com.portfolio.entity.Experience;
+import com.portfolio.entity.Project;
+import com.portfolio.entity.User;
+import com.portfolio.event.PortfolioChangeEvent;
+import com.portfolio.repository.EducationRepository;
+import com.portfolio.repository.ExperienceRepository;
+import com.portfolio.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Embedded full-text index over project, experience and education text
+ * Documents are analyzed with TextAnalyzer and scored with BM25 over field-boosted term
+ * frequencies (titles weigh more than descriptions). Built at startup from the repositories,
+ * updated from committed PortfolioChangeEvents, and answered entirely from memory.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class FullTextIndex {
+
+    /**
+     * Indexed document kinds
+     */
+    public enum DocType {
+        PROJECT, EXPERIENCE, EDUCATION
+    }
+
+    /**
+     * A scored match with an HTML-safe snippet (matched terms wrapped in &lt;mark&gt;)
+     */
+    public record Hit(DocType type, long id, Long userId, String title, String subtitle, double score, String snippet) {
+    }
+
+    /**
+     * The best hits and how many documents matched in all, before the limit
+     */
+    public record Result(int total, List<Hit> hits) {
+
+        public static final Result EMPTY = new Result(0, List.of());
+    }
+
+    private record DocKey(DocType type, long id) {
+    }
+
+    private record Field(String text, float boost) {
+    }
+
+    private record Doc(DocKey key, Long userId, String title, String subtitle, List<Field> fields,
+                       Map<String, Float> termFrequencies, float length) {
+    }
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int SNIPPET_LENGTH = 180;
+
+    // Field boosts: a match in a name or title counts as several matches in body text
+    private static final float TITLE_BOOST = 3.0f;
+    private static final float SECONDARY_BOOST = 2.0f;
+    private static final float BODY_BOOST = 1.0f;
+
+    private final ProjectRepository projectRepository;
+    private final ExperienceRepository experienceRepository;
+    private final EducationRepository educationRepository;
+
+    private final Map<DocKey, Doc> docs = new ConcurrentHashMap<>();
+    private final Map<String, Map<DocKey, Float>> postings = new ConcurrentHashMap<>();
+    private volatile double totalLength;
+
+    public FullTextIndex(ProjectRepository projectRepository,
+                         ExperienceRepository experienceRepository,
+                         EducationRepository educationRepository) {
+        this.projectRepository = projectRepository;
+        this.experienceRepository = experienceRepository;
+        this.educationRepository = educationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        long start = System.currentTimeMillis();
+
+        projectRepository.findAll().forEach(project -> index(toDoc(project, ownerOf(project.getUser()))));
+        experienceRepository.findAll().forEach(experience -> index(toDoc(experience, ownerOf(experience.getUser()))));
+        educationRepository.findAll().forEach(education -> index(toDoc(education, ownerOf(education.getUser()))));
+
+        log.info("Full-text index built: {} documents, {} terms in {} ms",
+                docs.size(), postings.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChange(PortfolioChangeEvent event) {
+        Doc doc;
+        if (event.entity() instanceof Project project) {
+            doc = toDoc(project, event.userId());
+        } else if (event.entity() instanceof Experience experience) {
+            doc = toDoc(experience, event.userId());
+        } else if (event.entity() instanceof Education education) {
+            doc = toDoc(education, event.userId());
+        } else {
+            return;
+        }
+
+        if (event.action() == PortfolioChangeEvent.Action.DELETED) {
+            remove(doc.key());
+        } else {
+            index(doc);
+        }
+    }
+
+    /**
+     * Top documents for a free-text query
+     *
+     * @param query  Query text
+     * @param userId Restrict to one owner, or null for all
+     * @param types  Document kinds to include
+     * @param limit  Maximum number of hits
+     * @return Hits, best first, with the number of matching documents
+     */
+    public Result search(String query, Long userId, Set<DocType> types, int limit) {
+        List<String> terms = TextAnalyzer.terms(query);
+        if (terms.isEmpty() || docs.isEmpty() || limit <= 0) {
+            return Result.EMPTY;
+        }
+
+        int documentCount = docs.size();
+        double averageLength = Math.max(1.0, totalLength / documentCount);
+        Map<DocKey, Double> scores = new HashMap<>();
+
+        for (String term : terms) {
+            Map<DocKey, Float> matches = postings.get(term);
+            if (matches == null) {
+                continue;
+            }
+
+            double df = matches.size();
+            double idf = Math.log(1.0 + (documentCount - df + 0.5) / (df + 0.5));
+            matches.forEach((key, tf) -> {
+                Doc doc = docs.get(key);
+                if (doc == null || !types.contains(key.type()) || (userId != null && !userId.equals(doc.userId()))) {
+                    return;
+                }
+                double norm = K1 * (1 - B + B * doc.length() / averageLength);
+                scores.merge(key, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+            });
+        }
+
+        // Keep only the top `limit` scores
+        PriorityQueue<Map.Entry<DocKey, Double>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<DocKey, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        Set<String> termSet = new HashSet<>(terms);
+        List<Hit> hits = new ArrayList<>(top.size());
+        for (Map.Entry<DocKey, Double> entry : top) {
+            Doc doc = docs.get(entry.getKey());
+            if (doc != null) {
+                hits.add(new Hit(doc.key().type(), doc.key().id(), doc.userId(), doc.title(), doc.subtitle(),
+                        Math.round(entry.getValue() * 1000.0) / 1000.0, snippet(doc, termSet)));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+        return new Result(scores.size(), hits);
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    private synchronized void index(Doc doc) {
+        remove(doc.key());
+
+        doc.termFrequencies().forEach((term, tf) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(doc.key(), tf));
+        docs.put(doc.key(), doc);
+        totalLength += doc.length();
+    }
+
+    private synchronized void remove(DocKey key) {
+        Doc previous = docs.remove(key);
+        if (previous == null) {
+            return;
+        }
+
+        for (String term : previous.termFrequencies().keySet()) {
+            postings.computeIfPresent(term, (t, matches) -> {
+                matches.remove(key);
+                return matches.isEmpty() ? null : matches;
+            });
+        }
+        totalLength -= previous.length();
+    }
+
+    private static Doc toDoc(Project project, Long userId) {
+        return doc(new DocKey(DocType.PROJECT, project.getProjectId()), userId,
+                project.getProjectName(), project.getTechnologies(),
+                List.of(new Field(project.getProjectName(), TITLE_BOOST),
+                        new Field(project.getTechnologies(), SECONDARY_BOOST),
+                        new Field(project.getDescription(), BODY_BOOST)));
+    }
+
+    private static Doc toDoc(Experience experience, Long userId) {
+        return doc(new DocKey(DocType.EXPERIENCE, experience.getExperienceId()), userId,
+                experience.getPosition(), experience.getCompany(),
+                List.of(new Field(experience.getPosition(), TITLE_BOOST),
+                        new Field(experience.getCompany(), SECONDARY_BOOST),
+                        new Field(experience.getTechnologies(), SECONDARY_BOOST),
+                        new Field(experience.getDescription(), BODY_BOOST)));
+    }
+
+    private static Doc toDoc(Education education, Long userId) {
+        return doc(new DocKey(DocType.EDUCATION, education.getEducationId()), userId,
+                education.getDegree(), education.getInstitution(),
+                List.of(new Field(education.getDegree(), TITLE_BOOST),
+                        new Field(education.getInstitution(), SECONDARY_BOOST),
+                        new Field(education.getFieldOfStudy(), SECONDARY_BOOST),
+                        new Field(education.getDescription(), BODY_BOOST)));
+    }
+
+    private static Doc doc(DocKey key, Long userId, String title, String subtitle, List<Field> fields) {
+        Map<String, Float> termFrequencies = new HashMap<>();
+        float length = 0;
+        for (Field field : fields) {
+            for (TextAnalyzer.Token token : TextAnalyzer.tokenize(field.text())) {
+                termFrequencies.merge(token.term(), field.boost(), Float::sum);
+                length += field.boost();
+            }
+        }
+        return new Doc(key, userId, title, subtitle, fields, termFrequencies, length);
+    }
+
+    /**
+     * Window of the best-matching field around its first match, with matches highlighted
+     */
+    private static String snippet(Doc doc, Set<String> terms) {
+        String bestText = null;
+        List<TextAnalyzer.Token> bestTokens = List.of();
+        int bestMatches = 0;
+
+        for (Field field : doc.fields()) {
+            List<TextAnalyzer.Token> tokens = TextAnalyzer.tokenize(field.text());
+            int matches = (int) tokens.stream().filter(token -> terms.contains(token.term())).count();
+            // Prefer the longest text among equally good fields, so snippets carry context
+            if (matches > bestMatches || (matches == bestMatches && matches > 0
+                    && field.text().length() > bestText.length())) {
+                bestText = field.text();
+                bestTokens = tokens;
+                bestMatches = matches;
+            }
+        }
+
+        if (bestText == null) {
+            String fallback = doc.fields().stream()
+                    .map(Field::text)
+                    .filter(text -> text != null && !text.isBlank())
+                    .reduce((first, second) -> second)
+                    .orElse("");
+            return HtmlUtils.htmlEscape(fallback.length() > SNIPPET_LENGTH
+                    ? fallback.substring(0, SNIPPET_LENGTH) + "…" : fallback);
+        }
+
+        int firstMatch = bestTokens.stream()
+                .filter(token -> terms.contains(token.term()))
+                .mapToInt(TextAnalyzer.Token::start)
+                .findFirst()
+                .orElse(0);
+        int start = Math.max(0, firstMatch - SNIPPET_LENGTH / 3);
+        while (start > 0 && Character.isLetterOrDigit(bestText.charAt(start - 1))) {
+            start--;
+        }
+        int end = Math.min(bestText.length(), start + SNIPPET_LENGTH);
+
+        StringBuilder snippet = new StringBuilder(SNIPPET_LENGTH + 64);
+        if (start > 0) {
+            snippet.append('…');
+        }
+        int cursor = start;
+        for (TextAnalyzer.Token token : bestTokens) {
+            if (token.start() < start || token.end() > end || !terms.contains(token.term())) {
+                continue;
+            }
+            snippet.append(HtmlUtils.htmlEscape(bestText.substring(cursor, token.start())))
+                    .append("<mark>")
+                    .append(HtmlUtils.htmlEscape(bestText.substring(token.start(), token.end())))
+                    .append("</mark>");
+            cursor = token.end();
+        }
+        snippet.append(HtmlUtils.htmlEscape(bestText.substring(cursor, end)));
+        if (end < bestText.length()) {
+            snippet.append('…');
+        }
+        return snippet.toString();
+    }
+
+    private static Long ownerOf(User user) {
+        return user == null ? null : user.getUserId();
+    }
+}
@@ -0,0 +1,205 @@
+package com.portfolio.search;
+
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.RelatedProjectDTO;
+import com.portfolio.entity.Project;
+import com.portfolio.event.PortfolioChangeEvent;
+import com.portfolio.mapper.EntityDTOMapper;
+import com.portfolio.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * Related-project recommendations by technology overlap
+ * Each project's normalized technologies are encoded as a long[] bitset; Jaccard similarity
+ * is popcount(a AND b) / popcount(a OR b). The top-k table, including the DTOs to return, is
+ * recomputed in the background whenever projects change, so a request is a map lookup.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class RelatedProjects {
+
+    public static final int MAX_RELATED = 6;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,;|\\n]+");
+
+    private final ProjectRepository projectRepository;
+    private final EntityDTOMapper entityDTOMapper;
+    private final Executor taskExecutor;
+
+    private final AtomicReference<Map<Long, List<RelatedProjectDTO>>> table = new AtomicReference<>(Map.of());
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    public RelatedProjects(ProjectRepository projectRepository,
+                           EntityDTOMapper entityDTOMapper,
+                           @Qualifier("taskExecutor") Executor taskExecutor) {
+        this.projectRepository = projectRepository;
+        this.entityDTOMapper = entityDTOMapper;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Precomputed recommendations for a project, most similar first
+     */
+    public List<RelatedProjectDTO> relatedTo(Long projectId, int limit) {
+        List<RelatedProjectDTO> related = table.get().getOrDefault(projectId, List.of());
+        return related.size() <= limit ? related : related.subList(0, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        requestRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChange(PortfolioChangeEvent event) {
+        if (event.is(PortfolioChangeEvent.EntityType.PROJECT)) {
+            requestRebuild();
+        }
+    }
+
+    /**
+     * Schedule a rebuild; changes arriving while one is queued share it
+     */
+    public void requestRebuild() {
+        if (!rebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(this::rebuild);
+        } catch (RejectedExecutionException e) {
+            rebuildPending.set(false);
+            log.warn("Related-projects rebuild rejected by the task executor; keeping the previous table");
+        }
+    }
+
+    private synchronized void rebuild() {
+        // Cleared first so a change during the rebuild schedules another pass
+        rebuildPending.set(false);
+        long start = System.nanoTime();
+
+        try {
+            List<Project> projects = projectRepository.findAll();
+
+            // Dictionary of normalized technology -> bit position
+            Map<String, Integer> bits = new HashMap<>();
+            Map<String, String> displayNames = new HashMap<>();
+            List<String[]> tagsPerProject = new ArrayList<>(projects.size());
+            for (Project project : projects) {
+                Set<String> tags = new LinkedHashSet<>();
+                if (project.getTechnologies() != null) {
+                    for (String raw : SEPARATORS.split(project.getTechnologies())) {
+                        String tag = TechnologyIndex.normalize(raw);
+                        if (tag != null) {
+                            tags.add(tag);
+                            bits.putIfAbsent(tag, bits.size());
+                            displayNames.putIfAbsent(tag, raw.trim());
+                        }
+                    }
+                }
+                tagsPerProject.add(tags.toArray(new String[0]));
+            }
+
+            int words = Math.max(1, (bits.size() + 63) >>> 6);
+            long[][] sets = new long[projects.size()][words];
+            int[] cardinality = new int[projects.size()];
+            for (int i = 0; i < projects.size(); i++) {
+                for (String tag : tagsPerProject.get(i)) {
+                    int bit = bits.get(tag);
+                    sets[i][bit >>> 6] |= 1L << (bit & 63);
+                }
+                cardinality[i] = tagsPerProject.get(i).length;
+            }
+
+            ProjectDTO[] dtos = new ProjectDTO[projects.size()];
+            Long[] owners = new Long[projects.size()];
+            for (int i = 0; i < projects.size(); i++) {
+                dtos[i] = entityDTOMapper.toProjectDTO(projects.get(i));
+                owners[i] = projects.get(i).getUser() == null ? null : projects.get(i).getUser().getUserId();
+            }
+
+            Map<Long, List<RelatedProjectDTO>> built = new HashMap<>();
+            for (int i = 0; i < projects.size(); i++) {
+                built.put(projects.get(i).getProjectId(),
+                        topK(i, sets, cardinality, owners, dtos, tagsPerProject, displayNames));
+            }
+
+            table.set(Map.copyOf(built));
+            log.info("Related-projects table rebuilt for {} projects over {} technologies in {} ms",
+                    projects.size(), bits.size(), (System.nanoTime() - start) / 1_000_000L);
+        } catch (Exception e) {
+            log.error("Error rebuilding related-projects table: {}", e.getMessage(), e);
+        }
+    }
+
+    private static List<RelatedProjectDTO> topK(int i, long[][] sets, int[] cardinality, Long[] owners,
+                                                ProjectDTO[] dtos, List<String[]> tagsPerProject,
+                                                Map<String, String> displayNames) {
+        if (cardinality[i] == 0) {
+            return List.of();
+        }
+
+        // Candidate indexes with their similarity, kept sorted descending, at most MAX_RELATED
+        int[] best = new int[MAX_RELATED];
+        double[] bestScore = new double[MAX_RELATED];
+        int found = 0;
+
+        for (int j = 0; j < sets.length; j++) {
+            if (j == i || cardinality[j] == 0 || owners[i] == null || !owners[i].equals(owners[j])) {
+                continue;
+            }
+
+            int shared = 0;
+            for (int w = 0; w < sets[i].length; w++) {
+                shared += Long.bitCount(sets[i][w] & sets[j][w]);
+            }
+            if (shared == 0) {
+                continue;
+            }
+            double score = (double) shared / (cardinality[i] + cardinality[j] - shared);
+
+            if (found < MAX_RELATED || score > bestScore[found - 1]) {
+                int position = Math.min(found, MAX_RELATED - 1);
+                while (position > 0 && bestScore[position - 1] < score) {
+                    best[position] = best[position - 1];
+                    bestScore[position] = bestScore[position - 1];
+                    position--;
+                }
+                best[position] = j;
+                bestScore[position] = score;
+                found = Math.min(found + 1, MAX_RELATED);
+            }
+        }
+
+        List<RelatedProjectDTO> related = new ArrayList<>(found);
+        Set<String> own = new LinkedHashSet<>(Arrays.asList(tagsPerProject.get(i)));
+        for (int n = 0; n < found; n++) {
+            List<String> sharedTechnologies = Arrays.stream(tagsPerProject.get(best[n]))
+                    .filter(own::contains)
+                    .map(tag -> displayNames.getOrDefault(tag, tag))
+                    .toList();
+            related.add(new RelatedProjectDTO(dtos[best[n]], Math.round(bestScore[n] * 1000.0) / 1000.0,
+                    sharedTechnologies));
+        }
+        return List.copyOf(related);
+    }
+}
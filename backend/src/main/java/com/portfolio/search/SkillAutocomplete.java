@@ -0,0 +1,218 @@
+package com.portfolio.search;
+
+import com.portfolio.entity.Project;
+import com.portfolio.entity.Skill;
+import com.portfolio.event.PortfolioChangeEvent;
+import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.SkillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix autocomplete over skill names, skill categories and project technologies
+ * One immutable SuggestionTrie per user. A skill or project change rebuilds only its owner's
+ * trie, on the task executor after the commit, and swaps it in atomically, so writers never
+ * wait for it and lookups never see a half-built trie
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class SkillAutocomplete {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,;|\\n]+");
+
+    // Ranking: featured skills first, then by years of experience
+    private static final double FEATURED_WEIGHT = 100.0;
+    private static final double YEAR_WEIGHT = 10.0;
+    private static final double PROJECT_WEIGHT = 5.0;
+
+    private final SkillRepository skillRepository;
+    private final ProjectRepository projectRepository;
+    private final Executor taskExecutor;
+    private final AtomicReference<Map<Long, SuggestionTrie>> tries = new AtomicReference<>(Map.of());
+    private final Set<Long> staleUsers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean fullRebuildPending = new AtomicBoolean();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    public SkillAutocomplete(SkillRepository skillRepository, ProjectRepository projectRepository,
+                             @Qualifier("taskExecutor") Executor taskExecutor) {
+        this.skillRepository = skillRepository;
+        this.projectRepository = projectRepository;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Top suggestions for a prefix
+     *
+     * @param userId Portfolio owner
+     * @param prefix Typed text
+     * @param limit  Maximum suggestions (capped at MAX_SUGGESTIONS)
+     */
+    public List<SuggestionTrie.Suggestion> complete(Long userId, String prefix, int limit) {
+        return tries.get().getOrDefault(userId, SuggestionTrie.EMPTY)
+                .complete(prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        requestRebuild(null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChange(PortfolioChangeEvent event) {
+        if (event.is(PortfolioChangeEvent.EntityType.SKILL) || event.is(PortfolioChangeEvent.EntityType.PROJECT)) {
+            requestRebuild(event.userId());
+        }
+    }
+
+    /**
+     * Schedule a rebuild of one user's trie, or of every trie for a null user; changes
+     * arriving while one is queued share it, so a bulk edit costs one pass per owner
+     */
+    public void requestRebuild(Long userId) {
+        if (userId == null) {
+            fullRebuildPending.set(true);
+        } else {
+            staleUsers.add(userId);
+        }
+        if (!rebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(this::rebuildPending);
+        } catch (RejectedExecutionException e) {
+            rebuildPending.set(false);
+            log.warn("Autocomplete rebuild rejected by the task executor; keeping the previous tries");
+        }
+    }
+
+    private synchronized void rebuildPending() {
+        // Cleared first so a change during the rebuild schedules another pass
+        rebuildPending.set(false);
+        long start = System.nanoTime();
+        try {
+            if (fullRebuildPending.getAndSet(false)) {
+                staleUsers.clear();
+                Map<Long, SuggestionTrie> built = build(skillRepository.findAll(), projectRepository.findAll());
+                tries.set(Map.copyOf(built));
+                log.info("Autocomplete tries rebuilt for {} users in {} ms", built.size(),
+                        (System.nanoTime() - start) / 1_000_000L);
+                return;
+            }
+
+            List<Long> userIds = new ArrayList<>(staleUsers);
+            if (userIds.isEmpty()) {
+                return;
+            }
+            staleUsers.removeAll(userIds);
+
+            Map<Long, SuggestionTrie> built = build(skillRepository.findByUserIds(userIds),
+                    projectRepository.findByUserIds(userIds));
+            Map<Long, SuggestionTrie> next = new HashMap<>(tries.get());
+            for (Long userId : userIds) {
+                SuggestionTrie trie = built.get(userId);
+                if (trie == null) {
+                    next.remove(userId);
+                } else {
+                    next.put(userId, trie);
+                }
+            }
+            tries.set(Map.copyOf(next));
+            log.debug("Autocomplete tries rebuilt for users {} in {} ms", userIds,
+                    (System.nanoTime() - start) / 1_000_000L);
+        } catch (Exception e) {
+            // Keep serving the previous tries
+            log.error("Error rebuilding autocomplete tries: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * One trie per owner of the given skills and projects
+     */
+    private static Map<Long, SuggestionTrie> build(List<Skill> skills, List<Project> projects) {
+        Map<Long, Map<String, SuggestionTrie.Suggestion>> byUser = new HashMap<>();
+        Map<Long, Map<String, Double>> categoryWeights = new HashMap<>();
+
+        for (Skill skill : skills) {
+            Long userId = skill.getUser() == null ? null : skill.getUser().getUserId();
+            if (userId == null || skill.getSkillName() == null) {
+                continue;
+            }
+
+            double weight = (Boolean.TRUE.equals(skill.getIsFeatured()) ? FEATURED_WEIGHT : 0)
+                    + (skill.getYearsExperience() == null ? 0 : skill.getYearsExperience() * YEAR_WEIGHT);
+            add(byUser.computeIfAbsent(userId, id -> new LinkedHashMap<>()),
+                    new SuggestionTrie.Suggestion(skill.getSkillName().trim(), "skill", weight));
+
+            if (skill.getSkillCategory() != null && !skill.getSkillCategory().isBlank()) {
+                // A category ranks like its strongest skill
+                categoryWeights.computeIfAbsent(userId, id -> new HashMap<>())
+                        .merge(skill.getSkillCategory().trim(), weight, Math::max);
+            }
+        }
+
+        categoryWeights.forEach((userId, categories) -> categories.forEach((category, weight) ->
+                add(byUser.computeIfAbsent(userId, id -> new LinkedHashMap<>()),
+                        new SuggestionTrie.Suggestion(category, "category", weight))));
+
+        Map<Long, Map<String, Double>> technologyWeights = new HashMap<>();
+        Map<Long, Map<String, String>> technologyNames = new HashMap<>();
+        for (Project project : projects) {
+            Long userId = project.getUser() == null ? null : project.getUser().getUserId();
+            if (userId == null || project.getTechnologies() == null) {
+                continue;
+            }
+            for (String raw : SEPARATORS.split(project.getTechnologies())) {
+                String tag = TechnologyIndex.normalize(raw);
+                if (tag != null) {
+                    technologyWeights.computeIfAbsent(userId, id -> new HashMap<>()).merge(tag, PROJECT_WEIGHT, Double::sum);
+                    technologyNames.computeIfAbsent(userId, id -> new HashMap<>()).putIfAbsent(tag, raw.trim());
+                }
+            }
+        }
+        technologyWeights.forEach((userId, technologies) -> technologies.forEach((tag, weight) ->
+                add(byUser.computeIfAbsent(userId, id -> new LinkedHashMap<>()),
+                        new SuggestionTrie.Suggestion(technologyNames.get(userId).get(tag), "technology", weight))));
+
+        Map<Long, SuggestionTrie> built = new HashMap<>();
+        byUser.forEach((userId, suggestions) ->
+                built.put(userId, SuggestionTrie.build(new ArrayList<>(suggestions.values()), MAX_SUGGESTIONS)));
+        return built;
+    }
+
+    /**
+     * One suggestion per normalized name; a skill beats a category or technology of the same
+     * name, and their weights are combined so "Java" used in many projects ranks higher
+     */
+    private static void add(Map<String, SuggestionTrie.Suggestion> suggestions, SuggestionTrie.Suggestion suggestion) {
+        String key = TechnologyIndex.normalize(suggestion.text());
+        if (key == null) {
+            return;
+        }
+        suggestions.merge(key, suggestion, (existing, added) -> {
+            SuggestionTrie.Suggestion primary = "skill".equals(existing.kind()) || !"skill".equals(added.kind())
+                    ? existing : added;
+            return new SuggestionTrie.Suggestion(primary.text(), primary.kind(), existing.weight() + added.weight());
+        });
+    }
+}
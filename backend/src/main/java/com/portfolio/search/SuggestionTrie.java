@@ -0,0 +1,196 @@
+package com.portfolio.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+
+/**
+ * Immutable, array-backed prefix trie with precomputed top-k suggestions per node
+ * Nodes live in parallel arrays with each node's children stored contiguously and sorted
+ * by label, so a lookup is one binary search per prefix character and no allocation.
+ * Every word start of a suggestion is indexed ("boot" finds "Spring Boot").
+ *
+ * @author Debojit Chakraborty
+ */
+public final class SuggestionTrie {
+
+    /**
+     * A completion candidate
+     *
+     * @param text   Display text
+     * @param kind   skill, category or technology
+     * @param weight Ranking weight, higher first
+     */
+    public record Suggestion(String text, String kind, double weight) {
+    }
+
+    public static final SuggestionTrie EMPTY = build(List.of(), 1);
+
+    private final Suggestion[] suggestions;
+    private final char[] labels;
+    private final int[] childStart;
+    private final int[] childCount;
+    private final int[][] topK;
+
+    private SuggestionTrie(Suggestion[] suggestions, char[] labels, int[] childStart, int[] childCount, int[][] topK) {
+        this.suggestions = suggestions;
+        this.labels = labels;
+        this.childStart = childStart;
+        this.childCount = childCount;
+        this.topK = topK;
+    }
+
+    /**
+     * Best suggestions starting with the prefix (case-insensitive)
+     */
+    public List<Suggestion> complete(String prefix, int limit) {
+        String key = prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT);
+        int node = 0;
+        for (int i = 0; i < key.length() && node >= 0; i++) {
+            node = child(node, key.charAt(i));
+        }
+        if (node < 0) {
+            return List.of();
+        }
+
+        int[] best = topK[node];
+        int count = Math.min(limit, best.length);
+        List<Suggestion> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(suggestions[best[i]]);
+        }
+        return result;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    public int size() {
+        return suggestions.length;
+    }
+
+    private int child(int node, char label) {
+        int low = childStart[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (labels[mid] < label) {
+                low = mid + 1;
+            } else if (labels[mid] > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Build a trie keeping the k best suggestions at every node
+     */
+    public static SuggestionTrie build(List<Suggestion> input, int k) {
+        Suggestion[] suggestions = input.stream()
+                .sorted(Comparator.comparingDouble(Suggestion::weight).reversed()
+                        .thenComparing(Suggestion::text, String.CASE_INSENSITIVE_ORDER))
+                .toArray(Suggestion[]::new);
+
+        // Mutable build-time trie; suggestion ids are already in rank order
+        BuildNode root = new BuildNode('\0');
+        for (int id = 0; id < suggestions.length; id++) {
+            String text = suggestions[id].text().toLowerCase(Locale.ROOT);
+            for (int start = 0; start < text.length(); start++) {
+                if (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1))) {
+                    if (Character.isLetterOrDigit(text.charAt(start))) {
+                        insert(root, text.substring(start), id);
+                    }
+                }
+            }
+        }
+        collectTopK(root, k);
+
+        // Breadth-first layout so siblings are contiguous
+        List<BuildNode> order = new ArrayList<>();
+        Deque<BuildNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            BuildNode node = queue.poll();
+            order.add(node);
+            queue.addAll(node.children.values());
+        }
+
+        int size = order.size();
+        char[] labels = new char[size];
+        int[] childStart = new int[size];
+        int[] childCount = new int[size];
+        int[][] topK = new int[size][];
+
+        int next = 1;
+        for (int i = 0; i < size; i++) {
+            BuildNode node = order.get(i);
+            labels[i] = node.label;
+            childStart[i] = next;
+            childCount[i] = node.children.size();
+            topK[i] = node.best;
+            next += node.children.size();
+        }
+        return new SuggestionTrie(suggestions, labels, childStart, childCount, topK);
+    }
+
+    private static void insert(BuildNode root, String key, int id) {
+        BuildNode node = root;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            node = node.children.computeIfAbsent(c, BuildNode::new);
+        }
+        node.terminals.add(id);
+    }
+
+    /**
+     * Post-order: a node's best ids are the k smallest (best ranked) ids in its subtree
+     */
+    private static int[] collectTopK(BuildNode node, int k) {
+        int[] merged = node.terminals.stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
+        for (BuildNode child : node.children.values()) {
+            merged = mergeDistinct(merged, collectTopK(child, k), k);
+        }
+        node.best = merged.length > k ? Arrays.copyOf(merged, k) : merged;
+        return node.best;
+    }
+
+    private static int[] mergeDistinct(int[] a, int[] b, int k) {
+        int[] out = new int[Math.min(k, a.length + b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (n < out.length && (i < a.length || j < b.length)) {
+            int value;
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                value = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                value = b[j++];
+            } else {
+                value = a[i++];
+                j++;
+            }
+            out[n++] = value;
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static final class BuildNode {
+        private final char label;
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final List<Integer> terminals = new ArrayList<>(1);
+        private int[] best;
+
+        private BuildNode(char label) {
+            this.label = label;
+        }
+    }
+}
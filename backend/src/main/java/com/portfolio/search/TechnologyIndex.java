@@ -0,0 +1,374 @@
+package com.portfolio.search;
+
+import com.portfolio.entity.Experience;
+import com.portfolio.entity.Project;
+import com.portfolio.event.PortfolioChangeEvent;
+import com.portfolio.repository.ExperienceRepository;
+import com.portfolio.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index from normalized technology tags to project / experience ids
+ * The free-form technologies columns are split, normalized (case, whitespace, common aliases)
+ * and interned once; each tag maps to a sorted long[] posting list that is replaced
+ * copy-on-write, so queries never lock. Built at startup and kept current from
+ * committed PortfolioChangeEvents.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Component
+public class TechnologyIndex {
+
+    /**
+     * Indexed document kinds
+     */
+    public enum DocType {
+        PROJECT, EXPERIENCE
+    }
+
+    private static final long[] EMPTY = new long[0];
+    private static final String[] NO_TAGS = new String[0];
+    private static final Pattern SEPARATORS = Pattern.compile("[,;|\\n]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // Keep the punctuation that is part of names like C#, C++, .NET and Node.js
+    private static final Pattern EDGE_PUNCTUATION = Pattern.compile("^[\\p{Punct}&&[^.#+]]+|[\\p{Punct}&&[^#+]]+$");
+
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+            Map.entry("js", "javascript"),
+            Map.entry("ts", "typescript"),
+            Map.entry("k8s", "kubernetes"),
+            Map.entry("postgres", "postgresql"),
+            Map.entry("node", "node.js"),
+            Map.entry("nodejs", "node.js"),
+            Map.entry("reactjs", "react"),
+            Map.entry("react.js", "react"),
+            Map.entry("springboot", "spring boot"),
+            Map.entry("spring-boot", "spring boot"),
+            Map.entry("golang", "go"),
+            Map.entry("apache kafka", "kafka"),
+            Map.entry("amazon web services", "aws"));
+
+    private final ProjectRepository projectRepository;
+    private final ExperienceRepository experienceRepository;
+
+    private final Map<String, String> internPool = new ConcurrentHashMap<>();
+    private final Map<String, String> displayNames = new ConcurrentHashMap<>();
+    private final Map<DocType, Map<String, long[]>> postings = new EnumMap<>(DocType.class);
+    private final Map<DocType, Map<Long, String[]>> forward = new EnumMap<>(DocType.class);
+    private final Map<DocType, Map<Long, Long>> owners = new EnumMap<>(DocType.class);
+
+    public TechnologyIndex(ProjectRepository projectRepository, ExperienceRepository experienceRepository) {
+        this.projectRepository = projectRepository;
+        this.experienceRepository = experienceRepository;
+
+        for (DocType type : DocType.values()) {
+            postings.put(type, new ConcurrentHashMap<>());
+            forward.put(type, new ConcurrentHashMap<>());
+            owners.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        long start = System.currentTimeMillis();
+
+        for (Project project : projectRepository.findAll()) {
+            index(DocType.PROJECT, project.getProjectId(),
+                    project.getUser() == null ? null : project.getUser().getUserId(), project.getTechnologies());
+        }
+        for (Experience experience : experienceRepository.findAll()) {
+            index(DocType.EXPERIENCE, experience.getExperienceId(),
+                    experience.getUser() == null ? null : experience.getUser().getUserId(), experience.getTechnologies());
+        }
+
+        log.info("Technology index built: {} tags, {} projects, {} experiences in {} ms",
+                internPool.size(), forward.get(DocType.PROJECT).size(), forward.get(DocType.EXPERIENCE).size(),
+                System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChange(PortfolioChangeEvent event) {
+        if (event.entity() instanceof Project project) {
+            apply(DocType.PROJECT, event, project.getTechnologies());
+        } else if (event.entity() instanceof Experience experience) {
+            apply(DocType.EXPERIENCE, event, experience.getTechnologies());
+        }
+    }
+
+    private void apply(DocType type, PortfolioChangeEvent event, String technologies) {
+        if (event.action() == PortfolioChangeEvent.Action.DELETED) {
+            remove(type, event.entityId());
+        } else {
+            index(type, event.entityId(), event.userId(), technologies);
+        }
+    }
+
+    /**
+     * Add or re-index a document, touching only the posting lists of tags that changed
+     */
+    public synchronized void index(DocType type, Long id, Long userId, String technologies) {
+        if (id == null) {
+            return;
+        }
+
+        String[] tags = tagsOf(technologies);
+        String[] previous = forward.get(type).getOrDefault(id, NO_TAGS);
+        Map<String, long[]> lists = postings.get(type);
+
+        for (String tag : previous) {
+            if (Arrays.binarySearch(tags, tag) < 0) {
+                lists.computeIfPresent(tag, (t, ids) -> {
+                    long[] remaining = without(ids, id);
+                    return remaining.length == 0 ? null : remaining;
+                });
+            }
+        }
+        for (String tag : tags) {
+            if (Arrays.binarySearch(previous, tag) < 0) {
+                lists.merge(tag, new long[]{id}, (ids, ignored) -> with(ids, id));
+            }
+        }
+
+        forward.get(type).put(id, tags);
+        if (userId != null) {
+            owners.get(type).put(id, userId);
+        }
+    }
+
+    public synchronized void remove(DocType type, Long id) {
+        String[] previous = forward.get(type).remove(id);
+        owners.get(type).remove(id);
+        if (previous == null) {
+            return;
+        }
+
+        for (String tag : previous) {
+            postings.get(type).computeIfPresent(tag, (t, ids) -> {
+                long[] remaining = without(ids, id);
+                return remaining.length == 0 ? null : remaining;
+            });
+        }
+    }
+
+    /**
+     * Ids of documents tagged with all (or any) of the given technologies, ascending
+     *
+     * @param technologies Raw technology names; normalized the same way as indexed values
+     * @param matchAll     AND semantics if true, OR otherwise
+     * @param userId       Restrict to one owner, or null for all
+     */
+    public long[] search(DocType type, List<String> technologies, boolean matchAll, Long userId) {
+        Map<String, long[]> lists = postings.get(type);
+
+        List<long[]> matches = new ArrayList<>();
+        for (String technology : technologies) {
+            String tag = lookup(technology);
+            long[] ids = tag == null ? null : lists.get(tag);
+            if (ids == null) {
+                if (matchAll) {
+                    return EMPTY;
+                }
+                continue;
+            }
+            matches.add(ids);
+        }
+        if (matches.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] result;
+        if (matchAll) {
+            // Shortest list first keeps every intermediate result as small as possible
+            matches.sort(Comparator.comparingInt(ids -> ids.length));
+            result = matches.get(0);
+            for (int i = 1; i < matches.size() && result.length > 0; i++) {
+                result = intersect(result, matches.get(i));
+            }
+        } else {
+            result = matches.get(0);
+            for (int i = 1; i < matches.size(); i++) {
+                result = union(result, matches.get(i));
+            }
+        }
+
+        return userId == null ? result : ownedBy(type, result, userId);
+    }
+
+    /**
+     * Normalized tags of one document (sorted), empty if unknown
+     */
+    public String[] tagsOf(DocType type, Long id) {
+        return forward.get(type).getOrDefault(id, NO_TAGS);
+    }
+
+    /**
+     * Display name to number of documents using it, across both document kinds
+     */
+    public Map<String, Integer> tagCounts() {
+        Map<String, Integer> counts = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map<String, long[]> lists : postings.values()) {
+            lists.forEach((tag, ids) -> counts.merge(displayNames.getOrDefault(tag, tag), ids.length, Integer::sum));
+        }
+        return counts;
+    }
+
+    /**
+     * Normalize a single technology name, or null if nothing is left
+     */
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String tag = WHITESPACE.matcher(raw.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+        tag = EDGE_PUNCTUATION.matcher(tag).replaceAll("");
+        tag = ALIASES.getOrDefault(tag, tag);
+        return tag.isEmpty() ? null : tag;
+    }
+
+    /**
+     * Split a technologies column into sorted, unique, interned tags
+     */
+    private String[] tagsOf(String technologies) {
+        if (technologies == null || technologies.isBlank()) {
+            return NO_TAGS;
+        }
+
+        TreeSet<String> tags = new TreeSet<>();
+        for (String raw : SEPARATORS.split(technologies)) {
+            String tag = normalize(raw);
+            if (tag != null) {
+                String interned = internPool.computeIfAbsent(tag, t -> t);
+                displayNames.putIfAbsent(interned, raw.trim());
+                tags.add(interned);
+            }
+        }
+        return tags.toArray(NO_TAGS);
+    }
+
+    private String lookup(String technology) {
+        String tag = normalize(technology);
+        return tag == null ? null : internPool.get(tag);
+    }
+
+    private long[] ownedBy(DocType type, long[] ids, Long userId) {
+        Map<Long, Long> owner = owners.get(type);
+        long[] filtered = new long[ids.length];
+        int n = 0;
+        for (long id : ids) {
+            if (userId.equals(owner.get(id))) {
+                filtered[n++] = id;
+            }
+        }
+        return Arrays.copyOf(filtered, n);
+    }
+
+    /**
+     * Sorted-list intersection; gallops through the longer list when the sizes are lopsided
+     */
+    static long[] intersect(long[] a, long[] b) {
+        long[] small = a.length <= b.length ? a : b;
+        long[] large = small == a ? b : a;
+        long[] out = new long[small.length];
+        int n = 0;
+
+        if (large.length > small.length * 8L) {
+            int lo = 0;
+            for (long value : small) {
+                int step = 1;
+                int hi = lo;
+                while (hi < large.length && large[hi] < value) {
+                    lo = hi + 1;
+                    hi += step;
+                    step <<= 1;
+                }
+                int found = Arrays.binarySearch(large, lo, Math.min(hi + 1, large.length), value);
+                if (found >= 0) {
+                    out[n++] = value;
+                    lo = found + 1;
+                } else {
+                    lo = -found - 1;
+                }
+                if (lo >= large.length) {
+                    break;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < small.length && j < large.length) {
+                if (small[i] < large[j]) {
+                    i++;
+                } else if (small[i] > large[j]) {
+                    j++;
+                } else {
+                    out[n++] = small[i];
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    static long[] union(long[] a, long[] b) {
+        long[] out = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                out[n++] = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                out[n++] = b[j++];
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static long[] with(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+        int insertAt = -index - 1;
+        long[] copy = new long[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, insertAt);
+        copy[insertAt] = id;
+        System.arraycopy(ids, insertAt, copy, insertAt + 1, ids.length - insertAt);
+        return copy;
+    }
+
+    private static long[] without(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        }
+        long[] copy = new long[ids.length - 1];
+        System.arraycopy(ids, 0, copy, 0, index);
+        System.arraycopy(ids, index + 1, copy, index, ids.length - index - 1);
+        return copy;
+    }
+}
@@ -0,0 +1,109 @@
+package com.portfolio.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tokenizer, stopword filter and light English stemmer shared by the text indexes
+ * The stemmer only folds common inflections (plurals, -ing, -ed, -ly, trailing e);
+ * it is applied identically at index and query time, so stems need not be real words
+ *
+ * @author Debojit Chakraborty
+ */
+public final class TextAnalyzer {
+
+    /**
+     * A term with its character offsets in the original text
+     */
+    public record Token(String term, int start, int end) {
+    }
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "been", "but", "by", "for", "from", "has", "have",
+            "i", "in", "into", "is", "it", "its", "of", "on", "or", "our", "that", "the", "their", "this",
+            "to", "was", "we", "were", "will", "with", "using", "used", "via", "my", "me", "also");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Split text into stemmed, lower-cased terms with offsets, dropping stopwords
+     */
+    public static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                String word = text.substring(start, i).toLowerCase(Locale.ROOT);
+                if (!STOPWORDS.contains(word)) {
+                    tokens.add(new Token(stem(word), start, i));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Distinct analyzed terms of a query, in order of appearance
+     */
+    public static List<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (Token token : tokenize(text)) {
+            terms.add(token.term());
+        }
+        return new ArrayList<>(terms);
+    }
+
+    static String stem(String word) {
+        if (word.length() <= 3 || !Character.isLetter(word.charAt(word.length() - 1))) {
+            return word;
+        }
+
+        String stem = word;
+        if (stem.endsWith("ies") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 3) + "y";
+        } else if (stem.endsWith("sses")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("ing") && stem.length() - 3 >= 4) {
+            stem = undouble(stem.substring(0, stem.length() - 3));
+        } else if (stem.endsWith("ed") && stem.length() - 2 >= 3 && !stem.endsWith("eed")) {
+            stem = undouble(stem.substring(0, stem.length() - 2));
+        } else if (stem.endsWith("ches") || stem.endsWith("shes") || stem.endsWith("xes") || stem.endsWith("zes")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("s") && !stem.endsWith("ss") && !stem.endsWith("us") && !stem.endsWith("is")) {
+            stem = stem.substring(0, stem.length() - 1);
+        } else if (stem.endsWith("ly") && stem.length() > 5) {
+            stem = stem.substring(0, stem.length() - 2);
+        }
+
+        // "manage" / "managed" / "manages" all end up as "manag"
+        if (stem.endsWith("e") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        return stem;
+    }
+
+    private static String undouble(String stem) {
+        int n = stem.length();
+        if (n >= 2 && stem.charAt(n - 1) == stem.charAt(n - 2) && "lsz".indexOf(stem.charAt(n - 1)) < 0
+                && "aeiou".indexOf(stem.charAt(n - 1)) < 0) {
+            return stem.substring(0, n - 1);
+        }
+        return stem;
+    }
+}
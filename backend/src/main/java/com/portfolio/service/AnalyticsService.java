@@ -0,0 +1,405 @@
+package com.portfolio.service;
+
+import com.portfolio.analytics.AnalyticsAggregator;
+import com.portfolio.analytics.AnalyticsEventType;
+import com.portfolio.analytics.HyperLogLog;
+import com.portfolio.cache.DatabaseCircuitBreaker;
+import com.portfolio.config.ApplicationConfig;
+import com.portfolio.dto.AnalyticsBeaconDTO;
+import com.portfolio.dto.AnalyticsDayDTO;
+import com.portfolio.dto.AnalyticsSummaryDTO;
+import com.portfolio.dto.AnalyticsTargetDTO;
+import com.portfolio.entity.DailyViewCount;
+import com.portfolio.entity.DailyVisitors;
+import com.portfolio.event.PortfolioChangeEvent;
+import com.portfolio.repository.DailyViewCountRepository;
+import com.portfolio.repository.DailyVisitorsRepository;
+import com.portfolio.repository.ProjectRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Visitor analytics: beacon ingestion, periodic rollup flushes and range queries
+ * Beacons only touch in-memory counters (AnalyticsAggregator); every few seconds the
+ * accumulated deltas are upserted into the daily rollup tables in one JDBC batch, so the
+ * database sees a handful of rows per flush however many views arrive. Unique visitors
+ * are estimated from a per-day HyperLogLog of client address and user agent; only the
+ * sketch registers are stored, never the identifiers. Targets are validated before they
+ * reach the counters: sections against a configured list, projects against the ids that
+ * exist, and every day accepts a bounded number of distinct targets.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Service
+public class AnalyticsService {
+
+    private static final Pattern TARGET = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private static final String UPSERT_COUNT = "INSERT INTO analytics_daily_counts (day, event_type, target, views) "
+            + "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE views = views + VALUES(views)";
+    private static final String UPSERT_VISITORS = "INSERT INTO analytics_daily_visitors (day, registers, visitors) "
+            + "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE registers = VALUES(registers), visitors = VALUES(visitors)";
+
+    private final ApplicationConfig.Analytics settings;
+    private final AnalyticsAggregator aggregator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DailyViewCountRepository dailyViewCountRepository;
+    private final DailyVisitorsRepository dailyVisitorsRepository;
+    private final ProjectRepository projectRepository;
+    private final DatabaseCircuitBreaker circuitBreaker;
+    private final Set<String> sections;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private volatile long lastFlushMillis;
+    private volatile int lastFlushRows;
+    // Ids of existing projects; null until loaded and after any project change
+    private volatile Set<Long> projectIds;
+
+    public AnalyticsService(ApplicationConfig.PortfolioProperties portfolioProperties,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            DailyViewCountRepository dailyViewCountRepository,
+                            DailyVisitorsRepository dailyVisitorsRepository,
+                            ProjectRepository projectRepository,
+                            DatabaseCircuitBreaker circuitBreaker,
+                            MeterRegistry meterRegistry) {
+        this.settings = portfolioProperties.getAnalytics();
+        this.aggregator = new AnalyticsAggregator(settings.getMaxPendingKeys(), settings.getMaxTargetsPerDay(),
+                settings.getSketchPrecision());
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.dailyViewCountRepository = dailyViewCountRepository;
+        this.dailyVisitorsRepository = dailyVisitorsRepository;
+        this.projectRepository = projectRepository;
+        this.circuitBreaker = circuitBreaker;
+        this.sections = settings.getSections().stream()
+                .map(section -> section.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+
+        FunctionCounter.builder("portfolio.analytics.events.accepted", accepted, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("portfolio.analytics.events.rejected", rejected, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("portfolio.analytics.pending-keys", aggregator, AnalyticsAggregator::pendingKeys)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record the events of one beacon; malformed events are skipped, not fatal
+     *
+     * @param events        Events sent by the page
+     * @param clientAddress Remote address of the request
+     * @param userAgent     User-Agent header, may be null
+     * @return Number of events recorded
+     * @throws IllegalArgumentException when the beacon carries too many events
+     */
+    public int record(List<AnalyticsBeaconDTO> events, String clientAddress, String userAgent) {
+        if (!settings.isEnabled() || events == null || events.isEmpty()) {
+            return 0;
+        }
+        if (events.size() > settings.getMaxEventsPerBeacon()) {
+            throw new IllegalArgumentException("A beacon may carry at most " + settings.getMaxEventsPerBeacon() + " events");
+        }
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        String visitor = clientAddress + "|" + (userAgent == null ? "" : userAgent);
+
+        int recorded = 0;
+        for (AnalyticsBeaconDTO event : events) {
+            AnalyticsEventType type = typeOf(event);
+            String target = type == null ? null : targetOf(type, event.getTarget());
+            if (target != null && aggregator.record(today, type, target, visitor)) {
+                recorded++;
+            }
+        }
+
+        accepted.add(recorded);
+        rejected.add(events.size() - recorded);
+        return recorded;
+    }
+
+    /**
+     * Upsert what accumulated since the last flush; failed writes are put back for the next one
+     */
+    @Scheduled(fixedDelayString = "${portfolio.analytics.flush-interval-millis:5000}")
+    public void flush() {
+        if (!circuitBreaker.allowRequest()) {
+            log.debug("Database circuit open - analytics flush deferred");
+            return;
+        }
+
+        LocalDate yesterday = LocalDate.now(ZoneOffset.UTC).minusDays(1);
+        long start = System.currentTimeMillis();
+        int rows = flushCounts(aggregator.drainCounts(yesterday)) + flushVisitors(aggregator.drainChangedSketches());
+        aggregator.evictSketchesBefore(yesterday);
+
+        if (rows > 0) {
+            flushes.incrementAndGet();
+            lastFlushRows = rows;
+            lastFlushMillis = System.currentTimeMillis() - start;
+            log.debug("Analytics flush wrote {} rows in {} ms", rows, lastFlushMillis);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Final analytics flush failed: {}", e.getMessage());
+        }
+    }
+
+    private int flushCounts(Map<AnalyticsAggregator.CounterKey, Long> counts) {
+        if (counts.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batch = new ArrayList<>(counts.size());
+        counts.forEach((key, views) -> batch.add(new Object[]{
+                Date.valueOf(key.day()), key.type().name(), key.target(), views}));
+        try {
+            // One transaction, so a failed batch can be restored without double counting
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_COUNT, batch));
+            return batch.size();
+        } catch (Exception e) {
+            aggregator.restoreCounts(counts);
+            recordFailure("view counts", e);
+            return 0;
+        }
+    }
+
+    private int flushVisitors(Map<LocalDate, HyperLogLog> sketches) {
+        int rows = 0;
+        for (Map.Entry<LocalDate, HyperLogLog> entry : sketches.entrySet()) {
+            LocalDate day = entry.getKey();
+            HyperLogLog sketch = entry.getValue();
+            try {
+                if (!aggregator.isSeeded(day)) {
+                    // First write for this day since startup: keep what earlier runs stored
+                    dailyVisitorsRepository.findById(day)
+                            .filter(stored -> stored.getRegisters() != null)
+                            .ifPresent(stored -> sketch.merge(stored.getRegisters()));
+                    aggregator.markSeeded(day);
+                }
+                jdbcTemplate.update(UPSERT_VISITORS, Date.valueOf(day), sketch.toBytes(), sketch.estimate());
+                rows++;
+            } catch (Exception e) {
+                aggregator.markChanged(day);
+                recordFailure("visitor sketch for " + day, e);
+            }
+        }
+        return rows;
+    }
+
+    private void recordFailure(String what, Exception e) {
+        flushFailures.incrementAndGet();
+        if (DatabaseCircuitBreaker.isDatabaseFailure(e)) {
+            circuitBreaker.recordFailure();
+        }
+        log.warn("Analytics flush of {} failed, will retry: {}", what, e.getMessage());
+    }
+
+    /**
+     * Daily views and unique visitors over a date range (inclusive)
+     *
+     * @throws IllegalArgumentException for an inverted or overlong range
+     */
+    public AnalyticsSummaryDTO getSummary(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+
+        try {
+            Map<LocalDate, Map<String, Long>> viewsByDay = new TreeMap<>();
+            for (DailyViewCount row : dailyViewCountRepository.findByDayBetweenOrderByDay(from, to)) {
+                viewsByDay.computeIfAbsent(row.getDay(), day -> new LinkedHashMap<>())
+                        .merge(row.getEventType().name(), row.getViews(), Long::sum);
+            }
+
+            Map<LocalDate, Long> visitorsByDay = new HashMap<>();
+            HyperLogLog range = new HyperLogLog(settings.getSketchPrecision());
+            for (DailyVisitors row : dailyVisitorsRepository.findByDayBetweenOrderByDay(from, to)) {
+                visitorsByDay.put(row.getDay(), row.getVisitors());
+                if (row.getRegisters() != null && row.getRegisters().length == 1 << settings.getSketchPrecision()) {
+                    range.merge(row.getRegisters());
+                }
+                viewsByDay.computeIfAbsent(row.getDay(), day -> new LinkedHashMap<>());
+            }
+
+            List<AnalyticsDayDTO> days = new ArrayList<>(viewsByDay.size());
+            long totalViews = 0;
+            for (Map.Entry<LocalDate, Map<String, Long>> day : viewsByDay.entrySet()) {
+                long views = day.getValue().values().stream().mapToLong(Long::longValue).sum();
+                totalViews += views;
+                days.add(new AnalyticsDayDTO(day.getKey(), visitorsByDay.getOrDefault(day.getKey(), 0L),
+                        views, day.getValue()));
+            }
+            return new AnalyticsSummaryDTO(from, to, range.estimate(), totalViews, days);
+        } catch (Exception e) {
+            log.error("Error fetching analytics summary {}..{}: {}", from, to, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch analytics summary", e);
+        }
+    }
+
+    /**
+     * Most viewed targets of one event type over a date range (inclusive)
+     *
+     * @throws IllegalArgumentException for an unknown type or an inverted or overlong range
+     */
+    public List<AnalyticsTargetDTO> getTopTargets(String type, LocalDate from, LocalDate to, int limit) {
+        checkRange(from, to);
+        AnalyticsEventType eventType = AnalyticsEventType.valueOf(type.trim().toUpperCase(Locale.ROOT));
+
+        try {
+            Map<String, Long> views = new HashMap<>();
+            for (DailyViewCount row : dailyViewCountRepository.findByEventTypeAndDayBetween(eventType, from, to)) {
+                views.merge(row.getTarget(), row.getViews(), Long::sum);
+            }
+            return views.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(Math.max(1, Math.min(limit, 100)))
+                    .map(entry -> new AnalyticsTargetDTO(eventType.name(), entry.getKey(), entry.getValue()))
+                    .toList();
+        } catch (Exception e) {
+            log.error("Error fetching top {} targets: {}", eventType, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch top analytics targets", e);
+        }
+    }
+
+    /**
+     * Ingestion and flush counters, for the analytics actuator endpoint
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", settings.isEnabled());
+        stats.put("accepted", accepted.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("droppedNewKeys", aggregator.overflowed());
+        stats.put("droppedOverDailyTargetCap", aggregator.capped());
+        stats.put("pendingKeys", aggregator.pendingKeys());
+        stats.put("flushes", flushes.get());
+        stats.put("flushFailures", flushFailures.get());
+        stats.put("lastFlushRows", lastFlushRows);
+        stats.put("lastFlushMillis", lastFlushMillis);
+        return stats;
+    }
+
+    public ApplicationConfig.Analytics getSettings() {
+        return settings;
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range is limited to " + MAX_RANGE_DAYS + " days");
+        }
+    }
+
+    private static AnalyticsEventType typeOf(AnalyticsBeaconDTO event) {
+        if (event == null || event.getType() == null) {
+            return null;
+        }
+        try {
+            return AnalyticsEventType.valueOf(event.getType().trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Canonical target, or null if it is not acceptable for the type
+     */
+    private String targetOf(AnalyticsEventType type, String raw) {
+        String target = raw == null || raw.isBlank()
+                ? (type == AnalyticsEventType.RESUME_DOWNLOAD ? "resume" : null)
+                : raw.trim().toLowerCase(Locale.ROOT);
+        if (target == null || !TARGET.matcher(target).matches()) {
+            return null;
+        }
+        return switch (type) {
+            case SECTION_VIEW -> sections.contains(target) ? target : null;
+            case PROJECT_VIEW -> projectTarget(target);
+            case RESUME_DOWNLOAD -> target;
+        };
+    }
+
+    private String projectTarget(String target) {
+        long projectId;
+        try {
+            projectId = Long.parseLong(target);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        Set<Long> known = knownProjectIds();
+        return known.contains(projectId) ? String.valueOf(projectId) : null;
+    }
+
+    /**
+     * Existing project ids, read once and again after a project is created or deleted.
+     * While the database is unavailable no project view can be validated, so none is counted.
+     */
+    private Set<Long> knownProjectIds() {
+        Set<Long> known = projectIds;
+        if (known != null) {
+            return known;
+        }
+        if (!circuitBreaker.allowRequest()) {
+            return Set.of();
+        }
+        synchronized (this) {
+            if (projectIds == null) {
+                try {
+                    projectIds = Set.copyOf(projectRepository.findAllIds());
+                } catch (Exception e) {
+                    if (DatabaseCircuitBreaker.isDatabaseFailure(e)) {
+                        circuitBreaker.recordFailure();
+                    }
+                    log.warn("Could not load project ids for analytics: {}", e.getMessage());
+                    return Set.of();
+                }
+            }
+            return projectIds;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChange(PortfolioChangeEvent event) {
+        if (event.is(PortfolioChangeEvent.EntityType.PROJECT) && event.action() != PortfolioChangeEvent.Action.UPDATED) {
+            projectIds = null;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.portfolio.config.ApplicationConfig;
+import com.portfolio.config.SparseFieldsAdvice;
+import com.portfolio.dto.ApiResponse;
+import com.portfolio.dto.BatchOperationDTO;
+import com.portfolio.dto.BatchResultDTO;
+import com.portfolio.dto.EducationDTO;
+import com.portfolio.dto.ExperienceDTO;
+import com.portfolio.dto.PortfolioSummaryDTO;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.SkillDTO;
+import com.portfolio.dto.SparseFields;
+import com.portfolio.dto.UserDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executes a batch of public portfolio reads in one round trip
+ * Each sub-request names a GET route; distinct paths run concurrently on virtual threads
+ * under one deadline and repeated paths share a single execution. Reads go through
+ * PortfolioReadService, so most are answered from the read-through cache without touching
+ * a connection; misses each borrow one briefly, and at most maxParallel per batch wait on
+ * the pool at a time so one large batch cannot starve ordinary requests.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Service
+public class BatchService {
+
+    private static final String CONTEXT_PATH = "/api";
+
+    private final PortfolioReadService portfolioReadService;
+    private final SearchService searchService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationConfig.Batch settings;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Route> routes = new LinkedHashMap<>();
+
+    public BatchService(PortfolioReadService portfolioReadService,
+                        SearchService searchService,
+                        ObjectMapper objectMapper,
+                        ApplicationConfig.PortfolioProperties portfolioProperties) {
+        this.portfolioReadService = portfolioReadService;
+        this.searchService = searchService;
+        this.objectMapper = objectMapper;
+        this.settings = portfolioProperties.getBatch();
+        registerRoutes();
+    }
+
+    /**
+     * One batchable GET route: path variables and query parameters in, status and body out
+     */
+    @FunctionalInterface
+    private interface Route {
+        BatchResultDTO handle(Map<String, String> variables, MultiValueMap<String, String> params) throws Exception;
+    }
+
+    private void registerRoutes() {
+        routes.put("/portfolio/summary", (variables, params) -> {
+            Set<String> fields = SparseFields.parse(params.getFirst("fields"), PortfolioSummaryDTO.class);
+            return found(portfolioReadService.getPortfolioSummary(), PortfolioSummaryDTO.class, fields,
+                    "Portfolio summary retrieved successfully", "No portfolio data found");
+        });
+        routes.put("/portfolio/user/active", (variables, params) -> {
+            Set<String> fields = SparseFields.parse(params.getFirst("fields"), UserDTO.class);
+            return found(portfolioReadService.getActiveUser(fields), UserDTO.class, fields,
+                    "Active user profile retrieved successfully", "No active user found");
+        });
+        routes.put("/portfolio/experience/{userId}", (variables, params) -> {
+            Set<String> fields = SparseFields.parse(params.getFirst("fields"), ExperienceDTO.class);
+            return ok(sparse(portfolioReadService.getUserExperience(idOf(variables, "userId"), fields),
+                    ExperienceDTO.class, fields), "Experience data retrieved successfully");
+        });
+        routes.put("/portfolio/experience/{userId}/current", (variables, params) -> {
+            Set<String> fields = SparseFields.parse(params.getFirst("fields"), ExperienceDTO.class);
+            return ok(sparse(portfolioReadService.getCurrentExperiences(idOf(variables, "userId"), fields),
+                    ExperienceDTO.class, fields), "Current experience data retrieved successfully");
+        });
+        routes.put("/portfolio/projects/{userId}", (variables, params) -> {
+            Set<String> fields = SparseFields.parse(params.getFirst("fields"), ProjectDTO.class);
+            return ok(sparse(portfolioReadService.getUserProjects(idOf(variables, "userId"), fields),
+                    ProjectDTO.class, fields), "Projects data retrieved successfully");
+        });
+        routes.put("/portfolio/projects/{projectId}/related", (variables, params) -> {
+            String limit = params.getFirst("limit");
+            return ok(searchService.getRelatedProjects(idOf(variables, "projectId"),
+                    limit == null ? 3 : Math.max(1, Integer.parseInt(limit))), "Related projects retrieved successfully");
+        });
+        routes.put("/portfolio/skills/{userId}", (variables, params) -> {
+            Set<String> fields = SparseFields.parse(params.getFirst("fields"), SkillDTO.class);
+            return ok(sparse(portfolioReadService.getUserSkills(idOf(variables, "userId"), fields),
+                    SkillDTO.class, fields), "Skills data retrieved successfully");
+        });
+        routes.put("/portfolio/skills/{userId}/featured", (variables, params) -> {
+            Set<String> fields = SparseFields.parse(params.getFirst("fields"), SkillDTO.class);
+            return ok(sparse(portfolioReadService.getFeaturedSkills(idOf(variables, "userId"), fields),
+                    SkillDTO.class, fields), "Featured skills retrieved successfully");
+        });
+        routes.put("/portfolio/skills/{userId}/categories", (variables, params) ->
+                ok(portfolioReadService.getSkillCategories(idOf(variables, "userId")),
+                        "Skill categories retrieved successfully"));
+        routes.put("/portfolio/education/{userId}", (variables, params) -> {
+            Set<String> fields = SparseFields.parse(params.getFirst("fields"), EducationDTO.class);
+            return ok(sparse(portfolioReadService.getUserEducation(idOf(variables, "userId"), fields),
+                    EducationDTO.class, fields), "Education data retrieved successfully");
+        });
+    }
+
+    /**
+     * Run every sub-request and return their results in request order
+     *
+     * @throws IllegalArgumentException for an empty or oversized batch, or a sub-request without a path
+     */
+    public List<BatchResultDTO> execute(List<BatchOperationDTO> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one request");
+        }
+        if (operations.size() > settings.getMaxRequests()) {
+            throw new IllegalArgumentException("Batch is limited to " + settings.getMaxRequests() + " requests");
+        }
+        for (BatchOperationDTO operation : operations) {
+            if (operation == null || operation.getPath() == null || operation.getPath().isBlank()) {
+                throw new IllegalArgumentException("Every batch request needs a path");
+            }
+        }
+
+        log.debug("Executing batch of {} requests", operations.size());
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Semaphore database = new Semaphore(Math.max(1, settings.getMaxParallel()));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.getTimeoutMillis());
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            Map<String, Future<BatchResultDTO>> running = new HashMap<>();
+            for (BatchOperationDTO operation : operations) {
+                running.computeIfAbsent(operation.getPath().trim(),
+                        path -> executor.submit(() -> run(path, attributes, database)));
+            }
+
+            List<BatchResultDTO> results = new ArrayList<>(operations.size());
+            for (int i = 0; i < operations.size(); i++) {
+                BatchOperationDTO operation = operations.get(i);
+                String path = operation.getPath().trim();
+                BatchResultDTO result = await(running.get(path), path, deadline);
+                results.add(new BatchResultDTO(operation.getId() != null ? operation.getId() : String.valueOf(i),
+                        path, result.getStatus(), result.getBody()));
+            }
+            return results;
+        } finally {
+            // Don't wait for stragglers past the deadline; they are interrupted and finish on their own
+            executor.shutdownNow();
+        }
+    }
+
+    private BatchResultDTO await(Future<BatchResultDTO> future, String path, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Batch request {} missed the {} ms deadline", path, settings.getTimeoutMillis());
+            return result(HttpStatus.GATEWAY_TIMEOUT,
+                    ApiResponse.error("Request timed out", "Batch deadline exceeded"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return result(HttpStatus.SERVICE_UNAVAILABLE, ApiResponse.error("Request interrupted", path));
+        } catch (ExecutionException e) {
+            log.error("Batch request {} failed: {}", path, e.getCause().getMessage(), e.getCause());
+            return result(HttpStatus.INTERNAL_SERVER_ERROR,
+                    ApiResponse.error("Internal server error", e.getCause().getMessage()));
+        }
+    }
+
+    private BatchResultDTO run(String path, RequestAttributes attributes, Semaphore database) {
+        // Stale-snapshot reads flag the enclosing batch response through the caller's request attributes
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            UriComponents uri = UriComponentsBuilder.fromUriString(path).build();
+            String routePath = uri.getPath() == null ? "" : uri.getPath();
+            if (routePath.startsWith(CONTEXT_PATH + "/")) {
+                routePath = routePath.substring(CONTEXT_PATH.length());
+            }
+
+            for (Map.Entry<String, Route> route : routes.entrySet()) {
+                if (pathMatcher.match(route.getKey(), routePath)) {
+                    Map<String, String> variables = pathMatcher.extractUriTemplateVariables(route.getKey(), routePath);
+                    database.acquire();
+                    try {
+                        return route.getValue().handle(variables, uri.getQueryParams());
+                    } finally {
+                        database.release();
+                    }
+                }
+            }
+            return result(HttpStatus.NOT_FOUND, ApiResponse.error("Not found", "No batchable route for " + routePath));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid batch request {}: {}", path, e.getMessage());
+            return result(HttpStatus.BAD_REQUEST, ApiResponse.error("Invalid request", e.getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return result(HttpStatus.SERVICE_UNAVAILABLE, ApiResponse.error("Request interrupted", path));
+        } catch (Exception e) {
+            log.error("Batch request {} failed: {}", path, e.getMessage(), e);
+            return result(HttpStatus.INTERNAL_SERVER_ERROR, ApiResponse.error("Internal server error", e.getMessage()));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    /**
+     * Write only the selected properties; a batch body mixes DTO types, so the selection is
+     * applied here rather than by SparseFieldsAdvice on the whole response
+     */
+    private Object sparse(Object value, Class<?> dtoType, Set<String> fields) throws IOException {
+        if (fields.isEmpty() || value == null) {
+            return value;
+        }
+        try (TokenBuffer buffer = new TokenBuffer(objectMapper, false)) {
+            objectMapper.writer(SparseFieldsAdvice.filtersFor(new SparseFields.Selection(dtoType, fields)))
+                    .writeValue(buffer, value);
+            return buffer.asParser().<JsonNode>readValueAsTree();
+        }
+    }
+
+    private BatchResultDTO found(Optional<?> value, Class<?> dtoType, Set<String> fields,
+                                 String message, String notFound) throws IOException {
+        return value.isPresent()
+                ? ok(sparse(value.get(), dtoType, fields), message)
+                : result(HttpStatus.NOT_FOUND, ApiResponse.error(notFound, "Not found"));
+    }
+
+    private static BatchResultDTO ok(Object data, String message) {
+        return result(HttpStatus.OK, ApiResponse.success(data, message));
+    }
+
+    private static BatchResultDTO result(HttpStatus status, ApiResponse<?> body) {
+        return new BatchResultDTO(null, null, status.value(), body);
+    }
+
+    private static Long idOf(Map<String, String> variables, String name) {
+        return Long.valueOf(variables.get(name));
+    }
+}
@@ -0,0 +1,346 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.archive.ContactArchive;
+import com.portfolio.cache.DatabaseCircuitBreaker;
+import com.portfolio.config.ApplicationConfig;
+import com.portfolio.dto.ContactMessageDTO;
+import com.portfolio.dto.CursorPageDTO;
+import com.portfolio.entity.ContactMessage;
+import com.portfolio.inbox.MessageClassification;
+import com.portfolio.mapper.EntityDTOMapper;
+import com.portfolio.repository.ContactMessageBulkRepository;
+import com.portfolio.repository.ContactMessageRepository;
+import com.portfolio.repository.ContactMessageSpecifications;
+import com.portfolio.repository.Keyset;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hot/cold storage of contact messages
+ * Read messages older than the retention period are moved in blocks from contact_messages
+ * into the compressed, append-only ContactArchive, keeping the hot table (and every query on
+ * it) small. Admin reads merge both tiers page by page: a message in the hot table always wins
+ * over its archived copy, and answering an archived message restores it to the hot table first.
+ * The archive is local files, so it is off by default: it needs a persistent volume mounted at
+ * the configured directory and a single backend instance.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Service
+public class ContactArchiveService {
+
+    private static final String RESTORE = "INSERT INTO contact_messages (message_id, name, email, subject, message, "
+            + "sent_date, is_read, response, read_date, responded_date, classification, spam_score, duplicate_of, "
+            + "duplicate_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ApplicationConfig.Archive settings;
+    private final ContactMessageRepository contactMessageRepository;
+    private final EntityDTOMapper entityDTOMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseCircuitBreaker circuitBreaker;
+    private final ContactArchive archive;
+
+    private static final Set<MessageClassification> INBOX_CLASSES =
+            EnumSet.of(MessageClassification.PENDING, MessageClassification.INBOX);
+
+    private final LongAdder archived = new LongAdder();
+    private final LongAdder restored = new LongAdder();
+
+    public ContactArchiveService(ApplicationConfig.PortfolioProperties portfolioProperties,
+                                 ContactMessageRepository contactMessageRepository,
+                                 EntityDTOMapper entityDTOMapper,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 DatabaseCircuitBreaker circuitBreaker,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this.settings = portfolioProperties.getArchive();
+        this.contactMessageRepository = contactMessageRepository;
+        this.entityDTOMapper = entityDTOMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.archive = open(settings, objectMapper);
+
+        if (archive != null) {
+            FunctionCounter.builder("portfolio.contact.archive.archived", archived, LongAdder::sum).register(meterRegistry);
+            FunctionCounter.builder("portfolio.contact.archive.restored", restored, LongAdder::sum).register(meterRegistry);
+            Gauge.builder("portfolio.contact.archive.messages", archive, ContactArchive::storedMessages).register(meterRegistry);
+            Gauge.builder("portfolio.contact.archive.blocks", archive, ContactArchive::blockCount).register(meterRegistry);
+            Gauge.builder("portfolio.contact.archive.bytes", archive, ContactArchive::compressedBytes)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Move read messages past the retention period into the archive, one block per transaction
+     * A block is durable in the archive before its rows are deleted; a crash in between only
+     * leaves a second copy, which the hot table shadows and the next run re-archives.
+     */
+    @Scheduled(fixedDelayString = "${portfolio.archive.interval-millis:3600000}", initialDelay = 60000)
+    public void archiveOldMessages() {
+        if (archive == null || !settings.isEnabled()) {
+            return;
+        }
+        if (!circuitBreaker.allowRequest()) {
+            log.debug("Database circuit open - contact archival deferred");
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(settings.getRetentionDays());
+        int moved = 0;
+        try {
+            while (moved < settings.getMaxMessagesPerRun()) {
+                List<ContactMessage> batch = contactMessageRepository.findArchivable(cutoff,
+                        PageRequest.of(0, Math.min(settings.getBlockSize(), settings.getMaxMessagesPerRun() - moved)));
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                archive.append(batch.stream().map(entityDTOMapper::toContactMessageDTO).toList(), List.of());
+                List<Long> ids = batch.stream().map(ContactMessage::getMessageId).toList();
+                transactionTemplate.executeWithoutResult(status -> contactMessageRepository.deleteAllByIdInBatch(ids));
+
+                moved += batch.size();
+                archived.add(batch.size());
+            }
+            if (moved > 0) {
+                log.info("Archived {} contact messages read and sent before {}", moved, cutoff.toLocalDate());
+            }
+        } catch (Exception e) {
+            if (DatabaseCircuitBreaker.isDatabaseFailure(e)) {
+                circuitBreaker.recordFailure();
+            }
+            log.error("Contact archival stopped after {} messages: {}", moved, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * One page of the admin inbox across both tiers, newest first
+     * The caller reads up to size + 1 hot messages after the cursor (see ContactMessageSpecifications.NEWEST_FIRST);
+     * the archive adds as many of its next messages not shadowed by a hot copy, and the page is
+     * the first size of the two merged. Only the archive blocks that can hold the page are read.
+     *
+     * @param hot             Hot messages after the cursor, newest first
+     * @param after           Cursor the page starts after, or null for the first page
+     * @param includeFiltered Also include archived messages filed as spam or near-duplicates
+     * @throws IllegalArgumentException for a cursor not issued for this listing
+     */
+    public CursorPageDTO<ContactMessageDTO> withArchived(List<ContactMessageDTO> hot, Keyset.Cursor after,
+                                                         int size, boolean includeFiltered) {
+        List<ContactMessageDTO> merged = new ArrayList<>(hot);
+        if (archive != null) {
+            merged.addAll(archivedAfter(after, size + 1, includeFiltered));
+        }
+        merged.sort(ContactArchive.NEWEST_FIRST);
+
+        boolean more = merged.size() > size;
+        List<ContactMessageDTO> items = new ArrayList<>(more ? merged.subList(0, size) : merged);
+        String nextCursor = more ? cursorAfter(items.get(items.size() - 1)).encode() : null;
+        return new CursorPageDTO<>(items, nextCursor, items.size(), ContactMessageSpecifications.NEWEST_FIRST.token());
+    }
+
+    /**
+     * Cursor for the page after a message
+     */
+    public static Keyset.Cursor cursorAfter(ContactMessageDTO message) {
+        LocalDateTime sent = message.getSentDate() != null ? message.getSentDate() : Keyset.EARLIEST_TIME;
+        return new Keyset.Cursor(ContactMessageSpecifications.NEWEST_FIRST.token(), message.getMessageId(), sent.toString());
+    }
+
+    public Optional<ContactMessageDTO> findArchived(Long messageId) {
+        if (archive == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return archive.find(messageId);
+        } catch (IOException e) {
+            log.error("Error reading archived contact message {}: {}", messageId, e.getMessage(), e);
+            throw new RuntimeException("Failed to read contact archive", e);
+        }
+    }
+
+    /**
+     * Move an archived message back into the hot table under its original id
+     * Runs in the caller's transaction; the archived copy is tombstoned only after it commits.
+     *
+     * @return The message id, or empty if the archive does not hold the message
+     */
+    public Optional<Long> restore(Long messageId) {
+        Optional<ContactMessageDTO> archivedCopy = findArchived(messageId);
+        archivedCopy.ifPresent(message -> {
+            jdbcTemplate.update(RESTORE, message.getMessageId(), message.getName(), message.getEmail(),
+                    message.getSubject(), message.getMessage(), timestamp(message.getSentDate()),
+                    message.getIsRead(), message.getResponse(), timestamp(message.getReadDate()),
+                    timestamp(message.getRespondedDate()),
+                    message.getClassification() != null ? message.getClassification().name() : null,
+                    message.getSpamScore(), message.getDuplicateOf(), message.getDuplicateCount());
+            afterCommit(() -> tombstone(List.of(messageId)));
+            restored.increment();
+            log.info("Restored archived contact message {} to the hot table", messageId);
+        });
+        return archivedCopy.map(ContactMessageDTO::getMessageId);
+    }
+
+    /**
+     * Remove messages from the archive (deletes are appended, the archive is never rewritten)
+     */
+    public void tombstone(Collection<Long> messageIds) {
+        if (archive == null || messageIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            archive.append(List.of(), messageIds);
+        } catch (IOException e) {
+            log.error("Error removing {} messages from the contact archive: {}", messageIds.size(), e.getMessage(), e);
+            throw new RuntimeException("Failed to update contact archive", e);
+        }
+    }
+
+    /**
+     * Tombstone the archived messages a bulk delete selects, once the caller's transaction commits
+     * Reads only the archive blocks the criteria can match (see ContactArchive.findIds).
+     *
+     * @return Number of archived messages removed
+     */
+    public long deleteMatching(ContactMessageBulkRepository.Criteria criteria) {
+        if (archive == null) {
+            return 0;
+        }
+
+        try {
+            List<Long> matched = archive.findIds(criteria.ids(), criteria.sentFrom(), criteria.sentBefore(),
+                    criteria.classification());
+            afterCommit(() -> tombstone(matched));
+            return matched.size();
+        } catch (IOException e) {
+            log.error("Error reading contact archive: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to read contact archive", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (archive != null) {
+            try {
+                archive.close();
+            } catch (IOException e) {
+                log.warn("Could not close contact archive: {}", e.getMessage());
+            }
+        }
+    }
+
+    // The next archived messages after the cursor, skipping those shadowed by a hot copy
+    private List<ContactMessageDTO> archivedAfter(Keyset.Cursor after, int wanted, boolean includeFiltered) {
+        if (after != null && !after.sort().equals(ContactMessageSpecifications.NEWEST_FIRST.token())) {
+            throw new IllegalArgumentException("Cursor was issued for sort '" + after.sort() + "'");
+        }
+        Set<MessageClassification> classes = includeFiltered ? null : INBOX_CLASSES;
+        LocalDateTime sent;
+        try {
+            sent = after == null ? null : LocalDateTime.parse(after.value());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        long id = after == null ? 0 : after.id();
+
+        try {
+            List<ContactMessageDTO> result = new ArrayList<>();
+            while (result.size() < wanted) {
+                int limit = wanted - result.size();
+                List<ContactMessageDTO> batch = archive.findPage(sent, id, limit, classes);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                Set<Long> shadowed = new HashSet<>(contactMessageRepository.findExistingIds(
+                        batch.stream().map(ContactMessageDTO::getMessageId).toList()));
+                batch.stream().filter(message -> !shadowed.contains(message.getMessageId())).forEach(result::add);
+
+                ContactMessageDTO last = batch.get(batch.size() - 1);
+                sent = last.getSentDate() != null ? last.getSentDate() : Keyset.EARLIEST_TIME;
+                id = last.getMessageId();
+                if (batch.size() < limit) {
+                    break;
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            log.error("Error reading contact archive: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to read contact archive", e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return time == null ? null : Timestamp.valueOf(time);
+    }
+
+    private static ContactArchive open(ApplicationConfig.Archive settings, ObjectMapper objectMapper) {
+        if (!settings.isEnabled()) {
+            return null;
+        }
+
+        // Never create the directory: a missing mount would silently archive onto the container's disk
+        Path directory = Paths.get(settings.getDirectory());
+        if (!Files.isDirectory(directory) || !Files.isWritable(directory)) {
+            log.error("Contact archive directory {} is not a writable directory - mount a persistent volume there; "
+                    + "archival disabled", directory.toAbsolutePath());
+            return null;
+        }
+
+        try {
+            ContactArchive archive = new ContactArchive(directory,
+                    settings.getSegmentMaxBytes(), settings.getBlockCacheSize(), objectMapper);
+            log.info("Contact archive opened at {} - {} messages in {} blocks", settings.getDirectory(),
+                    archive.storedMessages(), archive.blockCount());
+            return archive;
+        } catch (IOException e) {
+            log.error("Contact archive unavailable at {}, archival disabled: {}", settings.getDirectory(), e.getMessage(), e);
+            return null;
+        }
+    }
+}
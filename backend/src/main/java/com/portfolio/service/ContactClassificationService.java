@@ -0,0 +1,258 @@
+package com.portfolio.service;
+
+import com.portfolio.config.ApplicationConfig;
+import com.portfolio.entity.ContactMessage;
+import com.portfolio.event.PortfolioChangeEvent;
+import com.portfolio.inbox.MessageClassification;
+import com.portfolio.inbox.NearDuplicateIndex;
+import com.portfolio.inbox.SimHash;
+import com.portfolio.inbox.SpamScorer;
+import com.portfolio.repository.ContactMessageRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Files contact messages as inbox, spam or near-duplicate once they are stored
+ * Submission only saves the message as PENDING; after the commit its id joins a queue drained
+ * by a single consumer on the task executor, so the public POST never waits for it and a burst
+ * occupies one executor thread however many messages arrive. Messages still PENDING (a rejected
+ * drain, a failed transaction) are queued again periodically. Near-duplicates are found by SimHash
+ * over word shingles and an in-memory LSH index of the recent window, and are collapsed into
+ * the first message of their cluster; everything else is scored by a small local spam model.
+ * Spam and duplicates are filed as read (without a read date) so they leave the unread badge
+ * and the admin inbox but stay retrievable.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Service
+public class ContactClassificationService {
+
+    // Below this many words a message has too few shingles for a near match to mean anything
+    private static final int MIN_TOKENS_FOR_NEAR_MATCH = 4;
+
+    private final ApplicationConfig.Classification settings;
+    private final ContactMessageRepository contactMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor taskExecutor;
+    private final NearDuplicateIndex index;
+    // Ids waiting for classification, oldest first so the first copy becomes the representative;
+    // a message queued twice is classified once
+    private final NavigableSet<Long> queued = new ConcurrentSkipListSet<>();
+    private final AtomicBoolean drainPending = new AtomicBoolean();
+
+    private final LongAdder inbox = new LongAdder();
+    private final LongAdder spam = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+
+    public ContactClassificationService(ApplicationConfig.PortfolioProperties portfolioProperties,
+                                        ContactMessageRepository contactMessageRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        @Qualifier("taskExecutor") Executor taskExecutor,
+                                        MeterRegistry meterRegistry) {
+        this.settings = portfolioProperties.getClassification();
+        this.contactMessageRepository = contactMessageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+        // Fails startup on a max-distance the band index cannot answer exactly
+        this.index = new NearDuplicateIndex(settings.getMaxIndexedMessages(), settings.getMaxDistance());
+
+        FunctionCounter.builder("portfolio.contact.classified", inbox, LongAdder::sum)
+                .tag("classification", "inbox").register(meterRegistry);
+        FunctionCounter.builder("portfolio.contact.classified", spam, LongAdder::sum)
+                .tag("classification", "spam").register(meterRegistry);
+        FunctionCounter.builder("portfolio.contact.classified", duplicates, LongAdder::sum)
+                .tag("classification", "duplicate").register(meterRegistry);
+        Gauge.builder("portfolio.contact.fingerprint-index.size", index, NearDuplicateIndex::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rebuild the index from the recent window and finish messages left pending by a restart
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        try {
+            List<ContactMessage> recent = contactMessageRepository.findFingerprintedSince(windowStart());
+            for (ContactMessage message : recent) {
+                index.add(message.getMessageId(), message.getFingerprint(),
+                        message.getDuplicateOf() != null ? message.getDuplicateOf() : message.getMessageId(),
+                        message.getSentDate());
+            }
+
+            List<Long> pending = contactMessageRepository.findIdsByClassification(MessageClassification.PENDING);
+            enqueue(pending);
+            log.info("Contact classification index seeded with {} messages; {} pending messages queued",
+                    recent.size(), pending.size());
+        } catch (Exception e) {
+            log.warn("Contact classification warm-up skipped: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChange(PortfolioChangeEvent event) {
+        if (settings.isEnabled()
+                && event.entityType() == PortfolioChangeEvent.EntityType.CONTACT_MESSAGE
+                && event.action() == PortfolioChangeEvent.Action.CREATED) {
+            enqueue(List.of(event.entityId()));
+        }
+    }
+
+    /**
+     * Queue again whatever is still PENDING, so a message is never stuck until the next restart
+     */
+    @Scheduled(fixedDelayString = "${portfolio.classification.recheck-interval-millis:60000}", initialDelay = 60000)
+    public void recheckPending() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        try {
+            enqueue(contactMessageRepository.findIdsByClassification(MessageClassification.PENDING));
+        } catch (Exception e) {
+            log.warn("Pending contact message re-check skipped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Add ids to the queue and start the consumer unless it is already scheduled
+     */
+    private void enqueue(List<Long> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        queued.addAll(messageIds);
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (!drainPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // The ids stay queued; the next enqueue or re-check starts the consumer
+            drainPending.set(false);
+            log.warn("Contact classification rejected by the task executor; {} messages left queued", queued.size());
+        }
+    }
+
+    /**
+     * The single consumer: classify until the queue is empty
+     */
+    private synchronized void drain() {
+        // Cleared first so ids queued during this pass schedule another one
+        drainPending.set(false);
+        Long messageId;
+        while ((messageId = queued.pollFirst()) != null) {
+            classify(messageId);
+        }
+        if (!queued.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.classification.evict-interval-millis:3600000}")
+    public void evictExpired() {
+        index.evictBefore(windowStart());
+    }
+
+    /**
+     * Fingerprint of a filed message, indexed once its classification has committed
+     */
+    private record Filed(long messageId, long fingerprint, long representativeId, LocalDateTime sent) {
+    }
+
+    /**
+     * Classify one stored message; a message that is no longer pending is left alone
+     */
+    void classify(Long messageId) {
+        try {
+            // Only the single consumer gets here, so lookup, commit and index insert are one step:
+            // two copies still form a single cluster, and a filing that rolls back is never indexed
+            Filed filed = transactionTemplate.execute(status -> contactMessageRepository.findById(messageId)
+                    .filter(message -> message.getClassification() == null
+                            || message.getClassification() == MessageClassification.PENDING)
+                    .map(this::classify)
+                    .orElse(null));
+            if (filed != null) {
+                index.add(filed.messageId(), filed.fingerprint(), filed.representativeId(), filed.sent());
+            }
+        } catch (Exception e) {
+            // Left PENDING and shown in the inbox; retried by the next re-check
+            log.error("Error classifying contact message {}: {}", messageId, e.getMessage(), e);
+        }
+    }
+
+    private Filed classify(ContactMessage message) {
+        List<String> tokens = SimHash.tokens(message.getSubject() + " " + message.getMessage());
+        long fingerprint = SimHash.fingerprint(tokens);
+        int maxDistance = tokens.size() < MIN_TOKENS_FOR_NEAR_MATCH ? 0 : settings.getMaxDistance();
+        LocalDateTime sent = message.getSentDate() != null ? message.getSentDate() : LocalDateTime.now();
+
+        ContactMessage representative = null;
+        OptionalLong near = index.findNear(fingerprint, maxDistance);
+        if (near.isPresent()) {
+            representative = contactMessageRepository.findById(near.getAsLong()).orElse(null);
+        }
+
+        int clusterSize = 1;
+        if (representative != null) {
+            int collapsed = representative.getDuplicateCount() == null ? 0 : representative.getDuplicateCount();
+            contactMessageRepository.incrementDuplicateCount(representative.getMessageId());
+            clusterSize = collapsed + 2;
+        }
+
+        double score = SpamScorer.score(message.getSubject(), message.getMessage(), message.getEmail(), tokens, clusterSize);
+        MessageClassification classification = representative != null ? MessageClassification.DUPLICATE
+                : score >= settings.getSpamThreshold() ? MessageClassification.SPAM
+                : MessageClassification.INBOX;
+
+        message.setFingerprint(fingerprint);
+        message.setSpamScore(Math.round(score * 10_000.0) / 10_000.0);
+        message.setClassification(classification);
+        if (representative != null) {
+            message.setDuplicateOf(representative.getMessageId());
+        }
+        if (classification != MessageClassification.INBOX) {
+            message.setIsRead(true);
+        }
+
+        switch (classification) {
+            case DUPLICATE -> duplicates.increment();
+            case SPAM -> spam.increment();
+            default -> inbox.increment();
+        }
+        log.debug("Contact message {} classified as {} (spam score {}, cluster size {})",
+                message.getMessageId(), classification, message.getSpamScore(), clusterSize);
+        return new Filed(message.getMessageId(), fingerprint,
+                representative != null ? representative.getMessageId() : message.getMessageId(), sent);
+    }
+
+    private LocalDateTime windowStart() {
+        return LocalDateTime.now().minusDays(settings.getWindowDays());
+    }
+}
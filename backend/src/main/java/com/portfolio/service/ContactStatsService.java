@@ -0,0 +1,186 @@
+package com.portfolio.service;
+
+import com.portfolio.dto.ContactStatsBucketDTO;
+import com.portfolio.dto.ContactStatsDTO;
+import com.portfolio.entity.ContactMessage;
+import com.portfolio.entity.ContactStatsDaily;
+import com.portfolio.event.PortfolioChangeEvent;
+import com.portfolio.repository.ContactStatsDailyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Contact message statistics from incrementally maintained daily rollups
+ * Each submitted, read or answered message adds to its day's row in the same transaction
+ * as the change itself, so queries read at most one row per day in the range and never
+ * scan contact_messages.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContactStatsService {
+
+    private static final int MAX_RANGE_DAYS = 731;
+
+    private static final String UPSERT = "INSERT INTO contact_message_stats_daily "
+            + "(day, received, read_count, responded, read_seconds, response_seconds) VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE received = received + VALUES(received), "
+            + "read_count = read_count + VALUES(read_count), responded = responded + VALUES(responded), "
+            + "read_seconds = read_seconds + VALUES(read_seconds), "
+            + "response_seconds = response_seconds + VALUES(response_seconds)";
+
+    /*
+     * Messages read before read dates were recorded (is_read without read_date) count as read;
+     * their time to read is taken as the average of the day's timed reads, so they move the read
+     * rate but not the average. Spam and near-duplicates are filed read without a read date and
+     * are not counted, as on the live path.
+     */
+    private static final String BACKFILL = "INSERT INTO contact_message_stats_daily "
+            + "(day, received, read_count, responded, read_seconds, response_seconds) "
+            + "SELECT day, received, read_count, responded, "
+            + "COALESCE(ROUND(timed_seconds * read_count / NULLIF(timed_reads, 0)), 0), response_seconds FROM ("
+            + "SELECT DATE(sent_date) AS day, COUNT(*) AS received, "
+            + "SUM(CASE WHEN read_date IS NOT NULL OR (is_read = TRUE "
+            + "AND COALESCE(classification, '') NOT IN ('SPAM', 'DUPLICATE')) THEN 1 ELSE 0 END) AS read_count, "
+            + "COUNT(read_date) AS timed_reads, "
+            + "COALESCE(SUM(TIMESTAMPDIFF(SECOND, sent_date, read_date)), 0) AS timed_seconds, "
+            + "COUNT(responded_date) AS responded, "
+            + "COALESCE(SUM(TIMESTAMPDIFF(SECOND, sent_date, responded_date)), 0) AS response_seconds "
+            + "FROM contact_messages WHERE sent_date IS NOT NULL GROUP BY DATE(sent_date)) days";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ContactStatsDailyRepository contactStatsDailyRepository;
+
+    /**
+     * Seed the rollups from existing messages the first time they are needed (one scan, once)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            if (contactStatsDailyRepository.count() == 0) {
+                int days = jdbcTemplate.update(BACKFILL);
+                log.info("Contact statistics backfilled for {} days", days);
+            }
+        } catch (Exception e) {
+            log.warn("Contact statistics backfill skipped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Runs synchronously inside the flush, so the rollup commits or rolls back with the message
+     */
+    @EventListener
+    public void onPortfolioChange(PortfolioChangeEvent event) {
+        if (!(event.entity() instanceof ContactMessage message)
+                || event.action() == PortfolioChangeEvent.Action.DELETED) {
+            return;
+        }
+
+        boolean created = event.action() == PortfolioChangeEvent.Action.CREATED;
+        boolean firstRead = message.getReadDate() != null && (created || message.getReadDateBefore() == null);
+        boolean firstResponse = message.getRespondedDate() != null && (created || message.getRespondedDateBefore() == null);
+        if (!created && !firstRead && !firstResponse) {
+            return;
+        }
+
+        LocalDateTime sent = message.getSentDate() != null ? message.getSentDate() : LocalDateTime.now();
+        record(sent.toLocalDate(), created ? 1 : 0,
+                firstRead ? 1 : 0, firstRead ? secondsBetween(sent, message.getReadDate()) : 0,
+                firstResponse ? 1 : 0, firstResponse ? secondsBetween(sent, message.getRespondedDate()) : 0);
+    }
+
+    /**
+     * Add to one day's row; callers that change messages without JPA callbacks (bulk updates) use this directly
+     */
+    public void record(LocalDate day, long received, long read, long readSeconds, long responded, long responseSeconds) {
+        jdbcTemplate.update(UPSERT, Date.valueOf(day), received, read, responded, readSeconds, responseSeconds);
+    }
+
+    /**
+     * Statistics for messages received in a date range (inclusive)
+     *
+     * @param granularity day, week (ISO, starting Monday) or month
+     * @throws IllegalArgumentException for an unknown granularity or an inverted or overlong range
+     */
+    public ContactStatsDTO getStats(LocalDate from, LocalDate to, String granularity) {
+        String unit = granularity == null ? "day" : granularity.trim().toLowerCase(Locale.ROOT);
+        if (!List.of("day", "week", "month").contains(unit)) {
+            throw new IllegalArgumentException("granularity must be day, week or month");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range is limited to " + MAX_RANGE_DAYS + " days");
+        }
+
+        try {
+            Map<LocalDate, long[]> buckets = new TreeMap<>();
+            long[] total = new long[5];
+            for (ContactStatsDaily row : contactStatsDailyRepository.findByDayBetweenOrderByDay(from, to)) {
+                long[] values = {nz(row.getReceived()), nz(row.getReadCount()), nz(row.getResponded()),
+                        nz(row.getReadSeconds()), nz(row.getResponseSeconds())};
+                add(buckets.computeIfAbsent(bucketStart(row.getDay(), unit), start -> new long[5]), values);
+                add(total, values);
+            }
+
+            List<ContactStatsBucketDTO> result = new ArrayList<>(buckets.size());
+            buckets.forEach((start, values) -> result.add(toBucket(start, values)));
+            return new ContactStatsDTO(from, to, unit, toBucket(from, total), result);
+        } catch (Exception e) {
+            log.error("Error fetching contact statistics {}..{}: {}", from, to, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch contact statistics", e);
+        }
+    }
+
+    private static LocalDate bucketStart(LocalDate day, String unit) {
+        return switch (unit) {
+            case "week" -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case "month" -> day.withDayOfMonth(1);
+            default -> day;
+        };
+    }
+
+    private static ContactStatsBucketDTO toBucket(LocalDate start, long[] v) {
+        return new ContactStatsBucketDTO(start, v[0], v[1], v[2],
+                ratio(v[1], v[0]), ratio(v[2], v[0]),
+                ratio(v[3], v[1] * 3600), ratio(v[4], v[2] * 3600));
+    }
+
+    private static Double ratio(long numerator, long denominator) {
+        return denominator == 0 ? null : Math.round(10_000.0 * numerator / denominator) / 10_000.0;
+    }
+
+    private static void add(long[] target, long[] values) {
+        for (int i = 0; i < values.length; i++) {
+            target[i] += values[i];
+        }
+    }
+
+    private static long secondsBetween(LocalDateTime from, LocalDateTime to) {
+        return Math.max(0, Duration.between(from, to).getSeconds());
+    }
+
+    private static long nz(Long value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,132 @@
+package com.portfolio.service;
+
+import com.portfolio.dto.ContactMessageDTO;
+import com.portfolio.dto.EducationDTO;
+import com.portfolio.dto.ExperienceDTO;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.SkillDTO;
+import com.portfolio.dto.UserDTO;
+import com.portfolio.entity.ContactMessage;
+import com.portfolio.entity.Education;
+import com.portfolio.entity.Experience;
+import com.portfolio.entity.Project;
+import com.portfolio.entity.Skill;
+import com.portfolio.entity.User;
+import com.portfolio.mapper.EntityDTOMapper;
+import com.portfolio.repository.ContactMessageRepository;
+import com.portfolio.repository.ContactMessageSpecifications;
+import com.portfolio.repository.EducationRepository;
+import com.portfolio.repository.ExperienceRepository;
+import com.portfolio.repository.Keyset;
+import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.SkillRepository;
+import com.portfolio.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Data access for the GraphQL endpoint
+ * The *ByUser methods back the batch loaders: each runs a single IN query for every user
+ * in the current request and groups the rows by owner.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PortfolioGraphService {
+
+    private final UserRepository userRepository;
+    private final ExperienceRepository experienceRepository;
+    private final ProjectRepository projectRepository;
+    private final SkillRepository skillRepository;
+    private final EducationRepository educationRepository;
+    private final ContactMessageRepository contactMessageRepository;
+    private final EntityDTOMapper entityDTOMapper;
+    private final ContactArchiveService contactArchiveService;
+
+    public Optional<UserDTO> getActiveUser() {
+        return userRepository.findActiveUser().map(entityDTOMapper::toUserDTO);
+    }
+
+    public Optional<UserDTO> getUser(Long userId) {
+        return userRepository.findById(userId).map(entityDTOMapper::toUserDTO);
+    }
+
+    public Optional<ProjectDTO> getProject(Long projectId) {
+        return projectRepository.findById(projectId).map(entityDTOMapper::toProjectDTO);
+    }
+
+    /**
+     * One page of the inbox, newest first, starting after a given message
+     *
+     * @param first Page size, capped like the REST listing
+     * @param after Id of the last message of the previous page, or null for the first page
+     * @throws IllegalArgumentException if the after message does not exist
+     */
+    public List<ContactMessageDTO> getContactMessages(boolean unreadOnly, int first, Long after) {
+        int size = Math.max(1, Math.min(first, PortfolioService.MAX_CONTACT_PAGE_SIZE));
+        Keyset.Cursor cursor = after == null ? null : ContactArchiveService.cursorAfter(
+                contactMessageRepository.findById(after).map(entityDTOMapper::toContactMessageDTO)
+                        .or(() -> contactArchiveService.findArchived(after))
+                        .orElseThrow(() -> new IllegalArgumentException("No contact message with ID " + after)));
+
+        Specification<ContactMessage> where = Specification.allOf(
+                // Unread messages are never archived
+                unreadOnly ? ContactMessageSpecifications.unread() : ContactMessageSpecifications.inInbox(),
+                Keyset.seek(ContactMessageSpecifications.NEWEST_FIRST, "messageId", cursor));
+        List<ContactMessageDTO> hot = contactMessageRepository.findBy(where, q -> q.limit(size + 1).all()).stream()
+                .map(entityDTOMapper::toContactMessageDTO)
+                .collect(Collectors.toList());
+        if (unreadOnly) {
+            return hot.size() > size ? hot.subList(0, size) : hot;
+        }
+        return contactArchiveService.withArchived(hot, cursor, size, false).getItems();
+    }
+
+    public Map<Long, List<ExperienceDTO>> getExperiencesByUser(Collection<Long> userIds) {
+        log.debug("Batch loading experiences for {} users", userIds.size());
+        return groupByOwner(experienceRepository.findByUserIds(userIds),
+                Experience::getUser, entityDTOMapper::toExperienceDTO);
+    }
+
+    public Map<Long, List<ProjectDTO>> getProjectsByUser(Collection<Long> userIds) {
+        log.debug("Batch loading projects for {} users", userIds.size());
+        return groupByOwner(projectRepository.findByUserIds(userIds),
+                Project::getUser, entityDTOMapper::toProjectDTO);
+    }
+
+    public Map<Long, List<SkillDTO>> getSkillsByUser(Collection<Long> userIds) {
+        log.debug("Batch loading skills for {} users", userIds.size());
+        return groupByOwner(skillRepository.findByUserIds(userIds),
+                Skill::getUser, entityDTOMapper::toSkillDTO);
+    }
+
+    public Map<Long, List<EducationDTO>> getEducationsByUser(Collection<Long> userIds) {
+        log.debug("Batch loading education for {} users", userIds.size());
+        return groupByOwner(educationRepository.findByUserIds(userIds),
+                Education::getUser, entityDTOMapper::toEducationDTO);
+    }
+
+    /**
+     * Group rows by owner id, keeping the query's order within each owner
+     */
+    private static <E, D> Map<Long, List<D>> groupByOwner(List<E> rows, Function<E, User> owner, Function<E, D> mapper) {
+        return rows.stream().collect(Collectors.groupingBy(
+                row -> owner.apply(row).getUserId(),
+                LinkedHashMap::new,
+                Collectors.mapping(mapper, Collectors.toList())));
+    }
+}
@@ -0,0 +1,187 @@
+package com.portfolio.service;
+
+import com.portfolio.dto.CursorPageDTO;
+import com.portfolio.dto.ExperienceDTO;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.entity.Experience;
+import com.portfolio.entity.Project;
+import com.portfolio.mapper.EntityDTOMapper;
+import com.portfolio.repository.ExperienceRepository;
+import com.portfolio.repository.ExperienceSpecifications;
+import com.portfolio.repository.Keyset;
+import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.ProjectSpecifications;
+import com.portfolio.repository.ProjectionRepository;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Filtered, sorted and keyset-paginated queries over projects and experiences
+ * Filters are composed from typed specifications and executed in the database with
+ * LIMIT size + 1; the extra row only tells whether another page exists. When fields are
+ * requested only those columns (plus the sort key and id the cursor needs) are selected.
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PortfolioQueryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private final ProjectRepository projectRepository;
+    private final ExperienceRepository experienceRepository;
+    private final ProjectionRepository projectionRepository;
+    private final EntityDTOMapper entityDTOMapper;
+
+    /**
+     * Project filters; null means "don't filter"
+     */
+    public record ProjectQuery(Boolean hasGithub, Boolean hasLiveDemo, String technology,
+                               LocalDate from, LocalDate to, String sort, String cursor, Integer size) {
+    }
+
+    /**
+     * Experience filters; null means "don't filter"
+     */
+    public record ExperienceQuery(Boolean current, String technology,
+                                  LocalDate from, LocalDate to, String sort, String cursor, Integer size) {
+    }
+
+    /**
+     * Query a user's projects
+     *
+     * @param fields ProjectDTO properties to read; empty for whole rows
+     * @throws IllegalArgumentException for an unknown sort or an invalid cursor
+     */
+    public CursorPageDTO<ProjectDTO> queryProjects(Long userId, ProjectQuery query, Set<String> fields) {
+        log.info("Querying projects for user {}: {}", userId, query);
+
+        Keyset.Order<Project> order = Keyset.order(query.sort(), ProjectSpecifications.SORT_KEYS,
+                ProjectSpecifications.DEFAULT_SORT);
+
+        List<Specification<Project>> filters = new ArrayList<>();
+        filters.add(ProjectSpecifications.ownedBy(userId));
+        if (query.hasGithub() != null) {
+            filters.add(ProjectSpecifications.hasGithub(query.hasGithub()));
+        }
+        if (query.hasLiveDemo() != null) {
+            filters.add(ProjectSpecifications.hasLiveDemo(query.hasLiveDemo()));
+        }
+        if (query.technology() != null && !query.technology().isBlank()) {
+            filters.add(ProjectSpecifications.usesTechnology(query.technology()));
+        }
+        if (query.from() != null || query.to() != null) {
+            filters.add(ProjectSpecifications.activeBetween(query.from(), query.to()));
+        }
+        filters.add(Keyset.seek(order, "projectId", cursorOf(query.cursor())));
+
+        int size = pageSize(query.size());
+        Specification<Project> where = Specification.allOf(filters);
+        try {
+            if (fields.isEmpty()) {
+                List<Project> rows = projectRepository.findBy(where, q -> q.limit(size + 1).all());
+                return page(rows, size, order, Project::getProjectId, order.key().getter(),
+                        entityDTOMapper::toProjectDTO);
+            }
+            List<Tuple> rows = projectionRepository.select(Project.class, columns(fields, order, "projectId"),
+                    where, null, size + 1);
+            return page(rows, size, order, row -> row.get("projectId", Long.class),
+                    row -> row.get(order.key().attribute()), entityDTOMapper::toProjectDTO);
+        } catch (Exception e) {
+            log.error("Error querying projects for user {}: {}", userId, e.getMessage(), e);
+            throw new RuntimeException("Failed to query projects", e);
+        }
+    }
+
+    /**
+     * Query a user's experience
+     *
+     * @param fields ExperienceDTO properties to read; empty for whole rows
+     * @throws IllegalArgumentException for an unknown sort or an invalid cursor
+     */
+    public CursorPageDTO<ExperienceDTO> queryExperience(Long userId, ExperienceQuery query, Set<String> fields) {
+        log.info("Querying experience for user {}: {}", userId, query);
+
+        Keyset.Order<Experience> order = Keyset.order(query.sort(), ExperienceSpecifications.SORT_KEYS,
+                ExperienceSpecifications.DEFAULT_SORT);
+
+        List<Specification<Experience>> filters = new ArrayList<>();
+        filters.add(ExperienceSpecifications.ownedBy(userId));
+        if (query.current() != null) {
+            filters.add(ExperienceSpecifications.current(query.current()));
+        }
+        if (query.technology() != null && !query.technology().isBlank()) {
+            filters.add(ExperienceSpecifications.usesTechnology(query.technology()));
+        }
+        if (query.from() != null || query.to() != null) {
+            filters.add(ExperienceSpecifications.activeBetween(query.from(), query.to()));
+        }
+        filters.add(Keyset.seek(order, "experienceId", cursorOf(query.cursor())));
+
+        int size = pageSize(query.size());
+        Specification<Experience> where = Specification.allOf(filters);
+        try {
+            if (fields.isEmpty()) {
+                List<Experience> rows = experienceRepository.findBy(where, q -> q.limit(size + 1).all());
+                return page(rows, size, order, Experience::getExperienceId, order.key().getter(),
+                        entityDTOMapper::toExperienceDTO);
+            }
+            List<Tuple> rows = projectionRepository.select(Experience.class,
+                    columns(fields, order, "experienceId"), where, null, size + 1);
+            return page(rows, size, order, row -> row.get("experienceId", Long.class),
+                    row -> row.get(order.key().attribute()), entityDTOMapper::toExperienceDTO);
+        } catch (Exception e) {
+            log.error("Error querying experience for user {}: {}", userId, e.getMessage(), e);
+            throw new RuntimeException("Failed to query experience", e);
+        }
+    }
+
+    /**
+     * Requested columns plus the sort key and id the next cursor is built from; the seek
+     * specification supplies the ORDER BY
+     */
+    private static Set<String> columns(Set<String> fields, Keyset.Order<?> order, String idAttribute) {
+        Set<String> columns = new LinkedHashSet<>(fields);
+        columns.add(order.key().attribute());
+        columns.add(idAttribute);
+        return columns;
+    }
+
+    private static <R, D> CursorPageDTO<D> page(List<R> rows, int size, Keyset.Order<?> order,
+                                                ToLongFunction<R> id, Function<R, ?> sortValue,
+                                                Function<R, D> mapper) {
+        boolean more = rows.size() > size;
+        List<R> pageRows = more ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (more) {
+            R last = pageRows.get(pageRows.size() - 1);
+            nextCursor = Keyset.cursorAfterValue(order, sortValue.apply(last), id.applyAsLong(last));
+        }
+        return new CursorPageDTO<>(pageRows.stream().map(mapper).toList(), nextCursor, pageRows.size(), order.token());
+    }
+
+    private static Keyset.Cursor cursorOf(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : Keyset.Cursor.decode(cursor);
+    }
+
+    private static int pageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,157 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.portfolio.cache.DatabaseCircuitBreaker;
+import com.portfolio.cache.ReadResult;
+import com.portfolio.cache.ReadThroughCache;
+import com.portfolio.cache.SnapshotStore;
+import com.portfolio.cache.StaleResponseAdvice;
+import com.portfolio.dto.EducationDTO;
+import com.portfolio.dto.ExperienceDTO;
+import com.portfolio.dto.PortfolioSummaryDTO;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.SkillDTO;
+import com.portfolio.dto.SparseFields;
+import com.portfolio.dto.UserDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Resilient read facade for public portfolio data
+ * Serves reads from the read-through cache (single-flight, stale-while-revalidate);
+ * misses go through the database circuit breaker and fall back to the
+ * last-known-good snapshot (flagged stale) when the database is unavailable
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PortfolioReadService {
+
+    private final PortfolioService portfolioService;
+    private final UserService userService;
+    private final DatabaseCircuitBreaker circuitBreaker;
+    private final SnapshotStore snapshotStore;
+    private final ReadThroughCache readThroughCache;
+
+    public Optional<PortfolioSummaryDTO> getPortfolioSummary() {
+        return Optional.ofNullable(read("summary", new TypeReference<PortfolioSummaryDTO>() {},
+                () -> portfolioService.getPortfolioSummary().orElse(null)));
+    }
+
+    public Optional<UserDTO> getActiveUser() {
+        return getActiveUser(Set.of());
+    }
+
+    public Optional<UserDTO> getActiveUser(Set<String> fields) {
+        return Optional.ofNullable(read("user:active" + SparseFields.cacheKey(fields),
+                new TypeReference<UserDTO>() {}, () -> userService.getActiveUser(fields).orElse(null)));
+    }
+
+    public List<ExperienceDTO> getUserExperience(Long userId) {
+        return getUserExperience(userId, Set.of());
+    }
+
+    public List<ExperienceDTO> getUserExperience(Long userId, Set<String> fields) {
+        return read("experience:" + userId + SparseFields.cacheKey(fields), new TypeReference<List<ExperienceDTO>>() {},
+                () -> portfolioService.getUserExperience(userId, fields));
+    }
+
+    public List<ExperienceDTO> getCurrentExperiences(Long userId) {
+        return getCurrentExperiences(userId, Set.of());
+    }
+
+    public List<ExperienceDTO> getCurrentExperiences(Long userId, Set<String> fields) {
+        return read("experience-current:" + userId + SparseFields.cacheKey(fields), new TypeReference<List<ExperienceDTO>>() {},
+                () -> portfolioService.getCurrentExperiences(userId, fields));
+    }
+
+    public List<ProjectDTO> getUserProjects(Long userId) {
+        return getUserProjects(userId, Set.of());
+    }
+
+    public List<ProjectDTO> getUserProjects(Long userId, Set<String> fields) {
+        return read("projects:" + userId + SparseFields.cacheKey(fields), new TypeReference<List<ProjectDTO>>() {},
+                () -> portfolioService.getUserProjects(userId, fields));
+    }
+
+    public List<SkillDTO> getUserSkills(Long userId) {
+        return getUserSkills(userId, Set.of());
+    }
+
+    public List<SkillDTO> getUserSkills(Long userId, Set<String> fields) {
+        return read("skills:" + userId + SparseFields.cacheKey(fields), new TypeReference<List<SkillDTO>>() {},
+                () -> portfolioService.getUserSkills(userId, fields));
+    }
+
+    public List<SkillDTO> getFeaturedSkills(Long userId) {
+        return getFeaturedSkills(userId, Set.of());
+    }
+
+    public List<SkillDTO> getFeaturedSkills(Long userId, Set<String> fields) {
+        return read("skills-featured:" + userId + SparseFields.cacheKey(fields), new TypeReference<List<SkillDTO>>() {},
+                () -> portfolioService.getFeaturedSkills(userId, fields));
+    }
+
+    public List<String> getSkillCategories(Long userId) {
+        return read("skill-categories:" + userId, new TypeReference<List<String>>() {},
+                () -> portfolioService.getSkillCategories(userId));
+    }
+
+    public List<EducationDTO> getUserEducation(Long userId) {
+        return getUserEducation(userId, Set.of());
+    }
+
+    public List<EducationDTO> getUserEducation(Long userId, Set<String> fields) {
+        return read("education:" + userId + SparseFields.cacheKey(fields), new TypeReference<List<EducationDTO>>() {},
+                () -> portfolioService.getUserEducation(userId, fields));
+    }
+
+    private <T> T read(String key, TypeReference<T> type, Supplier<T> loader) {
+        ReadResult<T> result = readThroughCache.get(key, () -> load(key, type, loader));
+
+        if (result.stale()) {
+            StaleResponseAdvice.markStale(result.asOf());
+        }
+        return result.value();
+    }
+
+    private <T> ReadResult<T> load(String key, TypeReference<T> type, Supplier<T> loader) {
+        if (!circuitBreaker.allowRequest()) {
+            return fallback(key, type, new IllegalStateException("Database circuit is open"));
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            T value = loader.get();
+            circuitBreaker.recordSuccess(System.currentTimeMillis() - start);
+            snapshotStore.save(key, value);
+            return ReadResult.fresh(value);
+        } catch (RuntimeException e) {
+            if (!DatabaseCircuitBreaker.isDatabaseFailure(e)) {
+                throw e;
+            }
+            circuitBreaker.recordFailure();
+            return fallback(key, type, e);
+        }
+    }
+
+    private <T> ReadResult<T> fallback(String key, TypeReference<T> type, RuntimeException cause) {
+        Optional<SnapshotStore.Snapshot<T>> snapshot = snapshotStore.load(key, type);
+
+        if (snapshot.isEmpty()) {
+            log.error("No last-known-good snapshot for {}, failing read", key);
+            throw cause;
+        }
+
+        log.warn("Serving last-known-good snapshot for {} from {}", key, snapshot.get().savedAt());
+        return ReadResult.stale(snapshot.get().value(), snapshot.get().savedAt());
+    }
+}
@@ -1,6 +1,10 @@
 package com.portfolio.service;
 
+import com.portfolio.asset.AssetManifest;
+import com.portfolio.dto.ContactBulkRequestDTO;
+import com.portfolio.dto.ContactBulkResultDTO;
 import com.portfolio.dto.ContactMessageDTO;
+import com.portfolio.dto.CursorPageDTO;
 import com.portfolio.dto.EducationDTO;
 import com.portfolio.dto.ExperienceDTO;
 import com.portfolio.dto.PortfolioSummaryDTO;
@@ -13,21 +17,33 @@ import com.portfolio.entity.Experience;
 import com.portfolio.entity.Project;
 import com.portfolio.entity.Skill;
 import com.portfolio.entity.User;
+import com.portfolio.event.UnreadMessageCounter;
+import com.portfolio.inbox.MessageClassification;
 import com.portfolio.mapper.EntityDTOMapper;
+import com.portfolio.repository.ContactMessageBulkRepository;
 import com.portfolio.repository.ContactMessageRepository;
+import com.portfolio.repository.ContactMessageSpecifications;
 import com.portfolio.repository.EducationRepository;
 import com.portfolio.repository.ExperienceRepository;
+import com.portfolio.repository.ExperienceSpecifications;
+import com.portfolio.repository.Keyset;
 import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.ProjectionRepository;
 import com.portfolio.repository.SkillRepository;
 import com.portfolio.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -42,13 +58,22 @@ import java.util.stream.Collectors;
 @Transactional
 public class PortfolioService {
 
+    public static final int CONTACT_PAGE_SIZE = 50;
+    public static final int MAX_CONTACT_PAGE_SIZE = 200;
+
     private final UserRepository userRepository;
     private final ExperienceRepository experienceRepository;
     private final ProjectRepository projectRepository;
     private final SkillRepository skillRepository;
     private final EducationRepository educationRepository;
     private final ContactMessageRepository contactMessageRepository;
+    private final ProjectionRepository projectionRepository;
     private final EntityDTOMapper entityDTOMapper;
+    private final AssetManifest assetManifest;
+    private final UnreadMessageCounter unreadMessageCounter;
+    private final ContactArchiveService contactArchiveService;
+    private final ContactMessageBulkRepository contactMessageBulkRepository;
+    private final ContactStatsService contactStatsService;
 
     /**
      * Get user experiences
@@ -73,6 +98,32 @@ public class PortfolioService {
         }
     }
 
+    /**
+     * Get user experiences, reading only the requested columns
+     *
+     * @param userId User ID
+     * @param fields ExperienceDTO properties to fill; empty for all
+     * @return List of partially filled ExperienceDTO
+     */
+    @Transactional(readOnly = true)
+    public List<ExperienceDTO> getUserExperience(Long userId, Set<String> fields) {
+        if (fields.isEmpty()) {
+            return getUserExperience(userId);
+        }
+        log.info("Fetching experiences for user {} with fields {}", userId, fields);
+
+        try {
+            return projectionRepository.select(Experience.class, fields,
+                            ProjectionRepository.ownedBy(userId), Sort.by(Sort.Direction.DESC, "startDate"))
+                    .stream()
+                    .map(entityDTOMapper::toExperienceDTO)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("Error fetching experiences for user {}: {}", userId, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch experiences", e);
+        }
+    }
+
     /**
      * Get current user experiences
      *
@@ -96,6 +147,34 @@ public class PortfolioService {
         }
     }
 
+    /**
+     * Get current user experiences, reading only the requested columns
+     *
+     * @param userId User ID
+     * @param fields ExperienceDTO properties to fill; empty for all
+     * @return List of partially filled ExperienceDTO
+     */
+    @Transactional(readOnly = true)
+    public List<ExperienceDTO> getCurrentExperiences(Long userId, Set<String> fields) {
+        if (fields.isEmpty()) {
+            return getCurrentExperiences(userId);
+        }
+        log.info("Fetching current experiences for user {} with fields {}", userId, fields);
+
+        try {
+            return projectionRepository.select(Experience.class, fields,
+                            ProjectionRepository.<Experience>ownedBy(userId)
+                                    .and(ExperienceSpecifications.current(true)),
+                            Sort.unsorted())
+                    .stream()
+                    .map(entityDTOMapper::toExperienceDTO)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("Error fetching current experiences for user {}: {}", userId, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch current experiences", e);
+        }
+    }
+
     /**
      * Get user projects
      *
@@ -119,6 +198,32 @@ public class PortfolioService {
         }
     }
 
+    /**
+     * Get user projects, reading only the requested columns
+     *
+     * @param userId User ID
+     * @param fields ProjectDTO properties to fill; empty for all
+     * @return List of partially filled ProjectDTO
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectDTO> getUserProjects(Long userId, Set<String> fields) {
+        if (fields.isEmpty()) {
+            return getUserProjects(userId);
+        }
+        log.info("Fetching projects for user {} with fields {}", userId, fields);
+
+        try {
+            return projectionRepository.select(Project.class, fields,
+                            ProjectionRepository.ownedBy(userId), Sort.by(Sort.Direction.DESC, "startDate"))
+                    .stream()
+                    .map(entityDTOMapper::toProjectDTO)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("Error fetching projects for user {}: {}", userId, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch projects", e);
+        }
+    }
+
     /**
      * Get user skills
      *
@@ -142,6 +247,32 @@ public class PortfolioService {
         }
     }
 
+    /**
+     * Get user skills, reading only the requested columns
+     *
+     * @param userId User ID
+     * @param fields SkillDTO properties to fill; empty for all
+     * @return List of partially filled SkillDTO
+     */
+    @Transactional(readOnly = true)
+    public List<SkillDTO> getUserSkills(Long userId, Set<String> fields) {
+        if (fields.isEmpty()) {
+            return getUserSkills(userId);
+        }
+        log.info("Fetching skills for user {} with fields {}", userId, fields);
+
+        try {
+            return projectionRepository.select(Skill.class, fields,
+                            ProjectionRepository.ownedBy(userId), Sort.by("skillCategory", "skillName"))
+                    .stream()
+                    .map(entityDTOMapper::toSkillDTO)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("Error fetching skills for user {}: {}", userId, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch skills", e);
+        }
+    }
+
     /**
      * Get featured skills
      *
@@ -165,6 +296,34 @@ public class PortfolioService {
         }
     }
 
+    /**
+     * Get featured skills, reading only the requested columns
+     *
+     * @param userId User ID
+     * @param fields SkillDTO properties to fill; empty for all
+     * @return List of partially filled SkillDTO
+     */
+    @Transactional(readOnly = true)
+    public List<SkillDTO> getFeaturedSkills(Long userId, Set<String> fields) {
+        if (fields.isEmpty()) {
+            return getFeaturedSkills(userId);
+        }
+        log.info("Fetching featured skills for user {} with fields {}", userId, fields);
+
+        try {
+            return projectionRepository.select(Skill.class, fields,
+                            ProjectionRepository.<Skill>ownedBy(userId)
+                                    .and((root, query, cb) -> cb.isTrue(root.get("isFeatured"))),
+                            Sort.unsorted())
+                    .stream()
+                    .map(entityDTOMapper::toSkillDTO)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("Error fetching featured skills for user {}: {}", userId, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch featured skills", e);
+        }
+    }
+
     /**
      * Get skill categories
      *
@@ -208,6 +367,32 @@ public class PortfolioService {
         }
     }
 
+    /**
+     * Get user education, reading only the requested columns
+     *
+     * @param userId User ID
+     * @param fields EducationDTO properties to fill; empty for all
+     * @return List of partially filled EducationDTO
+     */
+    @Transactional(readOnly = true)
+    public List<EducationDTO> getUserEducation(Long userId, Set<String> fields) {
+        if (fields.isEmpty()) {
+            return getUserEducation(userId);
+        }
+        log.info("Fetching education for user {} with fields {}", userId, fields);
+
+        try {
+            return projectionRepository.select(Education.class, fields,
+                            ProjectionRepository.ownedBy(userId), Sort.by(Sort.Direction.DESC, "startDate"))
+                    .stream()
+                    .map(entityDTOMapper::toEducationDTO)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("Error fetching education for user {}: {}", userId, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch education", e);
+        }
+    }
+
     /**
      * Submit contact message
      *
@@ -221,6 +406,8 @@ public class PortfolioService {
             ContactMessage contactMessage = entityDTOMapper.toContactMessage(contactMessageDTO);
             contactMessage.setSentDate(LocalDateTime.now());
             contactMessage.setIsRead(false);
+            // Filed as inbox, spam or duplicate after the commit (see ContactClassificationService)
+            contactMessage.setClassification(MessageClassification.PENDING);
 
             ContactMessage savedMessage = contactMessageRepository.save(contactMessage);
             log.info("Contact message saved successfully with ID: {}", savedMessage.getMessageId());
@@ -232,6 +419,135 @@ public class PortfolioService {
         }
     }
 
+    /**
+     * Mark a contact message as read; the first read time is kept
+     *
+     * @param messageId Message ID
+     * @return Updated ContactMessageDTO, or empty if the message does not exist
+     */
+    public Optional<ContactMessageDTO> markContactMessageRead(Long messageId) {
+        log.info("Marking contact message {} as read", messageId);
+
+        try {
+            Optional<ContactMessageDTO> updated = contactMessageRepository.findById(messageId).map(message -> {
+                message.setIsRead(true);
+                if (message.getReadDate() == null) {
+                    message.setReadDate(LocalDateTime.now());
+                }
+                return entityDTOMapper.toContactMessageDTO(contactMessageRepository.save(message));
+            });
+            // Only read messages are archived, so an archived one needs no change
+            return updated.isPresent() ? updated : contactArchiveService.findArchived(messageId);
+        } catch (Exception e) {
+            log.error("Error marking contact message {} as read: {}", messageId, e.getMessage(), e);
+            throw new RuntimeException("Failed to mark contact message as read", e);
+        }
+    }
+
+    /**
+     * Record the response to a contact message; answering also marks it read
+     *
+     * @param messageId Message ID
+     * @param response  Response text
+     * @return Updated ContactMessageDTO, or empty if the message does not exist
+     * @throws IllegalArgumentException if the response is blank
+     */
+    public Optional<ContactMessageDTO> respondToContactMessage(Long messageId, String response) {
+        if (response == null || response.isBlank()) {
+            throw new IllegalArgumentException("Response must not be blank");
+        }
+        log.info("Recording response to contact message {}", messageId);
+
+        try {
+            return contactMessageRepository.findById(messageId)
+                    .or(() -> contactArchiveService.restore(messageId).flatMap(contactMessageRepository::findById))
+                    .map(message -> {
+                        LocalDateTime now = LocalDateTime.now();
+                        message.setResponse(response.trim());
+                        message.setIsRead(true);
+                        if (message.getReadDate() == null) {
+                            message.setReadDate(now);
+                        }
+                        if (message.getRespondedDate() == null) {
+                            message.setRespondedDate(now);
+                        }
+                        return entityDTOMapper.toContactMessageDTO(contactMessageRepository.save(message));
+                    });
+        } catch (Exception e) {
+            log.error("Error responding to contact message {}: {}", messageId, e.getMessage(), e);
+            throw new RuntimeException("Failed to respond to contact message", e);
+        }
+    }
+
+    /**
+     * Mark every matching contact message read in one set-based UPDATE
+     * The unread counter and the read statistics are adjusted from the same locked rows,
+     * so they stay exact however many messages change
+     *
+     * @param request Ids, sent-date range and/or classification; at least one is required
+     * @return Number of messages changed and how many of them were unread
+     * @throws IllegalArgumentException if no criterion is given
+     */
+    public ContactBulkResultDTO markContactMessagesRead(ContactBulkRequestDTO request) {
+        ContactMessageBulkRepository.Criteria criteria = bulkCriteria(request);
+        log.info("Bulk marking contact messages read ({} ids): {}", request.idCount(), request);
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            ContactMessageBulkRepository.Result result = contactMessageBulkRepository.markRead(criteria, now);
+
+            result.newReads().forEach(day ->
+                    contactStatsService.record(day.day(), 0, day.count(), day.readSeconds(), 0, 0));
+            unreadMessageCounter.adjust(-result.unread());
+
+            log.info("Bulk mark-read changed {} contact messages ({} unread)", result.changed(), result.unread());
+            return new ContactBulkResultDTO(result.changed(), result.unread(), 0,
+                    Math.max(0, unreadMessageCounter.get() - result.unread()));
+        } catch (Exception e) {
+            log.error("Error bulk marking contact messages read: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to mark contact messages as read", e);
+        }
+    }
+
+    /**
+     * Delete every matching contact message, hot and archived, in one set-based DELETE
+     *
+     * @param request Ids, sent-date range and/or classification; at least one is required
+     * @return Number of messages deleted and how many of them were unread
+     * @throws IllegalArgumentException if no criterion is given
+     */
+    public ContactBulkResultDTO deleteContactMessages(ContactBulkRequestDTO request) {
+        ContactMessageBulkRepository.Criteria criteria = bulkCriteria(request);
+        log.info("Bulk deleting contact messages ({} ids): {}", request.idCount(), request);
+
+        try {
+            // Archive first: the row locks taken by the delete are then held only for the statements
+            long archived = contactArchiveService.deleteMatching(criteria);
+            ContactMessageBulkRepository.Result result = contactMessageBulkRepository.delete(criteria);
+            unreadMessageCounter.adjust(-result.unread());
+
+            log.info("Bulk delete removed {} contact messages ({} unread) and {} archived",
+                    result.changed(), result.unread(), archived);
+            return new ContactBulkResultDTO(result.changed(), result.unread(), archived,
+                    Math.max(0, unreadMessageCounter.get() - result.unread()));
+        } catch (Exception e) {
+            log.error("Error bulk deleting contact messages: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to delete contact messages", e);
+        }
+    }
+
+    private static ContactMessageBulkRepository.Criteria bulkCriteria(ContactBulkRequestDTO request) {
+        if (request == null || !request.hasCriteria()) {
+            throw new IllegalArgumentException("Give ids, sentFrom, sentBefore or classification");
+        }
+        if (request.getSentFrom() != null && request.getSentBefore() != null
+                && !request.getSentFrom().isBefore(request.getSentBefore())) {
+            throw new IllegalArgumentException("'sentFrom' must be before 'sentBefore'");
+        }
+        return new ContactMessageBulkRepository.Criteria(request.getIds(), request.getSentFrom(),
+                request.getSentBefore(), request.getClassification());
+    }
+
     /**
      * Get portfolio summary
      *
@@ -257,7 +573,7 @@ public class PortfolioService {
                         user.getFullName(),
                         user.getEmail(),
                         user.getBio(),
-                        user.getProfileImage(),
+                        assetManifest.fingerprintUrl(user.getProfileImage()),
                         experienceCount,
                         projectCount,
                         skillCount,
@@ -279,21 +595,51 @@ public class PortfolioService {
     }
 
     /**
-     * Get all contact messages (Admin function)
+     * Get one page of contact messages, hot and archived, newest first (Admin function)
+     * Keyset-paginated on (sentDate, id): the hot table is read with LIMIT size + 1 and only the
+     * archive blocks that can hold the page are decompressed.
      *
-     * @return List of ContactMessageDTO
+     * @param fields          ContactMessageDTO properties to fill; empty for all
+     * @param includeFiltered Also return messages filed as spam or near-duplicates
+     * @param cursor          nextCursor of the previous page, or null for the first page
+     * @param size            Page size; defaults to 50, at most 200
+     * @return Page of (partially filled) ContactMessageDTO
+     * @throws IllegalArgumentException for an invalid cursor
      */
     @Transactional(readOnly = true)
-    public List<ContactMessageDTO> getAllContactMessages() {
-        log.info("Fetching all contact messages");
+    public CursorPageDTO<ContactMessageDTO> getContactMessages(Set<String> fields, boolean includeFiltered,
+                                                               String cursor, Integer size) {
+        log.info("Fetching contact messages (fields: {}, including filtered: {})", fields, includeFiltered);
+
+        Keyset.Cursor after = cursor == null || cursor.isBlank() ? null : Keyset.Cursor.decode(cursor);
+        int pageSize = size == null ? CONTACT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_CONTACT_PAGE_SIZE));
+        List<Specification<ContactMessage>> filters = new ArrayList<>();
+        if (!includeFiltered) {
+            filters.add(ContactMessageSpecifications.inInbox());
+        }
+        filters.add(Keyset.seek(ContactMessageSpecifications.NEWEST_FIRST, "messageId", after));
+        Specification<ContactMessage> where = Specification.allOf(filters);
 
         try {
-            List<ContactMessage> messages = contactMessageRepository.findAllByOrderBySentDateDesc();
-            log.debug("Found {} contact messages", messages.size());
+            List<ContactMessageDTO> hot;
+            if (fields.isEmpty()) {
+                hot = contactMessageRepository.findBy(where, q -> q.limit(pageSize + 1).all()).stream()
+                        .map(entityDTOMapper::toContactMessageDTO)
+                        .collect(Collectors.toList());
+            } else {
+                // The merge and the cursor need the keys; the response writes only the selected fields
+                Set<String> columns = new LinkedHashSet<>(fields);
+                columns.add("messageId");
+                columns.add("sentDate");
+                hot = projectionRepository.select(ContactMessage.class, columns, where, null, pageSize + 1).stream()
+                        .map(entityDTOMapper::toContactMessageDTO)
+                        .collect(Collectors.toList());
+            }
+            log.debug("Found {} hot contact messages for the page", hot.size());
 
-            return messages.stream()
-                    .map(entityDTOMapper::toContactMessageDTO)
-                    .collect(Collectors.toList());
+            return contactArchiveService.withArchived(hot, after, pageSize, includeFiltered);
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching contact messages: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch contact messages", e);
@@ -302,21 +648,14 @@ public class PortfolioService {
 
     /**
      * Get unread contact messages count
+     * Maintained in memory from contact message changes; no query runs
      *
      * @return Number of unread messages
      */
-    @Transactional(readOnly = true)
     public long getUnreadMessagesCount() {
-        log.debug("Fetching unread messages count");
-
-        try {
-            long count = contactMessageRepository.countByIsReadFalse();
-            log.debug("Found {} unread messages", count);
-            return count;
-        } catch (Exception e) {
-            log.error("Error fetching unread messages count: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to fetch unread messages count", e);
-        }
+        long count = unreadMessageCounter.get();
+        log.debug("Found {} unread messages", count);
+        return count;
     }
 
     /**
@@ -0,0 +1,165 @@
+package com.portfolio.service;
+
+import com.portfolio.dto.ExperienceDTO;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.RelatedProjectDTO;
+import com.portfolio.dto.SearchHitDTO;
+import com.portfolio.dto.SuggestionDTO;
+import com.portfolio.dto.TechSearchResultDTO;
+import com.portfolio.dto.TextSearchResultDTO;
+import com.portfolio.dto.UserDTO;
+import com.portfolio.search.FullTextIndex;
+import com.portfolio.search.RelatedProjects;
+import com.portfolio.search.SkillAutocomplete;
+import com.portfolio.search.TechnologyIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Portfolio search service
+ * Resolves matching ids from the in-memory indexes and hydrates them from the
+ * cached read path, so a warm search issues no SQL
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private final TechnologyIndex technologyIndex;
+    private final FullTextIndex fullTextIndex;
+    private final SkillAutocomplete skillAutocomplete;
+    private final RelatedProjects relatedProjects;
+    private final PortfolioReadService portfolioReadService;
+
+    /**
+     * Find projects and experiences by technology tags
+     *
+     * @param technologies Technology names
+     * @param matchAll     Require every technology (AND) instead of any (OR)
+     * @param userId       Portfolio owner; the active user when null
+     * @return Matching projects and experiences in their usual display order
+     */
+    public TechSearchResultDTO searchByTechnology(List<String> technologies, boolean matchAll, Long userId) {
+        log.info("Searching by technologies {} (match {})", technologies, matchAll ? "all" : "any");
+
+        try {
+            Optional<Long> owner = userId != null
+                    ? Optional.of(userId)
+                    : portfolioReadService.getActiveUser().map(UserDTO::getUserId);
+
+            List<String> normalized = technologies.stream()
+                    .map(TechnologyIndex::normalize)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+
+            if (owner.isEmpty() || normalized.isEmpty()) {
+                return new TechSearchResultDTO(normalized, matchAll ? "all" : "any", List.of(), List.of());
+            }
+
+            long[] projectIds = technologyIndex.search(TechnologyIndex.DocType.PROJECT, normalized, matchAll, owner.get());
+            long[] experienceIds = technologyIndex.search(TechnologyIndex.DocType.EXPERIENCE, normalized, matchAll, owner.get());
+
+            List<ProjectDTO> projects = projectIds.length == 0 ? List.of()
+                    : select(portfolioReadService.getUserProjects(owner.get()), ProjectDTO::getProjectId, projectIds);
+            List<ExperienceDTO> experiences = experienceIds.length == 0 ? List.of()
+                    : select(portfolioReadService.getUserExperience(owner.get()), ExperienceDTO::getExperienceId, experienceIds);
+
+            log.debug("Technology search matched {} projects, {} experiences", projects.size(), experiences.size());
+            return new TechSearchResultDTO(normalized, matchAll ? "all" : "any", projects, experiences);
+        } catch (Exception e) {
+            log.error("Error searching by technologies {}: {}", technologies, e.getMessage(), e);
+            throw new RuntimeException("Failed to search by technology", e);
+        }
+    }
+
+    /**
+     * Full-text search over project, experience and education text (BM25 ranked)
+     *
+     * @param query  Free-text query
+     * @param types  Document kinds to search
+     * @param userId Portfolio owner; the active user when null
+     * @param limit  Maximum number of hits
+     * @return Ranked hits with highlighted snippets
+     */
+    public TextSearchResultDTO searchText(String query, Set<FullTextIndex.DocType> types, Long userId, int limit) {
+        log.info("Full-text search for '{}' in {}", query, types);
+
+        try {
+            long start = System.nanoTime();
+            Optional<Long> owner = userId != null
+                    ? Optional.of(userId)
+                    : portfolioReadService.getActiveUser().map(UserDTO::getUserId);
+
+            FullTextIndex.Result result = owner.isEmpty() ? FullTextIndex.Result.EMPTY
+                    : fullTextIndex.search(query, owner.get(), types, limit);
+            List<SearchHitDTO> hits = result.hits().stream()
+                    .map(hit -> new SearchHitDTO(hit.type().name().toLowerCase(), hit.id(), hit.title(),
+                            hit.subtitle(), hit.score(), hit.snippet()))
+                    .toList();
+
+            // Timing is logged only: the response body is cached and would replay a stale figure
+            log.debug("Full-text search for '{}' matched {} documents in {} us", query, result.total(),
+                    (System.nanoTime() - start) / 1_000L);
+            return new TextSearchResultDTO(query, result.total(), hits);
+        } catch (Exception e) {
+            log.error("Error in full-text search for '{}': {}", query, e.getMessage(), e);
+            throw new RuntimeException("Failed to search", e);
+        }
+    }
+
+    /**
+     * Prefix suggestions over skills, skill categories and project technologies
+     *
+     * @param userId User ID
+     * @param prefix Typed text
+     * @param limit  Maximum number of suggestions
+     * @return Suggestions ranked by featured flag and years of experience
+     */
+    public List<SuggestionDTO> autocomplete(Long userId, String prefix, int limit) {
+        log.debug("Autocomplete for user {} with prefix '{}'", userId, prefix);
+
+        return skillAutocomplete.complete(userId, prefix, limit).stream()
+                .map(suggestion -> new SuggestionDTO(suggestion.text(), suggestion.kind()))
+                .toList();
+    }
+
+    /**
+     * Projects of the same owner with the most similar technology sets
+     *
+     * @param projectId Project ID
+     * @param limit     Maximum number of recommendations
+     * @return Precomputed recommendations, most similar first
+     */
+    public List<RelatedProjectDTO> getRelatedProjects(Long projectId, int limit) {
+        log.debug("Related projects requested for project {}", projectId);
+        return relatedProjects.relatedTo(projectId, limit);
+    }
+
+    /**
+     * Technology tags with the number of projects and experiences using each
+     */
+    public Map<String, Integer> getTechnologyTags() {
+        return technologyIndex.tagCounts();
+    }
+
+    /**
+     * Keep the items whose id is in the sorted id array, preserving list order
+     */
+    static <T> List<T> select(List<T> items, Function<T, Long> idOf, long[] sortedIds) {
+        return items.stream()
+                .filter(item -> idOf.apply(item) != null && Arrays.binarySearch(sortedIds, idOf.apply(item)) >= 0)
+                .toList();
+    }
+}
@@ -0,0 +1,116 @@
+package com.portfolio.service;
+
+import com.portfolio.asset.AssetManifest;
+import com.portfolio.asset.ImageVariantService;
+import com.portfolio.asset.UploadStorage;
+import com.portfolio.cache.ContentVersion;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.UserDTO;
+import com.portfolio.entity.Project;
+import com.portfolio.entity.User;
+import com.portfolio.mapper.EntityDTOMapper;
+import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Service class for attaching stored uploads to portfolio entities
+ * Called once the file is durable on disk; the entity URL is switched in a single transaction
+ *
+ * @author Debojit Chakraborty
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UploadService {
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final EntityDTOMapper entityDTOMapper;
+    private final ContentVersion contentVersion;
+    private final AssetManifest assetManifest;
+    private final ImageVariantService imageVariantService;
+
+    /**
+     * Point User.resumeUrl or User.profileImage at a stored upload
+     *
+     * @param userId User ID
+     * @param kind   RESUME or PROFILE_IMAGE
+     * @param upload Stored file
+     * @return Updated UserDTO, or empty if the user does not exist
+     */
+    public Optional<UserDTO> attachToUser(Long userId, UploadStorage.Kind kind, UploadStorage.StoredUpload upload) {
+        log.info("Attaching {} upload {} to user {}", kind, upload.logicalPath(), userId);
+
+        try {
+            Optional<User> existingUser = userRepository.findById(userId);
+
+            if (existingUser.isEmpty()) {
+                log.warn("User not found for upload with ID: {}", userId);
+                return Optional.empty();
+            }
+
+            AssetManifest.Asset asset = assetManifest.register(upload.file(), upload.logicalPath());
+
+            User user = existingUser.get();
+            if (kind == UploadStorage.Kind.RESUME) {
+                user.setResumeUrl(upload.url());
+            } else {
+                user.setProfileImage(upload.url());
+                imageVariantService.enqueue(asset);
+            }
+            user.setUpdatedAt(LocalDateTime.now());
+
+            User updatedUser = userRepository.save(user);
+            contentVersion.bump("user " + kind.name().toLowerCase() + " uploaded");
+
+            return Optional.of(entityDTOMapper.toUserDTO(updatedUser));
+        } catch (Exception e) {
+            log.error("Error attaching upload to user {}: {}", userId, e.getMessage(), e);
+            throw new RuntimeException("Failed to attach upload", e);
+        }
+    }
+
+    /**
+     * Point Project.imageUrl at a stored upload
+     *
+     * @param userId    Owner of the project
+     * @param projectId Project ID
+     * @param upload    Stored image
+     * @return Updated ProjectDTO, or empty if the project does not exist for this user
+     */
+    public Optional<ProjectDTO> attachToProject(Long userId, Long projectId, UploadStorage.StoredUpload upload) {
+        log.info("Attaching image upload {} to project {}", upload.logicalPath(), projectId);
+
+        try {
+            Optional<Project> existingProject = projectRepository.findById(projectId)
+                    .filter(project -> project.getUser() != null && userId.equals(project.getUser().getUserId()));
+
+            if (existingProject.isEmpty()) {
+                log.warn("Project {} not found for user {}", projectId, userId);
+                return Optional.empty();
+            }
+
+            AssetManifest.Asset asset = assetManifest.register(upload.file(), upload.logicalPath());
+
+            Project project = existingProject.get();
+            project.setImageUrl(upload.url());
+
+            Project updatedProject = projectRepository.save(project);
+            contentVersion.bump("project image uploaded");
+            imageVariantService.enqueue(asset);
+
+            return Optional.of(entityDTOMapper.toProjectDTO(updatedProject));
+        } catch (Exception e) {
+            log.error("Error attaching upload to project {}: {}", projectId, e.getMessage(), e);
+            throw new RuntimeException("Failed to attach upload", e);
+        }
+    }
+}
@@ -1,16 +1,20 @@
 package com.portfolio.service;
 
+import com.portfolio.cache.ContentVersion;
 import com.portfolio.dto.UserDTO;
 import com.portfolio.entity.User;
 import com.portfolio.mapper.EntityDTOMapper;
+import com.portfolio.repository.ProjectionRepository;
 import com.portfolio.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service class for User operations
@@ -26,6 +30,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final EntityDTOMapper entityDTOMapper;
+    private final ContentVersion contentVersion;
+    private final ProjectionRepository projectionRepository;
 
     /**
      * Get active user profile
@@ -53,6 +59,31 @@ public class UserService {
         }
     }
 
+    /**
+     * Get active user profile, reading only the requested columns
+     *
+     * @param fields UserDTO properties to fill; empty for all
+     * @return Optional partially filled UserDTO
+     */
+    @Transactional(readOnly = true)
+    public Optional<UserDTO> getActiveUser(Set<String> fields) {
+        if (fields.isEmpty()) {
+            return getActiveUser();
+        }
+        log.info("Fetching active user profile with fields {}", fields);
+
+        try {
+            return projectionRepository.select(User.class, fields,
+                            (root, query, cb) -> cb.isTrue(root.get("isActive")), Sort.unsorted())
+                    .stream()
+                    .findFirst()
+                    .map(entityDTOMapper::toUserDTO);
+        } catch (Exception e) {
+            log.error("Error fetching active user: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch active user", e);
+        }
+    }
+
     /**
      * Get user by ID
      *
@@ -154,6 +185,7 @@ public class UserService {
             user.setUpdatedAt(LocalDateTime.now());
 
             User savedUser = userRepository.save(user);
+            contentVersion.bump("user created");
             log.info("User created successfully: {} (ID: {})", savedUser.getEmail(), savedUser.getUserId());
 
             return entityDTOMapper.toUserDTO(savedUser);
@@ -188,6 +220,7 @@ public class UserService {
                 user.setUpdatedAt(LocalDateTime.now());
 
                 User updatedUser = userRepository.save(user);
+                contentVersion.bump("user updated");
                 log.info("User updated successfully: {}", updatedUser.getEmail());
 
                 return Optional.of(entityDTOMapper.toUserDTO(updatedUser));
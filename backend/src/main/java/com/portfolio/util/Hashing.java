@@ -0,0 +1,32 @@
+package com.portfolio.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fast non-cryptographic hashing shared by the probabilistic structures
+ * (HyperLogLog visitor sketches, SimHash fingerprints)
+ *
+ * @author Debojit Chakraborty
+ */
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 mixer so every bit is usable
+     */
+    public static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -89,6 +89,13 @@ CREATE TABLE contact_messages (
                                   sent_date DATETIME(6),
                                   is_read BOOLEAN DEFAULT FALSE,
                                   response TEXT,
+                                  read_date DATETIME(6),
+                                  responded_date DATETIME(6),
+                                  classification VARCHAR(16),
+                                  fingerprint BIGINT,
+                                  spam_score DOUBLE,
+                                  duplicate_of BIGINT,
+                                  duplicate_count INT,
                                   PRIMARY KEY (message_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
@@ -107,3 +114,64 @@ CREATE INDEX idx_education_user_id ON education(user_id);
 CREATE INDEX idx_education_start_date ON education(start_date);
 CREATE INDEX idx_contact_messages_read ON contact_messages(is_read);
 CREATE INDEX idx_contact_messages_sent_date ON contact_messages(sent_date);
+CREATE INDEX idx_contact_messages_classification ON contact_messages(classification);
+
+-- Contact message statistics per day received (maintained by ContactStatsService)
+CREATE TABLE contact_message_stats_daily (
+                                             day DATE NOT NULL,
+                                             received BIGINT NOT NULL DEFAULT 0,
+                                             read_count BIGINT NOT NULL DEFAULT 0,
+                                             responded BIGINT NOT NULL DEFAULT 0,
+                                             read_seconds BIGINT NOT NULL DEFAULT 0,
+                                             response_seconds BIGINT NOT NULL DEFAULT 0,
+                                             PRIMARY KEY (day)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Analytics rollups (written in batches by AnalyticsService)
+CREATE TABLE analytics_daily_counts (
+                                        day DATE NOT NULL,
+                                        event_type VARCHAR(32) NOT NULL,
+                                        target VARCHAR(64) NOT NULL,
+                                        views BIGINT,
+                                        PRIMARY KEY (day, event_type, target)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE analytics_daily_visitors (
+                                          day DATE NOT NULL,
+                                          registers BLOB,
+                                          visitors BIGINT,
+                                          PRIMARY KEY (day)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Completed responses replayed for repeated Idempotency-Key requests (only with portfolio.idempotency.persist)
+CREATE TABLE idempotency_keys (
+                                  key_hash CHAR(64) NOT NULL,
+                                  request_hash CHAR(64) NOT NULL,
+                                  status INT NOT NULL,
+                                  content_type VARCHAR(128),
+                                  body MEDIUMBLOB,
+                                  expires_at DATETIME(6) NOT NULL,
+                                  PRIMARY KEY (key_hash)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
+
+-- Transactional outbox for contact notifications (written with the message, sent by OutboxDispatcher)
+CREATE TABLE notification_outbox (
+                                     outbox_id BIGINT NOT NULL AUTO_INCREMENT,
+                                     type VARCHAR(32) NOT NULL,
+                                     message_id BIGINT,
+                                     recipient VARCHAR(255) NOT NULL,
+                                     subject VARCHAR(255) NOT NULL,
+                                     body TEXT,
+                                     status VARCHAR(16) NOT NULL,
+                                     attempts INT,
+                                     next_attempt_at DATETIME(6),
+                                     created_at DATETIME(6),
+                                     sent_at DATETIME(6),
+                                     last_error VARCHAR(500),
+                                     PRIMARY KEY (outbox_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_notification_outbox_due ON notification_outbox(status, next_attempt_at);
+CREATE INDEX idx_notification_outbox_created ON notification_outbox(status, created_at);
@@ -0,0 +1,85 @@
+package com.portfolio.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the HyperLogLog unique-visitor sketch
+ *
+ * @author Debojit Chakraborty
+ */
+class HyperLogLogTest {
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertEquals(0, new HyperLogLog(14).estimate());
+    }
+
+    @Test
+    void smallCardinalitiesAreNearlyExact() {
+        HyperLogLog sketch = new HyperLogLog(14);
+        for (int i = 0; i < 100; i++) {
+            sketch.add("visitor-" + i);
+        }
+        assertEquals(100, sketch.estimate(), 2);
+    }
+
+    @Test
+    void largeCardinalityIsWithinThreeStandardErrors() {
+        HyperLogLog sketch = new HyperLogLog(14);
+        int distinct = 200_000;
+        for (int i = 0; i < distinct; i++) {
+            sketch.add("10.0." + (i >> 8) + "." + (i & 255) + "|agent-" + i);
+        }
+        // Standard error at p=14 is about 0.81%
+        assertEquals(distinct, sketch.estimate(), distinct * 0.025);
+    }
+
+    @Test
+    void repeatedValuesDoNotChangeTheSketch() {
+        HyperLogLog sketch = new HyperLogLog(10);
+        assertTrue(sketch.add("same visitor"));
+        assertFalse(sketch.add("same visitor"));
+        assertEquals(1, sketch.estimate());
+    }
+
+    @Test
+    void mergeEstimatesTheUnion() {
+        HyperLogLog monday = new HyperLogLog(14);
+        HyperLogLog tuesday = new HyperLogLog(14);
+        for (int i = 0; i < 30_000; i++) {
+            monday.add("visitor-" + i);
+            tuesday.add("visitor-" + (i + 20_000));
+        }
+
+        monday.merge(tuesday.toBytes());
+
+        assertEquals(50_000, monday.estimate(), 50_000 * 0.025);
+    }
+
+    @Test
+    void registersRoundTrip() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        for (int i = 0; i < 5_000; i++) {
+            sketch.add("visitor-" + i);
+        }
+
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        assertArrayEquals(sketch.toBytes(), restored.toBytes());
+        assertEquals(sketch.estimate(), restored.estimate());
+    }
+
+    @Test
+    void rejectsInvalidPrecisionAndMismatchedMerge() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(19));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(14).merge(new byte[1 << 12]));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[100]));
+    }
+}
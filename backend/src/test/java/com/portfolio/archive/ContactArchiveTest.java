@@ -0,0 +1,206 @@
+package com.portfolio.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.portfolio.dto.ContactMessageDTO;
+import com.portfolio.inbox.MessageClassification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the append-only contact message archive: durability across reopen,
+ * recovery from a torn write, tombstones and index-driven lookups
+ *
+ * @author Debojit Chakraborty
+ */
+class ContactArchiveTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @TempDir
+    Path directory;
+
+    private ContactArchive archive;
+
+    @AfterEach
+    void close() throws IOException {
+        if (archive != null) {
+            archive.close();
+        }
+    }
+
+    @Test
+    void appendedMessagesAreFoundByIdAndRange() throws IOException {
+        archive = open();
+        archive.append(List.of(message(1, 0), message(2, 1), message(3, 2)), List.of());
+
+        assertEquals("subject 2", archive.find(2).orElseThrow().getSubject());
+        assertTrue(archive.find(99).isEmpty());
+        assertEquals(List.of(2L), ids(archive.findSentBetween(BASE.plusDays(1), BASE.plusDays(1))));
+        assertEquals(1, archive.blockCount());
+        assertEquals(3, archive.storedMessages());
+    }
+
+    @Test
+    void reopenedArchiveReadsEveryBlock() throws IOException {
+        archive = open();
+        archive.append(List.of(message(1, 0), message(2, 1)), List.of());
+        archive.append(List.of(message(3, 2)), List.of(1L));
+        archive.close();
+
+        archive = open();
+
+        assertEquals(2, archive.blockCount());
+        assertTrue(archive.find(1).isEmpty(), "tombstone must survive a restart");
+        assertEquals("subject 3", archive.find(3).orElseThrow().getSubject());
+        assertEquals(List.of(3L, 2L), ids(archive.findPage(null, 0, 10, null)));
+    }
+
+    @Test
+    void tornWriteIsDiscardedAndOverwritten() throws IOException {
+        archive = open();
+        archive.append(List.of(message(1, 0)), List.of());
+        archive.close();
+
+        // A crash mid-append: payload bytes without an index record, then half an index record
+        Path segment = directory.resolve("contact-00000.seg");
+        Path index = directory.resolve("contact-00000.idx");
+        long indexedSegmentSize = Files.size(segment);
+        long indexSize = Files.size(index);
+        Files.write(segment, new byte[4096], StandardOpenOption.APPEND);
+        Files.write(index, new byte[17], StandardOpenOption.APPEND);
+
+        archive = open();
+        assertEquals(1, archive.blockCount());
+        assertEquals(indexSize, Files.size(index), "partial index record must be truncated");
+
+        archive.append(List.of(message(2, 1)), List.of());
+        archive.close();
+        assertTrue(Files.size(segment) < indexedSegmentSize + 4096, "the unindexed tail must be overwritten");
+
+        archive = open();
+        assertEquals(2, archive.blockCount());
+        assertEquals("subject 1", archive.find(1).orElseThrow().getSubject());
+        assertEquals("subject 2", archive.find(2).orElseThrow().getSubject());
+    }
+
+    @Test
+    void tombstoneHidesEarlierCopiesButNotLaterOnes() throws IOException {
+        archive = open();
+        archive.append(List.of(message(1, 0), message(2, 1)), List.of());
+        archive.append(List.of(), List.of(1L));
+
+        assertTrue(archive.find(1).isEmpty());
+        assertEquals(List.of(2L), ids(archive.findPage(null, 0, 10, null)));
+        assertEquals(List.of(), archive.findIds(List.of(1L), null, null, null));
+
+        // Archived again after the delete: the new copy is live
+        ContactMessageDTO again = message(1, 0);
+        again.setSubject("re-archived");
+        archive.append(List.of(again), List.of());
+
+        assertEquals("re-archived", archive.find(1).orElseThrow().getSubject());
+        assertEquals(List.of(2L, 1L), ids(archive.findPage(null, 0, 10, null)));
+    }
+
+    @Test
+    void laterCopyWinsOverEarlierOne() throws IOException {
+        archive = open();
+        archive.append(List.of(message(1, 0)), List.of());
+        ContactMessageDTO updated = message(1, 0);
+        updated.setSubject("updated");
+        archive.append(List.of(updated), List.of());
+
+        assertEquals("updated", archive.find(1).orElseThrow().getSubject());
+        List<ContactMessageDTO> page = archive.findPage(null, 0, 10, null);
+        assertEquals(1, page.size());
+        assertEquals("updated", page.get(0).getSubject());
+    }
+
+    @Test
+    void pagesAreNewestFirstAndContinueAfterTheCursor() throws IOException {
+        archive = open();
+        List<ContactMessageDTO> batch = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            batch.add(message(i, i));
+            if (batch.size() == 3) {
+                archive.append(batch, List.of());
+                batch.clear();
+            }
+        }
+        archive.append(batch, List.of());
+
+        List<ContactMessageDTO> first = archive.findPage(null, 0, 4, null);
+        assertEquals(List.of(10L, 9L, 8L, 7L), ids(first));
+
+        ContactMessageDTO last = first.get(first.size() - 1);
+        assertEquals(List.of(6L, 5L, 4L, 3L), ids(archive.findPage(last.getSentDate(), last.getMessageId(), 4, null)));
+    }
+
+    @Test
+    void filtersByClassification() throws IOException {
+        archive = open();
+        ContactMessageDTO spam = message(2, 1);
+        spam.setClassification(MessageClassification.SPAM);
+        ContactMessageDTO unclassified = message(3, 2);
+        unclassified.setClassification(null);
+        archive.append(List.of(message(1, 0), spam, unclassified), List.of());
+
+        assertEquals(List.of(3L, 1L), ids(archive.findPage(null, 0, 10,
+                Set.of(MessageClassification.INBOX, MessageClassification.PENDING))));
+        assertEquals(List.of(2L), archive.findIds(null, null, null, MessageClassification.SPAM));
+    }
+
+    @Test
+    void findIdsTreatsSentBeforeAsExclusive() throws IOException {
+        archive = open();
+        archive.append(List.of(message(1, 0), message(2, 1), message(3, 2)), List.of());
+
+        List<Long> matched = archive.findIds(null, BASE, BASE.plusDays(2), null);
+
+        assertEquals(Set.of(1L, 2L), Set.copyOf(matched));
+    }
+
+    private ContactArchive open() throws IOException {
+        return new ContactArchive(directory, 1 << 20, 4, objectMapper());
+    }
+
+    private static ObjectMapper objectMapper() {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        // ContactMessageDTO carries the sparse-fieldset filter (see JacksonConfig)
+        mapper.setFilterProvider(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+        return mapper;
+    }
+
+    private static ContactMessageDTO message(long id, int dayOffset) {
+        ContactMessageDTO message = new ContactMessageDTO();
+        message.setMessageId(id);
+        message.setName("Sender " + id);
+        message.setEmail("sender" + id + "@example.com");
+        message.setSubject("subject " + id);
+        message.setMessage("message body " + id);
+        message.setSentDate(BASE.plusDays(dayOffset));
+        message.setIsRead(true);
+        message.setClassification(MessageClassification.INBOX);
+        return message;
+    }
+
+    private static List<Long> ids(List<ContactMessageDTO> messages) {
+        return messages.stream().map(ContactMessageDTO::getMessageId).toList();
+    }
+}
@@ -0,0 +1,93 @@
+package com.portfolio.inbox;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for NearDuplicateIndex lookups and eviction
+ *
+ * @author Debojit Chakraborty
+ */
+class NearDuplicateIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+    private static final long FINGERPRINT = 0x0123_4567_89AB_CDEFL;
+
+    @Test
+    void findsFingerprintWithinDistanceAndReturnsItsRepresentative() {
+        NearDuplicateIndex index = new NearDuplicateIndex(100, 3);
+        index.add(1L, FINGERPRINT, 1L, NOW);
+        index.add(2L, FINGERPRINT ^ 0b1, 1L, NOW);
+
+        // Three bits off, spread over different bands
+        long near = FINGERPRINT ^ (1L << 3) ^ (1L << 20) ^ (1L << 40);
+        assertEquals(OptionalLong.of(1L), index.findNear(near, 3));
+    }
+
+    @Test
+    void ignoresFingerprintBeyondDistance() {
+        NearDuplicateIndex index = new NearDuplicateIndex(100, 4);
+        index.add(1L, FINGERPRINT, 1L, NOW);
+
+        long far = FINGERPRINT ^ 0b1111L;
+        assertTrue(index.findNear(far, 3).isEmpty());
+        assertEquals(OptionalLong.of(1L), index.findNear(far, 4));
+    }
+
+    @Test
+    void exactMatchOnlyWhenDistanceIsZero() {
+        NearDuplicateIndex index = new NearDuplicateIndex(100, 3);
+        index.add(1L, FINGERPRINT, 1L, NOW);
+
+        assertEquals(OptionalLong.of(1L), index.findNear(FINGERPRINT, 0));
+        assertTrue(index.findNear(FINGERPRINT ^ 1L, 0).isEmpty());
+    }
+
+    @Test
+    void largerDistanceUsesMoreBands() {
+        NearDuplicateIndex index = new NearDuplicateIndex(100, 7);
+        index.add(1L, FINGERPRINT, 1L, NOW);
+
+        // Seven bits off, touching every 16-bit quarter, so four bands alone would miss it
+        long near = FINGERPRINT ^ (1L << 1) ^ (1L << 9) ^ (1L << 17) ^ (1L << 25) ^ (1L << 33) ^ (1L << 49) ^ (1L << 57);
+        assertEquals(OptionalLong.of(1L), index.findNear(near, 7));
+    }
+
+    @Test
+    void rejectsDistanceTheBandsCannotGuarantee() {
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateIndex(100, NearDuplicateIndex.MAX_DISTANCE + 1));
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateIndex(100, -1));
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateIndex(100, 3).findNear(FINGERPRINT, 4));
+    }
+
+    @Test
+    void evictsOldestBeyondCapacity() {
+        NearDuplicateIndex index = new NearDuplicateIndex(2, 3);
+        index.add(1L, FINGERPRINT, 1L, NOW);
+        index.add(2L, ~FINGERPRINT, 2L, NOW);
+        index.add(3L, 0x7777_0000_7777_0000L, 3L, NOW);
+
+        assertEquals(2, index.size());
+        assertTrue(index.findNear(FINGERPRINT, 0).isEmpty());
+        assertEquals(OptionalLong.of(2L), index.findNear(~FINGERPRINT, 0));
+    }
+
+    @Test
+    void evictsEntriesOlderThanCutoff() {
+        NearDuplicateIndex index = new NearDuplicateIndex(100, 3);
+        index.add(1L, FINGERPRINT, 1L, NOW.minusDays(40));
+        index.add(2L, ~FINGERPRINT, 2L, NOW);
+
+        index.evictBefore(NOW.minusDays(30));
+
+        assertEquals(1, index.size());
+        assertTrue(index.findNear(FINGERPRINT, 3).isEmpty());
+        assertEquals(OptionalLong.of(2L), index.findNear(~FINGERPRINT, 3));
+    }
+}
@@ -0,0 +1,51 @@
+package com.portfolio.inbox;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for SimHash tokenizing and fingerprint distance
+ *
+ * @author Debojit Chakraborty
+ */
+class SimHashTest {
+
+    private static final String MESSAGE = "Hi, I came across your portfolio and would like to discuss a backend "
+            + "role on our platform team. We build event driven services in Java and Kafka. Are you available "
+            + "for a short call next week to talk about the position and your recent projects?";
+
+    @Test
+    void tokensAreLowercasedAccentFreeWords() {
+        assertEquals(List.of("cafe", "resume", "java", "21"), SimHash.tokens("Café -- RÉSUMÉ, Java 21!"));
+        assertTrue(SimHash.tokens(null).isEmpty());
+    }
+
+    @Test
+    void identicalTextHasIdenticalFingerprint() {
+        long first = SimHash.fingerprint(SimHash.tokens(MESSAGE));
+        long second = SimHash.fingerprint(SimHash.tokens(MESSAGE.toUpperCase()));
+        assertEquals(0, SimHash.distance(first, second));
+    }
+
+    @Test
+    void resentCopyStaysNearAndDifferentTextIsFar() {
+        long original = SimHash.fingerprint(SimHash.tokens(MESSAGE));
+        long withoutGreeting = SimHash.fingerprint(SimHash.tokens(MESSAGE.replace("Hi, ", "")));
+        long withSignOff = SimHash.fingerprint(SimHash.tokens(MESSAGE + " Thanks!"));
+        long unrelated = SimHash.fingerprint(SimHash.tokens("Limited offer: cheap watches and replica bags, "
+                + "click the link below to claim your free gift card before midnight tonight"));
+
+        assertTrue(SimHash.distance(original, withoutGreeting) <= 3, "copy without greeting should be within distance 3");
+        assertTrue(SimHash.distance(original, withSignOff) <= 3, "copy with sign-off should be within distance 3");
+        assertTrue(SimHash.distance(original, unrelated) > 10, "unrelated text should be far apart");
+    }
+
+    @Test
+    void emptyTextHasZeroFingerprint() {
+        assertEquals(0L, SimHash.fingerprint(List.of()));
+    }
+}
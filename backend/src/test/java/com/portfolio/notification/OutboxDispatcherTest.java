@@ -0,0 +1,382 @@
+package com.portfolio.notification;
+
+import com.portfolio.cache.DatabaseCircuitBreaker;
+import com.portfolio.config.ApplicationConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for OutboxDispatcher: claiming and leasing, token-bucket pacing, mapping of
+ * SMTP failures to retries, the retry limit and the retry backoff. The outbox table is an
+ * in-memory stand-in answering the dispatcher's statements.
+ *
+ * @author Debojit Chakraborty
+ */
+class OutboxDispatcherTest {
+
+    private ApplicationConfig.PortfolioProperties properties;
+    private OutboxTable outbox;
+    private RecordingMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ApplicationConfig.PortfolioProperties();
+        ApplicationConfig.Notifications settings = properties.getNotifications();
+        settings.setBatchSize(10);
+        settings.setMaxPerMinute(600);
+        settings.setMaxAttempts(3);
+        settings.setInitialBackoffSeconds(30);
+        settings.setMaxBackoffSeconds(3600);
+        settings.setLeaseSeconds(120);
+        outbox = new OutboxTable();
+        mailSender = new RecordingMailSender();
+    }
+
+    @Test
+    void deliversDueMessagesAndMarksThemSent() {
+        outbox.insert(1, "a@example.com", 0);
+        outbox.insert(2, "b@example.com", 0);
+
+        dispatcher().dispatch();
+
+        assertEquals(List.of("a@example.com", "b@example.com"), mailSender.recipients);
+        assertEquals("SENT", outbox.row(1).status);
+        assertEquals(1, outbox.row(1).attempts);
+        assertEquals("SENT", outbox.row(2).status);
+    }
+
+    @Test
+    void claimedRowsAreLeasedUntilTheLeaseExpires() {
+        outbox.insert(1, "a@example.com", 0);
+        OutboxDispatcher dispatcher = dispatcher();
+
+        // The dispatcher dies mid-send: nothing is marked, the row keeps its lease
+        mailSender.crash = true;
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+        OutboxTable.Row row = outbox.row(1);
+        assertEquals("PENDING", row.status);
+        assertTrue(!row.nextAttemptAt.isBefore(before.plusSeconds(119)), "row should be leased for lease-seconds");
+
+        // Still leased: another pass must not send it again
+        mailSender.crash = false;
+        dispatcher.dispatch();
+        assertTrue(mailSender.recipients.isEmpty());
+
+        // Lease expired: claimable again
+        row.nextAttemptAt = LocalDateTime.now().minusSeconds(1);
+        dispatcher.dispatch();
+        assertEquals(List.of("a@example.com"), mailSender.recipients);
+        assertEquals("SENT", row.status);
+    }
+
+    @Test
+    void tokenBucketCapsDeliveries() {
+        properties.getNotifications().setMaxPerMinute(3);
+        for (long id = 1; id <= 5; id++) {
+            outbox.insert(id, "user" + id + "@example.com", 0);
+        }
+        OutboxDispatcher dispatcher = dispatcher();
+
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        // Three permits to start with; a few milliseconds refill none at 3 per minute
+        assertEquals(3, mailSender.recipients.size());
+        assertEquals(3, outbox.count("SENT"));
+        assertEquals(2, outbox.count("PENDING"));
+        assertEquals(0, outbox.row(5).attempts);
+    }
+
+    @Test
+    void partialSendFailureRetriesOnlyTheFailedMessage() {
+        outbox.insert(1, "a@example.com", 0);
+        outbox.insert(2, "bounce@example.com", 0);
+        mailSender.rejected = "bounce@example.com";
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher().dispatch();
+
+        assertEquals("SENT", outbox.row(1).status);
+        OutboxTable.Row failed = outbox.row(2);
+        assertEquals("PENDING", failed.status);
+        assertEquals(1, failed.attempts);
+        assertTrue(failed.lastError.contains("Mailbox unavailable"), failed.lastError);
+        assertTrue(!failed.nextAttemptAt.isBefore(before.plusSeconds(30)), "retry should wait the initial backoff");
+    }
+
+    @Test
+    void lastAllowedAttemptMarksTheMessageFailed() {
+        outbox.insert(1, "a@example.com", 2);
+        mailSender.down = true;
+
+        dispatcher().dispatch();
+
+        OutboxTable.Row row = outbox.row(1);
+        assertEquals("FAILED", row.status);
+        assertEquals(3, row.attempts);
+        assertTrue(row.lastError.startsWith("MailSendException"), row.lastError);
+    }
+
+    @Test
+    void nothingDueSendsNothing() {
+        outbox.insert(1, "a@example.com", 0);
+        outbox.row(1).nextAttemptAt = LocalDateTime.now().plusMinutes(5);
+
+        dispatcher().dispatch();
+
+        assertTrue(mailSender.recipients.isEmpty());
+        assertNull(outbox.row(1).lastError);
+    }
+
+    @Test
+    void firstRetryWaitsTheInitialBackoffPlusJitter() {
+        OutboxDispatcher dispatcher = dispatcher();
+        for (int i = 0; i < 100; i++) {
+            assertWithin(dispatcher.backoff(1), 30);
+        }
+    }
+
+    @Test
+    void backoffDoublesPerAttempt() {
+        OutboxDispatcher dispatcher = dispatcher();
+        assertWithin(dispatcher.backoff(2), 60);
+        assertWithin(dispatcher.backoff(3), 120);
+        assertWithin(dispatcher.backoff(5), 480);
+    }
+
+    @Test
+    void backoffIsCappedAtTheMaximum() {
+        OutboxDispatcher dispatcher = dispatcher();
+        assertWithin(dispatcher.backoff(8), 3600);
+        // Large attempt counts must not overflow the shift
+        assertWithin(dispatcher.backoff(64), 3600);
+        assertWithin(dispatcher.backoff(Integer.MAX_VALUE), 3600);
+    }
+
+    /**
+     * Base delay plus at most 20% jitter
+     */
+    private static void assertWithin(Duration backoff, long baseSeconds) {
+        Duration base = Duration.ofSeconds(baseSeconds);
+        assertTrue(backoff.compareTo(base) >= 0, backoff + " is shorter than " + base);
+        assertTrue(backoff.compareTo(base.plusMillis(baseSeconds * 200)) <= 0, backoff + " exceeds 20% jitter");
+    }
+
+    private OutboxDispatcher dispatcher() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new OutboxDispatcher(properties, mailSender, outbox, new TransactionTemplate(new NoTransactionManager()),
+                new DatabaseCircuitBreaker(null, properties, meterRegistry), meterRegistry);
+    }
+
+    /**
+     * Mail sender that records recipients and fails on demand
+     */
+    private static final class RecordingMailSender extends JavaMailSenderImpl {
+
+        final List<String> recipients = new ArrayList<>();
+        // Whole batch fails as if the SMTP server were unreachable
+        boolean down;
+        // Process dies mid-send (not a mail error)
+        boolean crash;
+        // This recipient is refused, the rest of the batch goes out
+        String rejected;
+
+        @Override
+        public void send(SimpleMailMessage... messages) {
+            if (crash) {
+                throw new IllegalStateException("Dispatcher killed");
+            }
+            if (down) {
+                throw new MailSendException("Connection refused");
+            }
+            Map<Object, Exception> failures = new HashMap<>();
+            for (SimpleMailMessage message : messages) {
+                String recipient = message.getTo()[0];
+                if (recipient.equals(rejected)) {
+                    failures.put(message, new IllegalStateException("550 Mailbox unavailable"));
+                } else {
+                    recipients.add(recipient);
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new MailSendException(failures);
+            }
+        }
+    }
+
+    /**
+     * In-memory notification_outbox answering the dispatcher's statements
+     */
+    private static final class OutboxTable extends JdbcTemplate {
+
+        static final class Row {
+            long id;
+            String recipient;
+            String status = "PENDING";
+            int attempts;
+            LocalDateTime nextAttemptAt;
+            LocalDateTime createdAt;
+            String lastError;
+        }
+
+        private final Map<Long, Row> rows = new TreeMap<>();
+
+        void insert(long id, String recipient, int attempts) {
+            Row row = new Row();
+            row.id = id;
+            row.recipient = recipient;
+            row.attempts = attempts;
+            row.createdAt = LocalDateTime.now().minusMinutes(1);
+            row.nextAttemptAt = LocalDateTime.now().minusSeconds(1);
+            rows.put(id, row);
+        }
+
+        Row row(long id) {
+            return rows.get(id);
+        }
+
+        long count(String status) {
+            return rows.values().stream().filter(row -> row.status.equals(status)).count();
+        }
+
+        // CLAIM: due PENDING rows, oldest attempt first
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            LocalDateTime now = ((Timestamp) args[0]).toLocalDateTime();
+            int limit = (Integer) args[1];
+            List<T> claimed = new ArrayList<>();
+            List<Row> due = rows.values().stream()
+                    .filter(row -> row.status.equals("PENDING") && !row.nextAttemptAt.isAfter(now))
+                    .limit(limit)
+                    .toList();
+            try {
+                for (Row row : due) {
+                    claimed.add(rowMapper.mapRow(resultSet(Map.of(
+                            "outbox_id", row.id,
+                            "type", NotificationType.CONTACT_RESPONSE.name(),
+                            "recipient", row.recipient,
+                            "subject", "Re: your message",
+                            "body", "Thanks for getting in touch",
+                            "attempts", row.attempts,
+                            "created_at", Timestamp.valueOf(row.createdAt))), claimed.size()));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return claimed;
+        }
+
+        // BACKLOG: pending count and oldest creation time
+        @Override
+        public void query(String sql, RowCallbackHandler handler) {
+            List<Row> pending = rows.values().stream().filter(row -> row.status.equals("PENDING")).toList();
+            Timestamp oldest = pending.stream().map(row -> Timestamp.valueOf(row.createdAt)).min(Timestamp::compareTo).orElse(null);
+            Map<Object, Object> columns = new HashMap<>();
+            columns.put(1, (long) pending.size());
+            columns.put(2, oldest);
+            try {
+                handler.processRow(resultSet(columns));
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // LEASE
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            int[] counts = new int[batchArgs.size()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = update(sql, batchArgs.get(i));
+            }
+            return counts;
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            Row row = rows.get((Long) args[args.length - 1]);
+            if (row == null) {
+                return 0;
+            }
+            if (sql.contains("SET next_attempt_at = ?")) {
+                row.nextAttemptAt = ((Timestamp) args[0]).toLocalDateTime();
+            } else if (sql.contains("status = 'SENT'")) {
+                row.status = "SENT";
+                row.attempts = (Integer) args[0];
+                row.lastError = null;
+            } else if (sql.contains("SET status = ?, attempts = ?")) {
+                row.status = (String) args[0];
+                row.attempts = (Integer) args[1];
+                row.nextAttemptAt = ((Timestamp) args[2]).toLocalDateTime();
+                row.lastError = (String) args[3];
+            } else if (sql.contains("'SKIPPED'")) {
+                row.status = "SKIPPED";
+                row.lastError = (String) args[0];
+            } else {
+                throw new UnsupportedOperationException(sql + " " + Arrays.toString(args));
+            }
+            return 1;
+        }
+
+        /**
+         * Single-row result set reading columns by name or by 1-based index
+         */
+        private static ResultSet resultSet(Map<?, ?> columns) {
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (proxy, method, args) -> {
+                        Object value = columns.get(args[0]);
+                        return switch (method.getName()) {
+                            case "getLong" -> ((Number) value).longValue();
+                            case "getInt" -> ((Number) value).intValue();
+                            case "getString", "getTimestamp", "getObject" -> value;
+                            default -> throw new UnsupportedOperationException(method.getName());
+                        };
+                    });
+        }
+    }
+
+    private static final class NoTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
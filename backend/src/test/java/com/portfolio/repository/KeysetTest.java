@@ -0,0 +1,102 @@
+package com.portfolio.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for keyset cursors and sort resolution
+ *
+ * @author Debojit Chakraborty
+ */
+class KeysetTest {
+
+    private record Row(LocalDate startDate, String name) {
+    }
+
+    private static final Keyset.SortKey<Row> START_DATE =
+            new Keyset.SortKey<>("startDate", "startDate", Keyset.EARLIEST_DATE, Row::startDate);
+    private static final Keyset.SortKey<Row> NAME =
+            new Keyset.SortKey<>("name", "name", "", Row::name);
+    private static final List<Keyset.SortKey<Row>> SORTABLE = List.of(START_DATE, NAME);
+
+    @Test
+    void cursorRoundTrips() {
+        Keyset.Cursor cursor = new Keyset.Cursor("-startDate", 42L, "2023-06-01");
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("="), "token should be unpadded");
+        assertEquals(cursor, Keyset.Cursor.decode(token));
+    }
+
+    @Test
+    void cursorValueMayContainTheSeparator() {
+        Keyset.Cursor cursor = new Keyset.Cursor("name", 7L, "Spring | Kafka");
+        assertEquals(cursor, Keyset.Cursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Keyset.Cursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> Keyset.Cursor.decode(encode("name|7")));
+        assertThrows(IllegalArgumentException.class, () -> Keyset.Cursor.decode(encode("name|seven|x")));
+    }
+
+    @Test
+    void cursorAfterFormatsNullAsTheSentinel() {
+        Keyset.Order<Row> order = Keyset.order("-startDate", SORTABLE, "startDate");
+
+        Keyset.Cursor cursor = Keyset.Cursor.decode(Keyset.cursorAfter(order, new Row(null, "x"), 9L));
+
+        assertEquals(new Keyset.Cursor("-startDate", 9L, Keyset.EARLIEST_DATE.toString()), cursor);
+    }
+
+    @Test
+    void cursorAfterValueMatchesTheEntityCursor() {
+        Keyset.Order<Row> order = Keyset.order("-startDate", SORTABLE, "startDate");
+        LocalDate start = LocalDate.of(2023, 4, 1);
+
+        assertEquals(Keyset.cursorAfter(order, new Row(start, "x"), 9L), Keyset.cursorAfterValue(order, start, 9L));
+        assertEquals(Keyset.cursorAfter(order, new Row(null, "x"), 9L), Keyset.cursorAfterValue(order, null, 9L));
+    }
+
+    @Test
+    void orderResolvesDirectionAndDefault() {
+        Keyset.Order<Row> descending = Keyset.order("-startDate", SORTABLE, "name");
+        assertEquals(START_DATE, descending.key());
+        assertTrue(descending.descending());
+        assertEquals("-startDate", descending.token());
+
+        Keyset.Order<Row> ascending = Keyset.order("+name", SORTABLE, "startDate");
+        assertFalse(ascending.descending());
+        assertEquals("name", ascending.token());
+
+        assertEquals("startDate", Keyset.order(" ", SORTABLE, "startDate").token());
+    }
+
+    @Test
+    void orderRejectsUnlistedAttribute() {
+        assertThrows(IllegalArgumentException.class, () -> Keyset.order("password", SORTABLE, "name"));
+    }
+
+    @Test
+    void seekRejectsCursorIssuedForAnotherSort() {
+        Keyset.Order<Row> order = Keyset.order("name", SORTABLE, "name");
+        Keyset.Cursor foreign = new Keyset.Cursor("-startDate", 1L, "2023-06-01");
+
+        assertThrows(IllegalArgumentException.class, () -> Keyset.seek(order, "id", foreign));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}